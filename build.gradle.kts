@@ -4,7 +4,7 @@ plugins {
 }
 
 subprojects {
-    if (!name.startsWith("example-")) {
+    if (!name.startsWith("example-") && name != "cloud-benchmarks") {
         apply(plugin = "cloud.publishing-conventions")
     }
 }
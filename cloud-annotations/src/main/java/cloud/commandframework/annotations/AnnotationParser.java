@@ -433,9 +433,7 @@ public final class AnnotationParser<C> {
             commandMethodPairs.add(new CommandMethodPair(method, commandMethod));
         }
         final Collection<Command<C>> commands = this.construct(instance, commandMethodPairs);
-        for (final Command<C> command : commands) {
-            ((CommandManager) this.manager).command(command);
-        }
+        ((CommandManager) this.manager).commands(commands);
         return commands;
     }
 
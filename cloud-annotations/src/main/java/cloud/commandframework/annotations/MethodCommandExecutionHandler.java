@@ -31,13 +31,16 @@ import cloud.commandframework.exceptions.CommandExecutionException;
 import cloud.commandframework.execution.CommandExecutionHandler;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * A command execution handler that invokes a method.
@@ -52,6 +55,11 @@ public class MethodCommandExecutionHandler<C> implements CommandExecutionHandler
     private final MethodHandle methodHandle;
     private final AnnotationAccessor annotationAccessor;
     private final AnnotationParser<C> annotationParser;
+    /* Method handle that accepts all parameters as a single array, invoked using invokeExact */
+    private final MethodHandle invoker;
+    /* Binding plan, in the same order as the method parameters */
+    private final ParameterBinding<C>[] bindings;
+    private final Map<Parameter, ParameterBinding<C>> bindingsByParameter;
 
     /**
      * Constructs a new method command execution handler
@@ -59,6 +67,7 @@ public class MethodCommandExecutionHandler<C> implements CommandExecutionHandler
      * @param context The context
      * @since 1.6.0
      */
+    @SuppressWarnings("unchecked")
     public MethodCommandExecutionHandler(
             final @NonNull CommandMethodContext<C> context
     ) throws Exception {
@@ -67,6 +76,15 @@ public class MethodCommandExecutionHandler<C> implements CommandExecutionHandler
         this.parameters = context.method.getParameters();
         this.annotationAccessor = AnnotationAccessor.of(context.method);
         this.annotationParser = context.annotationParser();
+        this.invoker = this.methodHandle
+                .asSpreader(Object[].class, this.parameters.length)
+                .asType(MethodType.methodType(void.class, Object[].class));
+        this.bindings = new ParameterBinding[this.parameters.length];
+        this.bindingsByParameter = new HashMap<>();
+        for (int i = 0; i < this.parameters.length; i++) {
+            this.bindings[i] = this.createBinding(this.parameters[i]);
+            this.bindingsByParameter.put(this.parameters[i], this.bindings[i]);
+        }
     }
 
     /**
@@ -76,13 +94,8 @@ public class MethodCommandExecutionHandler<C> implements CommandExecutionHandler
     public void execute(final @NonNull CommandContext<C> commandContext) {
         /* Invoke the command method */
         try {
-            this.methodHandle.invokeWithArguments(
-                    this.createParameterValues(
-                            commandContext,
-                            commandContext.flags(),
-                            this.parameters
-                    )
-            );
+            final Object[] values = this.createParameterArray(commandContext, commandContext.flags(), this.bindings);
+            this.invoker.invokeExact(values);
         } catch (final Error e) {
             throw e;
         } catch (final Throwable throwable) {
@@ -104,58 +117,100 @@ public class MethodCommandExecutionHandler<C> implements CommandExecutionHandler
             final FlagContext flagContext,
             final Parameter[] parameters
     ) {
-        final List<Object> arguments = new ArrayList<>(parameters.length);
-        for (final Parameter parameter : parameters) {
-            if (parameter.isAnnotationPresent(Argument.class)) {
-                final Argument argument = parameter.getAnnotation(Argument.class);
+        final ParameterBinding<C>[] bindings;
+        if (parameters == this.parameters) {
+            bindings = this.bindings;
+        } else {
+            bindings = this.createBindings(parameters);
+        }
+        return Arrays.asList(this.createParameterArray(commandContext, flagContext, bindings));
+    }
 
-                final String argumentName;
-                if (argument.value().equals(AnnotationParser.INFERRED_ARGUMENT_NAME)) {
-                    argumentName = parameter.getName();
-                } else {
-                    argumentName = this.annotationParser.processString(argument.value());
-                }
+    private @Nullable Object @NonNull [] createParameterArray(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull FlagContext flagContext,
+            final @NonNull ParameterBinding<C> @NonNull [] bindings
+    ) {
+        final Object[] values = new Object[bindings.length];
+        for (int i = 0; i < bindings.length; i++) {
+            values[i] = bindings[i].resolve(commandContext, flagContext);
+        }
+        return values;
+    }
 
-                final CommandArgument<C, ?> commandArgument = this.context.commandArguments.get(argumentName);
-                if (commandArgument.isRequired()) {
-                    arguments.add(commandContext.get(argumentName));
-                } else {
-                    final Object optional = commandContext.getOptional(argumentName).orElse(null);
-                    arguments.add(optional);
-                }
-            } else if (parameter.isAnnotationPresent(Flag.class)) {
-                final Flag flag = parameter.getAnnotation(Flag.class);
-                final String flagName = this.annotationParser.processString(flag.value());
-                if (parameter.getType().equals(boolean.class)) {
-                    arguments.add(flagContext.isPresent(flagName));
-                } else if (flag.repeatable() && parameter.getType().isAssignableFrom(List.class)) {
-                    arguments.add(flagContext.getAll(flagName));
-                } else {
-                    arguments.add(flagContext.getValue(flagName, null));
-                }
+    @SuppressWarnings("unchecked")
+    private @NonNull ParameterBinding<C> @NonNull [] createBindings(final @NonNull Parameter @NonNull [] parameters) {
+        final ParameterBinding<C>[] bindings = new ParameterBinding[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            final ParameterBinding<C> binding = this.bindingsByParameter.get(parameters[i]);
+            bindings[i] = binding == null ? this.createBinding(parameters[i]) : binding;
+        }
+        return bindings;
+    }
+
+    /**
+     * Resolves everything that can be known about the parameter ahead of time, so that only the values have to be
+     * looked up when the command is executed
+     *
+     * @param parameter Parameter
+     * @return Binding that creates the value for the parameter
+     */
+    private @NonNull ParameterBinding<C> createBinding(final @NonNull Parameter parameter) {
+        final Argument argument = parameter.getAnnotation(Argument.class);
+        if (argument != null) {
+            final String argumentName;
+            if (argument.value().equals(AnnotationParser.INFERRED_ARGUMENT_NAME)) {
+                argumentName = parameter.getName();
             } else {
-                if (parameter.getType().isAssignableFrom(commandContext.getSender().getClass())) {
-                    arguments.add(commandContext.getSender());
-                } else {
-                    final Optional<?> value = this.context.injectorRegistry.getInjectable(
-                            parameter.getType(),
-                            commandContext,
-                            AnnotationAccessor.of(AnnotationAccessor.of(parameter), this.annotationAccessor)
-                    );
-                    if (value.isPresent()) {
-                        arguments.add(value.get());
-                    } else {
-                        throw new IllegalArgumentException(String.format(
-                                "Could not create value for parameter '%s' of type '%s' in method '%s'",
-                                parameter.getName(),
-                                parameter.getType().getTypeName(),
-                                this.methodHandle.toString()
-                        ));
-                    }
-                }
+                argumentName = this.annotationParser.processString(argument.value());
             }
+
+            final CommandArgument<C, ?> commandArgument = this.context.commandArguments.get(argumentName);
+            if (commandArgument == null) {
+                return (commandContext, flagContext) -> commandContext.getOptional(argumentName).orElse(null);
+            }
+            /* Reading through the argument lets the context go straight to the argument's value slot */
+            if (commandArgument.isRequired()) {
+                return (commandContext, flagContext) -> commandContext.get(commandArgument);
+            }
+            return (commandContext, flagContext) -> commandContext.getOptional(commandArgument).orElse(null);
         }
-        return arguments;
+
+        final Flag flag = parameter.getAnnotation(Flag.class);
+        if (flag != null) {
+            final String flagName = this.annotationParser.processString(flag.value());
+            if (parameter.getType().equals(boolean.class)) {
+                return (commandContext, flagContext) -> flagContext.isPresent(flagName);
+            } else if (flag.repeatable() && parameter.getType().isAssignableFrom(List.class)) {
+                return (commandContext, flagContext) -> flagContext.getAll(flagName);
+            }
+            return (commandContext, flagContext) -> flagContext.getValue(flagName, null);
+        }
+
+        final Class<?> type = parameter.getType();
+        final AnnotationAccessor annotationAccessor = AnnotationAccessor.of(
+                AnnotationAccessor.of(parameter),
+                this.annotationAccessor
+        );
+        return (commandContext, flagContext) -> {
+            if (type.isInstance(commandContext.getSender())) {
+                return commandContext.getSender();
+            }
+            final Optional<?> value = this.context.injectorRegistry.getInjectable(
+                    type,
+                    commandContext,
+                    annotationAccessor
+            );
+            if (value.isPresent()) {
+                return value.get();
+            }
+            throw new IllegalArgumentException(String.format(
+                    "Could not create value for parameter '%s' of type '%s' in method '%s'",
+                    parameter.getName(),
+                    type.getTypeName(),
+                    this.methodHandle.toString()
+            ));
+        };
     }
 
     /**
@@ -198,6 +253,12 @@ public class MethodCommandExecutionHandler<C> implements CommandExecutionHandler
         return this.annotationAccessor;
     }
 
+    @FunctionalInterface
+    private interface ParameterBinding<C> {
+
+        @Nullable Object resolve(@NonNull CommandContext<C> commandContext, @NonNull FlagContext flagContext);
+    }
+
     /**
      * Context for command methods
      *
@@ -0,0 +1,258 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.annotations;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.exceptions.CommandExecutionException;
+import cloud.commandframework.meta.SimpleCommandMeta;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MethodCommandExecutionHandlerTest {
+
+    private CommandManager<TestCommandSender> commandManager;
+    private AnnotationParser<TestCommandSender> annotationParser;
+    private TestCommands commands;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = new TestCommandManager();
+        this.annotationParser = new AnnotationParser<>(
+                this.commandManager,
+                TestCommandSender.class,
+                p -> SimpleCommandMeta.empty()
+        );
+        this.annotationParser.getParameterInjectorRegistry().registerInjector(
+                InjectedValue.class,
+                (context, annotations) -> new InjectedValue("injected")
+        );
+        this.commands = new TestCommands();
+        this.annotationParser.parse(this.commands);
+    }
+
+    @Test
+    void testRequiredArgument() {
+        // Act
+        this.commandManager.executeCommand(new TestCommandSender(), "arguments one 2").join();
+
+        // Assert
+        assertThat(this.commands.values).containsExactly("one", 2).inOrder();
+    }
+
+    @Test
+    void testMissingOptionalArgumentIsNull() {
+        // Act
+        this.commandManager.executeCommand(new TestCommandSender(), "arguments one").join();
+
+        // Assert
+        assertThat(this.commands.values).containsExactly("one", null).inOrder();
+    }
+
+    @Test
+    void testUnknownArgumentIsReadByName() throws Exception {
+        // Arrange
+        final ExposingHandler handler = this.createHandler("unknownArgument");
+        final CommandContext<TestCommandSender> present = this.createContext();
+        present.store("unknown", "value");
+
+        // Act
+        handler.execute(present);
+        final List<Object> presentValues = this.commands.values;
+        handler.execute(this.createContext());
+        final List<Object> missingValues = this.commands.values;
+
+        // Assert
+        assertThat(presentValues).containsExactly("value");
+        assertThat(missingValues).containsExactly((Object) null);
+    }
+
+    @Test
+    void testFlags() {
+        // Act
+        this.commandManager.executeCommand(
+                new TestCommandSender(),
+                "flags --present --repeated a --repeated b --value 3"
+        ).join();
+
+        // Assert
+        assertThat(this.commands.values).containsExactly(true, Arrays.asList("a", "b"), 3).inOrder();
+    }
+
+    @Test
+    void testMissingFlags() {
+        // Act
+        this.commandManager.executeCommand(new TestCommandSender(), "flags").join();
+
+        // Assert
+        assertThat(this.commands.values).containsExactly(false, Collections.emptyList(), null).inOrder();
+    }
+
+    @Test
+    void testSenderAndInjectedParameters() {
+        // Arrange
+        final TestCommandSender sender = new TestCommandSender();
+
+        // Act
+        this.commandManager.executeCommand(sender, "injected").join();
+
+        // Assert
+        assertThat(this.commands.values).hasSize(2);
+        assertThat(this.commands.values.get(0)).isSameInstanceAs(sender);
+        assertThat(this.commands.values.get(1)).isEqualTo(new InjectedValue("injected"));
+    }
+
+    @Test
+    void testThrowingMethodIsWrapped() {
+        // Act
+        final CompletionException exception = assertThrows(
+                CompletionException.class,
+                () -> this.commandManager.executeCommand(new TestCommandSender(), "throwing").join()
+        );
+
+        // Assert
+        assertThat(exception).hasCauseThat().isInstanceOf(CommandExecutionException.class);
+        assertThat(exception.getCause()).hasCauseThat().isInstanceOf(IOException.class);
+        assertThat(exception.getCause()).hasCauseThat().hasMessageThat().isEqualTo("failure");
+    }
+
+    @Test
+    void testCreateParameterValuesForOtherParameters() throws Exception {
+        // Arrange
+        final ExposingHandler handler = this.createHandler("unknownArgument");
+        final Parameter[] parameters = TestCommands.class
+                .getDeclaredMethod("injected", TestCommandSender.class, InjectedValue.class)
+                .getParameters();
+        final TestCommandSender sender = new TestCommandSender();
+        final CommandContext<TestCommandSender> context = new CommandContext<>(sender, this.commandManager);
+
+        // Act
+        final List<Object> values = handler.createParameterValues(context, parameters);
+
+        // Assert
+        assertThat(values).hasSize(2);
+        assertThat(values.get(0)).isSameInstanceAs(sender);
+        assertThat(values.get(1)).isEqualTo(new InjectedValue("injected"));
+    }
+
+    private @NonNull ExposingHandler createHandler(final @NonNull String methodName) throws Exception {
+        Method method = null;
+        for (final Method candidate : TestCommands.class.getDeclaredMethods()) {
+            if (candidate.getName().equals(methodName)) {
+                method = candidate;
+            }
+        }
+        /* The method has no arguments in its syntax, so its @Argument parameters are not in the argument map */
+        return new ExposingHandler(new MethodCommandExecutionHandler.CommandMethodContext<>(
+                this.commands,
+                Collections.emptyMap(),
+                method,
+                this.annotationParser
+        ));
+    }
+
+    private @NonNull CommandContext<TestCommandSender> createContext() {
+        return new CommandContext<>(new TestCommandSender(), this.commandManager);
+    }
+
+    public static final class TestCommands {
+
+        private List<Object> values;
+
+        @CommandMethod("arguments <required> [optional]")
+        public void arguments(
+                @Argument("required") final String required,
+                @Argument("optional") final Integer optional
+        ) {
+            this.values = Arrays.asList(required, optional);
+        }
+
+        @CommandMethod("flags")
+        public void flags(
+                @Flag("present") final boolean present,
+                @Flag(value = "repeated", repeatable = true) final List<String> repeated,
+                @Flag("value") final Integer value
+        ) {
+            this.values = Arrays.asList(present, repeated, value);
+        }
+
+        @CommandMethod("injected")
+        public void injected(final TestCommandSender sender, final InjectedValue injected) {
+            this.values = Arrays.asList(sender, injected);
+        }
+
+        @CommandMethod("throwing")
+        public void throwing() throws IOException {
+            throw new IOException("failure");
+        }
+
+        public void unknownArgument(@Argument("unknown") final String unknown) {
+            this.values = Collections.singletonList(unknown);
+        }
+    }
+
+    public static final class InjectedValue {
+
+        private final String value;
+
+        InjectedValue(final String value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            return object instanceof InjectedValue && ((InjectedValue) object).value.equals(this.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.value.hashCode();
+        }
+    }
+
+    private static final class ExposingHandler extends MethodCommandExecutionHandler<TestCommandSender> {
+
+        private ExposingHandler(final @NonNull CommandMethodContext<TestCommandSender> context) throws Exception {
+            super(context);
+        }
+
+        private @NonNull List<Object> createParameterValues(
+                final @NonNull CommandContext<TestCommandSender> commandContext,
+                final @NonNull Parameter @NonNull [] parameters
+        ) {
+            return this.createParameterValues(commandContext, commandContext.flags(), parameters);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+import net.ltgt.gradle.errorprone.errorprone
+
+plugins {
+    id("cloud.base-conventions")
+}
+
+dependencies {
+    implementation(projects.cloudCore)
+    implementation(projects.cloudAnnotations)
+    implementation(libs.jmhCore)
+    annotationProcessor(libs.jmhGeneratorAnnprocess)
+}
+
+val jmhResults = layout.buildDirectory.file("jmh/results.json")
+
+tasks {
+    withType<JavaCompile>().configureEach {
+        options.errorprone {
+            /* The benchmark harness is generated by the JMH annotation processor */
+            excludedPaths.set(".*/build/generated/.*")
+        }
+    }
+    register<JavaExec>("jmh") {
+        group = "benchmark"
+        description = "Runs the JMH benchmarks. Use -Pjmh.include=<regex> to only run some of them."
+        classpath = sourceSets.main.get().runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+        outputs.file(jmhResults)
+        outputs.upToDateWhen { false }
+        doFirst {
+            jmhResults.get().asFile.parentFile.mkdirs()
+        }
+        args(providers.gradleProperty("jmh.include").getOrElse(".*"))
+        args("-rf", "json", "-rff", jmhResults.get().asFile.absolutePath)
+    }
+}
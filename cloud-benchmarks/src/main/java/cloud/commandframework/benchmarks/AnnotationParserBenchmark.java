@@ -0,0 +1,106 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.benchmarks;
+
+import cloud.commandframework.annotations.AnnotationParser;
+import cloud.commandframework.annotations.Argument;
+import cloud.commandframework.annotations.CommandDescription;
+import cloud.commandframework.annotations.CommandMethod;
+import cloud.commandframework.annotations.CommandPermission;
+import cloud.commandframework.annotations.Flag;
+import cloud.commandframework.meta.SimpleCommandMeta;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Registration of annotated command methods. Every invocation registers the commands into a new command manager,
+ * so the creation of the manager and the annotation parser is included in the score
+ */
+@State(Scope.Thread)
+@Fork(2)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class AnnotationParserBenchmark {
+
+    private final AnnotatedCommands commands = new AnnotatedCommands();
+
+    @Benchmark
+    public Collection<?> parse() {
+        final AnnotationParser<BenchmarkSender> annotationParser = new AnnotationParser<>(
+                new BenchmarkCommandManager(),
+                BenchmarkSender.class,
+                parameters -> SimpleCommandMeta.empty()
+        );
+        return annotationParser.parse(this.commands);
+    }
+
+    public static final class AnnotatedCommands {
+
+        @CommandMethod("annotated literal <number>")
+        @CommandDescription("Literal followed by a number")
+        public void literal(
+                final @NonNull BenchmarkSender sender,
+                final @Argument("number") int number
+        ) {
+        }
+
+        @CommandMethod("annotated string <text> [count]")
+        @CommandPermission("annotated.string")
+        public void string(
+                final @NonNull BenchmarkSender sender,
+                final @Argument("text") @NonNull String text,
+                final @Argument(value = "count", defaultValue = "1") int count
+        ) {
+        }
+
+        @CommandMethod("annotated flags")
+        public void flags(
+                final @NonNull BenchmarkSender sender,
+                final @Flag(value = "unit", aliases = "u") @Nullable TimeUnit unit,
+                final @Flag("silent") boolean silent
+        ) {
+        }
+
+        @CommandMethod("annotated|alias nested <first> <second>")
+        public void nested(
+                final @NonNull BenchmarkSender sender,
+                final @Argument("first") @NonNull String first,
+                final @Argument("second") double second
+        ) {
+        }
+    }
+}
@@ -0,0 +1,90 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.benchmarks;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.execution.AsynchronousCommandExecutionCoordinator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the asynchronous execution coordinator when several threads execute commands at once
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Threads(4)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.Throughput)
+public class AsynchronousExecutionBenchmark {
+
+    @Param({"false", "true"})
+    private boolean synchronousParsing;
+
+    private ExecutorService executor;
+    private CommandManager<BenchmarkSender> manager;
+    private BenchmarkSender sender;
+
+    @Setup
+    public void setup() {
+        this.executor = Executors.newFixedThreadPool(4);
+        AsynchronousCommandExecutionCoordinator.Builder<BenchmarkSender> builder =
+                AsynchronousCommandExecutionCoordinator.<BenchmarkSender>builder().withExecutor(this.executor);
+        if (this.synchronousParsing) {
+            builder = builder.withSynchronousParsing();
+        }
+        this.manager = new BenchmarkCommandManager(builder.build());
+        this.sender = new BenchmarkSender();
+        this.manager.command(this.manager.commandBuilder("command")
+                .literal("literal")
+                .argument(IntegerArgument.of("number"))
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Object execute() {
+        return this.manager.executeCommand(this.sender, "command literal 123").join();
+    }
+}
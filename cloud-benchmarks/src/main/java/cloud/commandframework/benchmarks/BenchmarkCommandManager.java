@@ -0,0 +1,68 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.benchmarks;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.CommandTree;
+import cloud.commandframework.execution.CommandExecutionCoordinator;
+import cloud.commandframework.internal.CommandRegistrationHandler;
+import cloud.commandframework.meta.CommandMeta;
+import cloud.commandframework.meta.SimpleCommandMeta;
+import java.util.function.Function;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Command manager used by the benchmarks. All permissions are granted and no platform registration takes place
+ */
+public final class BenchmarkCommandManager extends CommandManager<BenchmarkSender> {
+
+    /**
+     * Create a new command manager that parses and executes commands on the calling thread
+     */
+    public BenchmarkCommandManager() {
+        this(CommandExecutionCoordinator.simpleCoordinator());
+    }
+
+    /**
+     * Create a new command manager
+     *
+     * @param commandExecutionCoordinator Execution coordinator
+     */
+    public BenchmarkCommandManager(
+            final @NonNull Function<@NonNull CommandTree<BenchmarkSender>,
+                    @NonNull CommandExecutionCoordinator<BenchmarkSender>> commandExecutionCoordinator
+    ) {
+        super(commandExecutionCoordinator, CommandRegistrationHandler.nullCommandRegistrationHandler());
+    }
+
+    @Override
+    public boolean hasPermission(final @NonNull BenchmarkSender sender, final @NonNull String permission) {
+        return true;
+    }
+
+    @Override
+    public @NonNull CommandMeta createDefaultCommandMeta() {
+        return SimpleCommandMeta.empty();
+    }
+}
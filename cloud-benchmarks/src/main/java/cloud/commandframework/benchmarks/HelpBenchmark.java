@@ -0,0 +1,86 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.benchmarks;
+
+import cloud.commandframework.CommandHelpHandler;
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Help queries against a populated command manager
+ */
+@State(Scope.Thread)
+@Fork(2)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class HelpBenchmark {
+
+    @Param({"100", "1000"})
+    private int commands;
+
+    private CommandHelpHandler<BenchmarkSender> helpHandler;
+    private BenchmarkSender sender;
+
+    @Setup
+    public void setup() {
+        final CommandManager<BenchmarkSender> manager = new BenchmarkCommandManager();
+        for (int i = 0; i < this.commands; i++) {
+            manager.command(manager.commandBuilder("command" + (i % 10))
+                    .literal("sub" + i)
+                    .argument(IntegerArgument.of("number"))
+                    .build());
+        }
+        this.helpHandler = manager.createCommandHelpHandler();
+        this.sender = new BenchmarkSender();
+    }
+
+    @Benchmark
+    public Object queryRootIndex() {
+        return this.helpHandler.queryRootIndex(this.sender);
+    }
+
+    @Benchmark
+    public Object queryMultipleTopics() {
+        return this.helpHandler.queryHelp(this.sender, "command5");
+    }
+
+    @Benchmark
+    public Object queryVerboseTopic() {
+        return this.helpHandler.queryHelp(this.sender, "command5 sub5");
+    }
+}
@@ -0,0 +1,117 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.benchmarks;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.arguments.flags.CommandFlag;
+import cloud.commandframework.arguments.standard.DoubleArgument;
+import cloud.commandframework.arguments.standard.EnumArgument;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.arguments.standard.StringArgument;
+import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.context.CommandInput;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the standard argument parsers, both in isolation and as part of a full command
+ */
+@State(Scope.Thread)
+@Fork(2)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class ParserBenchmark {
+
+    private final IntegerArgument.IntegerParser<BenchmarkSender> integerParser =
+            new IntegerArgument.IntegerParser<>(IntegerArgument.IntegerParser.DEFAULT_MINIMUM,
+                    IntegerArgument.IntegerParser.DEFAULT_MAXIMUM);
+    private final DoubleArgument.DoubleParser<BenchmarkSender> doubleParser =
+            new DoubleArgument.DoubleParser<>(DoubleArgument.DoubleParser.DEFAULT_MINIMUM,
+                    DoubleArgument.DoubleParser.DEFAULT_MAXIMUM);
+    private final EnumArgument.EnumParser<BenchmarkSender, TimeUnit> enumParser =
+            new EnumArgument.EnumParser<>(TimeUnit.class);
+    private final StringArgument.StringParser<BenchmarkSender> quotedParser =
+            new StringArgument.StringParser<>(StringArgument.StringMode.QUOTED, (context, input) -> Collections.emptyList());
+    private final StringArgument.StringParser<BenchmarkSender> greedyParser =
+            new StringArgument.StringParser<>(StringArgument.StringMode.GREEDY, (context, input) -> Collections.emptyList());
+
+    private CommandManager<BenchmarkSender> manager;
+    private BenchmarkSender sender;
+    private CommandContext<BenchmarkSender> context;
+
+    @Setup
+    public void setup() {
+        this.manager = new BenchmarkCommandManager();
+        this.sender = new BenchmarkSender();
+        this.context = new CommandContext<>(this.sender, this.manager);
+        this.manager.command(this.manager.commandBuilder("flags")
+                .flag(CommandFlag.builder("alpha").withAliases("a"))
+                .flag(CommandFlag.builder("beta").withAliases("b"))
+                .flag(CommandFlag.builder("number").withAliases("n").withArgument(IntegerArgument.of("number")))
+                .flag(CommandFlag.builder("text").withAliases("t").withArgument(StringArgument.quoted("text")))
+                .build());
+    }
+
+    @Benchmark
+    public Object parseInteger() {
+        return this.integerParser.parse(this.context, CommandInput.of("123456"));
+    }
+
+    @Benchmark
+    public Object parseDouble() {
+        return this.doubleParser.parse(this.context, CommandInput.of("1234.5678"));
+    }
+
+    @Benchmark
+    public Object parseEnum() {
+        return this.enumParser.parse(this.context, CommandInput.of("milliseconds"));
+    }
+
+    @Benchmark
+    public Object parseQuotedString() {
+        return this.quotedParser.parse(this.context, CommandInput.of("\"a quoted string with spaces\" trailing"));
+    }
+
+    @Benchmark
+    public Object parseGreedyString() {
+        return this.greedyParser.parse(this.context, CommandInput.of("a greedy string that consumes the entire input"));
+    }
+
+    @Benchmark
+    public Object parseFlags() {
+        return this.manager.executeCommand(this.sender, "flags --number 5 -ab --text \"some text\"").join();
+    }
+}
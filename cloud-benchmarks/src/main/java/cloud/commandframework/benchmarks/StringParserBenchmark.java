@@ -0,0 +1,175 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.benchmarks;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.arguments.standard.StringArgument;
+import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.context.CommandInput;
+import java.util.Collections;
+import java.util.Queue;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the single pass quoted and greedy string scanners against the regular expression based implementation that
+ * they replaced, for chat-like inputs of increasing length
+ */
+@State(Scope.Thread)
+@Fork(2)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class StringParserBenchmark {
+
+    @Param({"4", "32", "256"})
+    private int words;
+
+    private final StringArgument.StringParser<BenchmarkSender> quotedParser =
+            new StringArgument.StringParser<>(StringArgument.StringMode.QUOTED, (context, input) -> Collections.emptyList());
+    private final StringArgument.StringParser<BenchmarkSender> greedyParser = new StringArgument.StringParser<>(
+            StringArgument.StringMode.GREEDY_FLAG_YIELDING,
+            (context, input) -> Collections.emptyList()
+    );
+
+    private CommandContext<BenchmarkSender> context;
+    private String quotedInput;
+    private String greedyInput;
+
+    @Setup
+    public void setup() {
+        final CommandManager<BenchmarkSender> manager = new BenchmarkCommandManager();
+        this.context = new CommandContext<>(new BenchmarkSender(), manager);
+
+        final StringJoiner message = new StringJoiner(" ");
+        for (int i = 0; i < this.words; i++) {
+            message.add(i % 8 == 0 ? "it\\'s" : "word" + i);
+        }
+        this.quotedInput = "'" + message + "' trailing --flag";
+        this.greedyInput = message + " --flag value";
+    }
+
+    @Benchmark
+    public Object quotedScanner() {
+        return this.quotedParser.parse(this.context, CommandInput.of(this.quotedInput));
+    }
+
+    @Benchmark
+    public Object quotedRegex() {
+        return LegacyStringParser.parseQuoted(CommandInput.of(this.quotedInput));
+    }
+
+    @Benchmark
+    public Object greedyScanner() {
+        return this.greedyParser.parse(this.context, CommandInput.of(this.greedyInput));
+    }
+
+    @Benchmark
+    public Object greedyRegex() {
+        return LegacyStringParser.parseGreedy(CommandInput.of(this.greedyInput));
+    }
+
+    /**
+     * The regular expression based string parsing that was used up to 1.8.0, kept as a baseline
+     */
+    private static final class LegacyStringParser {
+
+        private static final Pattern QUOTED_DOUBLE = Pattern.compile("\"(?<inner>(?:[^\"\\\\]|\\\\.)*)\"");
+        private static final Pattern QUOTED_SINGLE = Pattern.compile("'(?<inner>(?:[^'\\\\]|\\\\.)*)'");
+        private static final Pattern FLAG_PATTERN = Pattern.compile("(-[A-Za-z_\\-0-9])|(--[A-Za-z_\\-0-9]*)");
+
+        private LegacyStringParser() {
+        }
+
+        private static String parseQuoted(final Queue<String> inputQueue) {
+            final StringJoiner sj = new StringJoiner(" ");
+            for (final String string : inputQueue) {
+                sj.add(string);
+            }
+            final String string = sj.toString();
+
+            final Matcher doubleMatcher = QUOTED_DOUBLE.matcher(string);
+            String doubleMatch = null;
+            if (doubleMatcher.find()) {
+                doubleMatch = doubleMatcher.group("inner");
+            }
+            final Matcher singleMatcher = QUOTED_SINGLE.matcher(string);
+            String singleMatch = null;
+            if (singleMatcher.find()) {
+                singleMatch = singleMatcher.group("inner");
+            }
+
+            String inner = null;
+            if (singleMatch != null && doubleMatch != null) {
+                inner = string.indexOf(doubleMatch) < string.indexOf(singleMatch) ? doubleMatch : singleMatch;
+            } else if (doubleMatch != null) {
+                inner = doubleMatch;
+            } else if (singleMatch != null) {
+                inner = singleMatch;
+            }
+            if (inner == null) {
+                return null;
+            }
+
+            int spaces = 0;
+            for (int i = 0; i < inner.length(); i++) {
+                if (inner.charAt(i) == ' ') {
+                    spaces++;
+                }
+            }
+            for (int i = 0; i <= spaces; i++) {
+                inputQueue.remove();
+            }
+            return inner.replace("\\\"", "\"").replace("\\'", "'");
+        }
+
+        private static String parseGreedy(final Queue<String> inputQueue) {
+            final StringJoiner sj = new StringJoiner(" ");
+            final int size = inputQueue.size();
+            for (int i = 0; i < size; i++) {
+                final String string = inputQueue.peek();
+                if (string == null || FLAG_PATTERN.matcher(string).matches()) {
+                    break;
+                }
+                sj.add(string);
+                inputQueue.remove();
+            }
+            return sj.toString();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.benchmarks;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.arguments.flags.CommandFlag;
+import cloud.commandframework.arguments.standard.EnumArgument;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.arguments.standard.StringArgument;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Suggestions for partial input, as requested by platforms while the sender is typing
+ */
+@State(Scope.Thread)
+@Fork(2)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class SuggestionBenchmark {
+
+    private CommandManager<BenchmarkSender> manager;
+    private BenchmarkSender sender;
+
+    @Setup
+    public void setup() {
+        this.manager = new BenchmarkCommandManager();
+        this.sender = new BenchmarkSender();
+        for (int i = 0; i < 100; i++) {
+            this.manager.command(this.manager.commandBuilder("command" + i)
+                    .literal("first")
+                    .argument(IntegerArgument.of("number"))
+                    .build());
+            this.manager.command(this.manager.commandBuilder("command" + i)
+                    .literal("second")
+                    .argument(EnumArgument.of(TimeUnit.class, "unit"))
+                    .argument(StringArgument.greedy("text"))
+                    .build());
+        }
+        this.manager.command(this.manager.commandBuilder("flags")
+                .flag(CommandFlag.builder("alpha").withAliases("a"))
+                .flag(CommandFlag.builder("beta").withAliases("b"))
+                .flag(CommandFlag.builder("unit").withArgument(EnumArgument.of(TimeUnit.class, "unit")))
+                .build());
+    }
+
+    @Benchmark
+    public List<String> suggestRootLiteral() {
+        return this.manager.suggest(this.sender, "command5");
+    }
+
+    @Benchmark
+    public List<String> suggestLiteral() {
+        return this.manager.suggest(this.sender, "command50 ");
+    }
+
+    @Benchmark
+    public List<String> suggestInteger() {
+        return this.manager.suggest(this.sender, "command50 first 1");
+    }
+
+    @Benchmark
+    public List<String> suggestEnum() {
+        return this.manager.suggest(this.sender, "command50 second mi");
+    }
+
+    @Benchmark
+    public List<String> suggestFlag() {
+        return this.manager.suggest(this.sender, "flags --alpha --");
+    }
+
+    @Benchmark
+    public List<String> suggestFlagValue() {
+        return this.manager.suggest(this.sender, "flags --unit ");
+    }
+}
@@ -0,0 +1,86 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.benchmarks;
+
+import cloud.commandframework.CommandManager;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing in command trees with a large amount of root literals, each of which has aliases
+ */
+@State(Scope.Thread)
+@Fork(2)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+public class WideTreeBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    private int roots;
+
+    private CommandManager<BenchmarkSender> manager;
+    private BenchmarkSender sender;
+    private String lastRoot;
+    private String lastAlias;
+
+    @Setup
+    public void setup() {
+        this.manager = new BenchmarkCommandManager();
+        this.sender = new BenchmarkSender();
+        for (int i = 0; i < this.roots; i++) {
+            this.manager.command(this.manager.commandBuilder("root" + i, "alias" + i, "other" + i)
+                    .literal("sub")
+                    .build());
+        }
+        this.lastRoot = "root" + (this.roots - 1) + " sub";
+        this.lastAlias = "other" + (this.roots - 1) + " sub";
+    }
+
+    @Benchmark
+    public Object parseRoot() {
+        return this.manager.executeCommand(this.sender, this.lastRoot).join();
+    }
+
+    @Benchmark
+    public Object parseAlias() {
+        return this.manager.executeCommand(this.sender, this.lastAlias).join();
+    }
+
+    @Benchmark
+    public Object suggestRoots() {
+        return this.manager.suggest(this.sender, "root1");
+    }
+}
@@ -24,15 +24,20 @@
 package cloud.commandframework;
 
 import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.arguments.CommandSyntaxFormatter;
 import cloud.commandframework.arguments.StaticArgument;
 import cloud.commandframework.meta.CommandMeta;
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -45,6 +50,7 @@ public final class CommandHelpHandler<C> {
 
     private final CommandManager<C> commandManager;
     private final Predicate<Command<C>> commandPredicate;
+    private volatile HelpIndex<C> index;
 
     CommandHelpHandler(
             final @NonNull CommandManager<C> commandManager,
@@ -60,26 +66,35 @@ public final class CommandHelpHandler<C> {
      * @return Syntax hints for all registered commands, order in lexicographical order
      */
     public @NonNull List<@NonNull VerboseHelpEntry<C>> getAllCommands() {
-        final List<VerboseHelpEntry<C>> syntaxHints = new ArrayList<>();
-        for (final Command<C> command : this.commandManager.commands()) {
+        final List<VerboseHelpEntry<C>> entries = this.index().entries;
+        final List<VerboseHelpEntry<C>> syntaxHints = new ArrayList<>(entries.size());
+        for (final VerboseHelpEntry<C> entry : entries) {
             /* Check command is not filtered */
-            if (!this.commandPredicate.test(command)) {
-                continue;
+            if (this.commandPredicate.test(entry.getCommand())) {
+                syntaxHints.add(entry);
             }
-
-            final List<CommandArgument<C, ?>> arguments = command.getArguments();
-            final String description = command.getCommandMeta().getOrDefault(CommandMeta.DESCRIPTION, "");
-            syntaxHints.add(new VerboseHelpEntry<>(
-                    command,
-                    this.commandManager.commandSyntaxFormatter()
-                            .apply(arguments, null),
-                    description
-            ));
         }
-        syntaxHints.sort(Comparator.comparing(VerboseHelpEntry::getSyntaxString));
         return syntaxHints;
     }
 
+    /**
+     * Get the help index, rebuilding it if commands have been inserted or deleted, or if the syntax
+     * formatter has changed since it was built
+     *
+     * @return Up-to-date help index
+     */
+    private @NonNull HelpIndex<C> index() {
+        final HelpIndex<C> current = this.index;
+        final long version = this.commandManager.commandTree().version();
+        final CommandSyntaxFormatter<C> formatter = this.commandManager.commandSyntaxFormatter();
+        if (current != null && current.version == version && current.formatter.equals(formatter)) {
+            return current;
+        }
+        final HelpIndex<C> rebuilt = new HelpIndex<>(version, formatter, this.commandManager.commands());
+        this.index = rebuilt;
+        return rebuilt;
+    }
+
     /**
      * Get a list of the longest shared command chains of all commands.
      * If there are two commands "foo bar 1" and "foo bar 2", this would
@@ -136,76 +151,66 @@ public final class CommandHelpHandler<C> {
             final @Nullable C recipient,
             final @NonNull String query
     ) {
-        final List<VerboseHelpEntry<C>> commands = this.getAllCommands();
-        commands.removeIf(command -> recipient != null && !this.commandManager.hasPermission(
-                recipient,
-                command.getCommand().getCommandPermission()
-        ));
+        final HelpIndex<C> helpIndex = this.index();
         if (query.replace(" ", "").isEmpty()) {
+            final List<VerboseHelpEntry<C>> commands = new ArrayList<>(helpIndex.entries.size());
+            for (final VerboseHelpEntry<C> entry : helpIndex.entries) {
+                if (this.isVisible(recipient, entry.getCommand())) {
+                    commands.add(entry);
+                }
+            }
             return new IndexHelpTopic<>(commands);
         }
 
         final String[] queryFragments = query.split(" ");
-        final String rootFragment = queryFragments[0];
-
-        /* Determine which command we are querying for */
-        final List<Command<C>> availableCommands = new LinkedList<>();
-        final Set<String> availableCommandLabels = new HashSet<>();
+        final String rootFragment = queryFragments[0].toLowerCase(Locale.ENGLISH);
 
+        /* Determine which command we are querying for, using the aliases that start with the root fragment */
+        final BitSet checked = new BitSet(helpIndex.entries.size());
+        final BitSet available = new BitSet(helpIndex.entries.size());
         boolean exactMatch = false;
-
-        for (final VerboseHelpEntry<C> entry : commands) {
-            final Command<C> command = entry.getCommand();
-            @SuppressWarnings("unchecked") final StaticArgument<C> staticArgument = (StaticArgument<C>) command.getArguments()
-                    .get(0);
-            for (final String alias : staticArgument.getAliases()) {
-                if (alias.toLowerCase(Locale.ENGLISH).startsWith(rootFragment.toLowerCase(Locale.ENGLISH))) {
-                    availableCommands.add(command);
-                    availableCommandLabels.add(staticArgument.getName());
-                    break;
+        int namedEntry = -1;
+
+        for (int i = helpIndex.lowerBound(rootFragment);
+             i < helpIndex.aliases.length && helpIndex.aliases[i].startsWith(rootFragment);
+             i++) {
+            final int entry = helpIndex.aliasEntries[i];
+            if (!checked.get(entry)) {
+                checked.set(entry);
+                if (this.isVisible(recipient, helpIndex.entries.get(entry).getCommand())) {
+                    available.set(entry);
                 }
             }
-
-            for (final String alias : staticArgument.getAliases()) {
-                if (alias.equalsIgnoreCase(rootFragment)) {
-                    exactMatch = true;
-                    break;
-                }
+            if (!available.get(entry) || !helpIndex.aliases[i].equals(rootFragment)) {
+                continue;
             }
-
-            if (rootFragment.equalsIgnoreCase(staticArgument.getName())) {
-                availableCommandLabels.clear();
-                availableCommands.clear();
-                availableCommandLabels.add(staticArgument.getName());
-                availableCommands.add(command);
-                break;
+            exactMatch = true;
+            if (helpIndex.names[entry].equals(rootFragment) && (namedEntry < 0 || entry < namedEntry)) {
+                namedEntry = entry;
             }
         }
 
-        /* No command found, return all possible commands */
-        if (availableCommands.isEmpty()) {
+        final String label;
+        if (namedEntry >= 0) {
+            label = helpIndex.names[namedEntry];
+        } else if (available.isEmpty()) {
+            /* No command found, return all possible commands */
             return new IndexHelpTopic<>(Collections.emptyList());
-        } else if (!exactMatch || availableCommandLabels.size() > 1) {
-            final List<VerboseHelpEntry<C>> syntaxHints = new ArrayList<>();
-            for (final Command<C> command : availableCommands) {
-                final List<CommandArgument<C, ?>> arguments = command.getArguments();
-                final String description = command.getCommandMeta().getOrDefault(CommandMeta.DESCRIPTION, "");
-                syntaxHints.add(new VerboseHelpEntry<>(
-                        command,
-                        this.commandManager.commandSyntaxFormatter()
-                                .apply(arguments, null),
-                        description
-                ));
+        } else {
+            final List<VerboseHelpEntry<C>> syntaxHints = new ArrayList<>(available.cardinality());
+            final Set<String> availableCommandLabels = new HashSet<>();
+            for (int entry = available.nextSetBit(0); entry >= 0; entry = available.nextSetBit(entry + 1)) {
+                syntaxHints.add(helpIndex.entries.get(entry));
+                availableCommandLabels.add(helpIndex.names[entry]);
             }
-            syntaxHints.sort(Comparator.comparing(VerboseHelpEntry::getSyntaxString));
-            syntaxHints.removeIf(command -> recipient != null
-                    && !this.commandManager.hasPermission(recipient, command.getCommand().getCommandPermission()));
-            return new IndexHelpTopic<>(syntaxHints);
+            if (!exactMatch || availableCommandLabels.size() > 1) {
+                return new IndexHelpTopic<>(syntaxHints);
+            }
+            label = availableCommandLabels.iterator().next();
         }
 
         /* Traverse command to find the most specific help topic */
-        final CommandTree.Node<CommandArgument<C, ?>> node = this.commandManager.commandTree()
-                .getNamedNode(availableCommandLabels.iterator().next());
+        final CommandTree.Node<CommandArgument<C, ?>> node = this.commandManager.commandTree().getNamedNode(label);
 
         final List<CommandArgument<C, ?>> traversedNodes = new LinkedList<>();
         CommandTree.Node<CommandArgument<C, ?>> head = node;
@@ -281,6 +286,14 @@ public final class CommandHelpHandler<C> {
         return new IndexHelpTopic<>(Collections.emptyList());
     }
 
+    /* Checks whether a command passes the predicate and, if there is a recipient, whether they may use it */
+    private boolean isVisible(final @Nullable C recipient, final @NonNull Command<C> command) {
+        if (!this.commandPredicate.test(command)) {
+            return false;
+        }
+        return recipient == null || this.commandManager.hasPermission(recipient, command.getCommandPermission());
+    }
+
     /* Checks using the predicate whether a command node or one of its children is visible */
     private boolean isNodeVisible(
             final CommandTree.@NonNull Node<CommandArgument<C, ?>> node
@@ -579,4 +592,84 @@ public final class CommandHelpHandler<C> {
             return Objects.hash(this.longestPath, this.childSuggestions);
         }
     }
+
+    /**
+     * Snapshot of the registered commands, with pre-formatted syntax strings and a sorted alias index
+     *
+     * @param <C> Command sender type
+     */
+    private static final class HelpIndex<C> {
+
+        private final long version;
+        private final CommandSyntaxFormatter<C> formatter;
+        /**
+         * Entries of all registered commands, sorted by their syntax strings. The command predicate is applied when
+         * the index is queried, so that it is always evaluated against the current state of the commands
+         */
+        private final List<VerboseHelpEntry<C>> entries;
+        /**
+         * Lower case root literal names of the entries, indexed by entry
+         */
+        private final String[] names;
+        /**
+         * Sorted lower case root literal aliases, and the index of the entry that each alias belongs to
+         */
+        private final String[] aliases;
+        private final int[] aliasEntries;
+
+        @SuppressWarnings("unchecked")
+        private HelpIndex(
+                final long version,
+                final @NonNull CommandSyntaxFormatter<C> formatter,
+                final @NonNull Collection<@NonNull Command<C>> commands
+        ) {
+            this.version = version;
+            this.formatter = formatter;
+
+            final List<VerboseHelpEntry<C>> entries = new ArrayList<>();
+            for (final Command<C> command : commands) {
+                final String description = command.getCommandMeta().getOrDefault(CommandMeta.DESCRIPTION, "");
+                entries.add(new VerboseHelpEntry<>(command, formatter.apply(command.getArguments(), null), description));
+            }
+            entries.sort(Comparator.comparing(VerboseHelpEntry::getSyntaxString));
+            this.entries = Collections.unmodifiableList(entries);
+
+            this.names = new String[entries.size()];
+            final List<Map.Entry<String, Integer>> aliases = new ArrayList<>();
+            for (int i = 0; i < entries.size(); i++) {
+                final StaticArgument<C> root = (StaticArgument<C>) entries.get(i).getCommand().getArguments().get(0);
+                this.names[i] = root.getName().toLowerCase(Locale.ENGLISH);
+                for (final String alias : root.getAliases()) {
+                    aliases.add(new AbstractMap.SimpleImmutableEntry<>(alias.toLowerCase(Locale.ENGLISH), i));
+                }
+            }
+            aliases.sort(Map.Entry.<String, Integer>comparingByKey().thenComparing(Map.Entry.comparingByValue()));
+            this.aliases = new String[aliases.size()];
+            this.aliasEntries = new int[aliases.size()];
+            for (int i = 0; i < aliases.size(); i++) {
+                this.aliases[i] = aliases.get(i).getKey();
+                this.aliasEntries[i] = aliases.get(i).getValue();
+            }
+        }
+
+        /**
+         * Find the index of the first alias that is not less than the given prefix
+         *
+         * @param prefix Lower case prefix
+         * @return Index of the first alias that may start with the prefix
+         */
+        private int lowerBound(final @NonNull String prefix) {
+            int low = 0;
+            int high = this.aliases.length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (this.aliases[middle].compareTo(prefix) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
 }
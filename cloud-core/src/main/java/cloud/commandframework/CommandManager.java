@@ -30,6 +30,7 @@ import cloud.commandframework.arguments.CommandSyntaxFormatter;
 import cloud.commandframework.arguments.DelegatingCommandSuggestionEngineFactory;
 import cloud.commandframework.arguments.StandardCommandSyntaxFormatter;
 import cloud.commandframework.arguments.StaticArgument;
+import cloud.commandframework.arguments.SuggestionSink;
 import cloud.commandframework.arguments.flags.CommandFlag;
 import cloud.commandframework.arguments.parser.ArgumentParser;
 import cloud.commandframework.arguments.parser.ParserParameter;
@@ -41,6 +42,7 @@ import cloud.commandframework.captions.SimpleCaptionRegistryFactory;
 import cloud.commandframework.captions.SimpleCaptionVariableReplacementHandler;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.context.CommandContextFactory;
+import cloud.commandframework.context.CommandInput;
 import cloud.commandframework.context.StandardCommandContextFactory;
 import cloud.commandframework.execution.CommandExecutionCoordinator;
 import cloud.commandframework.execution.CommandResult;
@@ -55,10 +57,12 @@ import cloud.commandframework.execution.preprocessor.CommandPreprocessor;
 import cloud.commandframework.internal.CommandInputTokenizer;
 import cloud.commandframework.internal.CommandRegistrationHandler;
 import cloud.commandframework.meta.CommandMeta;
+import cloud.commandframework.metrics.CommandMetrics;
 import cloud.commandframework.permission.AndPermission;
 import cloud.commandframework.permission.CommandPermission;
 import cloud.commandframework.permission.OrPermission;
 import cloud.commandframework.permission.Permission;
+import cloud.commandframework.permission.PermissionResultCache;
 import cloud.commandframework.permission.PredicatePermission;
 import cloud.commandframework.services.ServicePipeline;
 import cloud.commandframework.services.State;
@@ -74,6 +78,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -94,7 +99,9 @@ public abstract class CommandManager<C> {
 
     private final Map<Class<? extends Exception>, BiConsumer<C, ? extends Exception>> exceptionHandlers = new HashMap<>();
     private final EnumSet<ManagerSettings> managerSettings = EnumSet.of(
-            ManagerSettings.ENFORCE_INTERMEDIARY_PERMISSIONS);
+            ManagerSettings.ENFORCE_INTERMEDIARY_PERMISSIONS,
+            ManagerSettings.RECORD_ARGUMENT_TIMINGS
+    );
 
     private final CommandContextFactory<C> commandContextFactory = new StandardCommandContextFactory<>();
     private final ServicePipeline servicePipeline = ServicePipeline.builder().build();
@@ -105,11 +112,14 @@ public abstract class CommandManager<C> {
     private final CommandTree<C> commandTree;
     private final CommandSuggestionEngine<C> commandSuggestionEngine;
     private final Set<CloudCapability> capabilities = new HashSet<>();
+    private final AtomicLong permissionResultsEpoch = new AtomicLong();
 
     private CaptionVariableReplacementHandler captionVariableReplacementHandler = new SimpleCaptionVariableReplacementHandler();
     private CommandSyntaxFormatter<C> commandSyntaxFormatter = new StandardCommandSyntaxFormatter<>();
     private CommandSuggestionProcessor<C> commandSuggestionProcessor =
             new FilteringCommandSuggestionProcessor<>(FilteringCommandSuggestionProcessor.Filter.startsWith(true));
+    private int suggestionLimit = SuggestionSink.UNLIMITED;
+    private volatile @Nullable CommandMetrics<C> commandMetrics;
     private CommandRegistrationHandler commandRegistrationHandler;
     private CaptionRegistry<C> captionRegistry;
     private final AtomicReference<RegistrationState> state = new AtomicReference<>(RegistrationState.BEFORE_REGISTRATION);
@@ -181,12 +191,18 @@ public abstract class CommandManager<C> {
                 commandSender,
                 this
         );
-        final LinkedList<String> inputQueue = new CommandInputTokenizer(input).tokenize();
-        /* Store a copy of the input queue in the context */
-        context.store("__raw_input__", new LinkedList<>(inputQueue));
+        final CommandMetrics<C> metrics = this.commandMetrics;
+        final long tokenizeStart = metrics == null ? 0L : System.nanoTime();
+        final CommandInput commandInput = new CommandInputTokenizer(input).tokenizeInput();
+        if (metrics != null) {
+            metrics.phaseCompleted(context, CommandMetrics.Phase.TOKENIZE, null, System.nanoTime() - tokenizeStart, true);
+        }
+        /* Store a copy of the input in the context */
+        context.rawInput(commandInput.copy());
         try {
-            if (this.preprocessContext(context, inputQueue) == State.ACCEPTED) {
-                return this.commandExecutionCoordinator.coordinateExecution(context, inputQueue);
+            final CommandPreprocessingContext<C> preprocessingContext = new CommandPreprocessingContext<>(context, commandInput);
+            if (this.preprocessContext(preprocessingContext) == State.ACCEPTED) {
+                return this.commandExecutionCoordinator.coordinateExecution(context, preprocessingContext.commandInput());
             }
         } catch (final Exception e) {
             final CompletableFuture<CommandResult<C>> future = new CompletableFuture<>();
@@ -210,13 +226,62 @@ public abstract class CommandManager<C> {
     public @NonNull List<@NonNull String> suggest(
             final @NonNull C commandSender,
             final @NonNull String input
+    ) {
+        return this.suggest(commandSender, context -> this.commandSuggestionEngine.getSuggestions(context, input));
+    }
+
+    /**
+     * Get command suggestions for the "next" argument that would yield a correctly parsing command input, resuming from
+     * a literal node of the command tree instead of starting from the root of the tree.
+     * <p>
+     * This is meant for platforms that have already matched the leading literals of the input to a node, so that
+     * they are not parsed again for every suggestion request. The input must still contain the full command, and the
+     * suggestions are the same as the ones returned by {@link #suggest(Object, String)}
+     *
+     * @param commandSender Sender of the command
+     * @param input         Input provided by the sender, see {@link #suggest(Object, String)}
+     * @param node          Literal node that the leading literals of the input lead to
+     * @return List of suggestions
+     * @since 1.9.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+    public @NonNull List<@NonNull String> suggest(
+            final @NonNull C commandSender,
+            final @NonNull String input,
+            final CommandTree.@NonNull Node<@Nullable CommandArgument<C, ?>> node
+    ) {
+        return this.suggest(commandSender, context -> this.commandSuggestionEngine.getSuggestions(context, input, node));
+    }
+
+    /**
+     * Run a suggestion request against the suggestion engine, recording the time taken if metrics are enabled
+     *
+     * @param commandSender Sender of the command
+     * @param engine        Function that produces the suggestions from the request context
+     * @return List of suggestions
+     */
+    private @NonNull List<@NonNull String> suggest(
+            final @NonNull C commandSender,
+            final @NonNull Function<@NonNull CommandContext<C>, @NonNull List<@NonNull String>> engine
     ) {
         final CommandContext<C> context = this.commandContextFactory.create(
                 true,
                 commandSender,
                 this
         );
-        return this.commandSuggestionEngine.getSuggestions(context, input);
+        final CommandMetrics<C> metrics = this.commandMetrics;
+        if (metrics == null) {
+            return engine.apply(context);
+        }
+        final long start = System.nanoTime();
+        boolean success = false;
+        try {
+            final List<String> suggestions = engine.apply(context);
+            success = true;
+            return suggestions;
+        } finally {
+            metrics.phaseCompleted(context, CommandMetrics.Phase.SUGGEST, null, System.nanoTime() - start, success);
+        }
     }
 
     /**
@@ -252,6 +317,34 @@ public abstract class CommandManager<C> {
         return this.command(command.manager(this).build());
     }
 
+    /**
+     * Register several commands to the command manager and insert them into the underlying command tree. This behaves
+     * like calling {@link #command(Command)} for each of the commands, except that the command tree is only verified
+     * once, after all the commands have been inserted. This should be preferred when registering a large amount of commands.
+     * <p>
+     * The batch is registered atomically: if any of the commands cannot be inserted, for example because it makes the
+     * command tree ambiguous, then none of the commands are registered and the exception is rethrown.
+     *
+     * @param commands Commands to register
+     * @return The command manager instance. This is returned so that these method calls may be chained. This will always
+     *         return {@code this}.
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public @NonNull @This CommandManager<C> commands(final @NonNull Collection<? extends Command<C>> commands) {
+        if (commands.isEmpty()) {
+            return this;
+        }
+        if (!(this.transitionIfPossible(RegistrationState.BEFORE_REGISTRATION, RegistrationState.REGISTERING)
+                || this.isCommandRegistrationAllowed())) {
+            throw new IllegalStateException("Unable to register commands because the manager is no longer in a registration "
+                    + "state. Your platform may allow unsafe registrations by enabling the appropriate manager setting.");
+        }
+        this.commandTree.insertCommands(commands);
+        this.commands.addAll(commands);
+        return this;
+    }
+
     /**
      * Get the caption variable replacement handler.
      *
@@ -446,6 +539,30 @@ public abstract class CommandManager<C> {
         throw new IllegalArgumentException("Unknown permission type " + permission.getClass());
     }
 
+    /**
+     * Invalidate all {@link PermissionResultCache permission result caches} created by this manager. Platforms
+     * should call this whenever the permissions of a command sender change.
+     *
+     * @since 1.9.0
+     * @see ManagerSettings#CACHE_PERMISSION_RESULTS
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+    public void invalidatePermissionResults() {
+        this.permissionResultsEpoch.incrementAndGet();
+    }
+
+    /**
+     * Get the current permission result epoch. The epoch changes every time
+     * {@link #invalidatePermissionResults()} is called
+     *
+     * @return Current epoch
+     * @since 1.9.0
+     */
+    @API(status = API.Status.INTERNAL, since = "1.9.0")
+    public long permissionResultsEpoch() {
+        return this.permissionResultsEpoch.get();
+    }
+
     /**
      * Get the caption registry
      *
@@ -546,7 +663,13 @@ public abstract class CommandManager<C> {
         this.commandRegistrationHandler.unregisterRootCommand((StaticArgument<?>) node.getValue());
 
         // We then delete it from the tree.
-        this.commandTree.deleteRecursively(node, true, this.commands::remove);
+        this.commandTree.deleteRecursively(node, true, command -> {
+            this.commands.remove(command);
+            final CommandMetrics<C> metrics = this.commandMetrics;
+            if (metrics != null) {
+                metrics.commandDeleted(command);
+            }
+        });
 
         // And lastly we re-build the entire tree.
         this.commandTree.verifyAndRegister();
@@ -953,13 +1076,39 @@ public abstract class CommandManager<C> {
             final @NonNull CommandContext<C> context,
             final @NonNull LinkedList<@NonNull String> inputQueue
     ) {
-        this.servicePipeline.pump(new CommandPreprocessingContext<>(context, inputQueue))
+        return this.preprocessContext(new CommandPreprocessingContext<>(context, inputQueue));
+    }
+
+    /**
+     * Preprocess a command context instance
+     *
+     * @param preprocessingContext Preprocessing context, containing the command context and the input
+     * @return {@link State#ACCEPTED} if the command should be parsed and executed, else {@link State#REJECTED}
+     * @see #registerCommandPreProcessor(CommandPreprocessor) Register a command preprocessor
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public State preprocessContext(final @NonNull CommandPreprocessingContext<C> preprocessingContext) {
+        final CommandMetrics<C> metrics = this.commandMetrics;
+        final long start = metrics == null ? 0L : System.nanoTime();
+        this.servicePipeline.pump(preprocessingContext)
                 .through(new TypeToken<CommandPreprocessor<C>>() {
                 })
                 .getResult();
-        return context.<String>getOptional(AcceptingCommandPreprocessor.PROCESSED_INDICATOR_KEY).orElse("").isEmpty()
+        final State state = preprocessingContext.getCommandContext()
+                .<String>getOptional(AcceptingCommandPreprocessor.PROCESSED_INDICATOR_KEY).orElse("").isEmpty()
                 ? State.REJECTED
                 : State.ACCEPTED;
+        if (metrics != null) {
+            metrics.phaseCompleted(
+                    preprocessingContext.getCommandContext(),
+                    CommandMetrics.Phase.PREPROCESS,
+                    null,
+                    System.nanoTime() - start,
+                    state == State.ACCEPTED
+            );
+        }
+        return state;
     }
 
     /**
@@ -974,13 +1123,25 @@ public abstract class CommandManager<C> {
             final @NonNull CommandContext<C> context,
             final @NonNull Command<C> command
     ) {
+        final CommandMetrics<C> metrics = this.commandMetrics;
+        final long start = metrics == null ? 0L : System.nanoTime();
         this.servicePipeline.pump(new CommandPostprocessingContext<>(context, command))
                 .through(new TypeToken<CommandPostprocessor<C>>() {
                 })
                 .getResult();
-        return context.<String>getOptional(AcceptingCommandPostprocessor.PROCESSED_INDICATOR_KEY).orElse("").isEmpty()
+        final State state = context.<String>getOptional(AcceptingCommandPostprocessor.PROCESSED_INDICATOR_KEY).orElse("").isEmpty()
                 ? State.REJECTED
                 : State.ACCEPTED;
+        if (metrics != null) {
+            metrics.phaseCompleted(
+                    context,
+                    CommandMetrics.Phase.POSTPROCESS,
+                    command,
+                    System.nanoTime() - start,
+                    state == State.ACCEPTED
+            );
+        }
+        return state;
     }
 
     /**
@@ -1038,6 +1199,68 @@ public abstract class CommandManager<C> {
         this.commandSuggestionProcessor = commandSuggestionProcessor;
     }
 
+    /**
+     * Returns the command metrics that are notified about the time spent processing commands.
+     *
+     * @return the installed metrics, or {@code null} if no metrics are installed
+     * @since 1.9.0
+     * @see #commandMetrics(CommandMetrics)
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+    public @Nullable CommandMetrics<C> commandMetrics() {
+        return this.commandMetrics;
+    }
+
+    /**
+     * Sets the command metrics that are notified about the time spent processing commands.
+     * <p>
+     * When no metrics are installed, which is the default, the command processing stages are not timed. The
+     * {@link CommandContext#getArgumentTimings() argument timings} are controlled separately by
+     * {@link ManagerSettings#RECORD_ARGUMENT_TIMINGS}.
+     *
+     * @param commandMetrics the new command metrics, or {@code null} to disable metrics
+     * @since 1.9.0
+     * @see #commandMetrics()
+     * @see cloud.commandframework.metrics.HistogramCommandMetrics
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+    public void commandMetrics(final @Nullable CommandMetrics<C> commandMetrics) {
+        this.commandMetrics = commandMetrics;
+    }
+
+    /**
+     * Returns the maximum amount of suggestions that are collected by {@link #suggest(Object, String)}.
+     *
+     * @return the suggestion limit, or {@link SuggestionSink#UNLIMITED} if suggestions are not limited
+     * @since 1.9.0
+     * @see #suggestionLimit(int)
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+    public int suggestionLimit() {
+        return this.suggestionLimit;
+    }
+
+    /**
+     * Sets the maximum amount of suggestions that are collected by {@link #suggest(Object, String)}.
+     * <p>
+     * Once the limit has been reached, the command tree stops consulting suggestion providers and the
+     * {@link #commandSuggestionProcessor() suggestion processor} stops accepting suggestions. When a limit is set,
+     * candidate suggestions that do not start with the input being completed (ignoring case) are discarded
+     * before they are counted. Platforms that only display a fixed amount of suggestions should set this to
+     * that amount. Defaults to {@link SuggestionSink#UNLIMITED}.
+     *
+     * @param suggestionLimit the new suggestion limit. Must be positive
+     * @since 1.9.0
+     * @see #suggestionLimit()
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+    public void suggestionLimit(final int suggestionLimit) {
+        if (suggestionLimit <= 0) {
+            throw new IllegalArgumentException("Suggestion limit must be positive, was: " + suggestionLimit);
+        }
+        this.suggestionLimit = suggestionLimit;
+    }
+
     /**
      * Get the parser registry instance. The parser registry contains default
      * mappings to {@link ArgumentParser}
@@ -1428,7 +1651,40 @@ public abstract class CommandManager<C> {
          * @since 1.8.0
          */
         @API(status = API.Status.EXPERIMENTAL, since = "1.8.0")
-        LIBERAL_FLAG_PARSING
+        LIBERAL_FLAG_PARSING,
+
+        /**
+         * Cache permission results while the command tree parses a command or computes suggestions, so that
+         * each permission is only checked once per sender and invocation. Platforms may call
+         * {@link CommandManager#invalidatePermissionResults()} to discard results when permissions change.
+         *
+         * @since 1.9.0
+         */
+        @API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+        CACHE_PERMISSION_RESULTS,
+
+        /**
+         * Create lightweight parse failures. The exceptions created by the command tree and the standard parsers
+         * will not capture a stack trace, and the correct syntax and the argument chain of
+         * {@link cloud.commandframework.exceptions.InvalidSyntaxException} and
+         * {@link cloud.commandframework.exceptions.ArgumentParseException} are only computed once they are requested.
+         * <p>
+         * This is useful for platforms that receive a lot of invalid input, such as chat bots.
+         *
+         * @since 1.9.0
+         */
+        @API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+        LIGHTWEIGHT_PARSE_FAILURES,
+
+        /**
+         * Record the {@link CommandContext#getArgumentTimings() argument timings} of every parsed argument.
+         * This is enabled by default. Disabling it removes the timing overhead from argument parsing when no
+         * {@link CommandManager#commandMetrics(CommandMetrics) command metrics} are installed
+         *
+         * @since 1.9.0
+         */
+        @API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+        RECORD_ARGUMENT_TIMINGS
     }
 
 
@@ -24,24 +24,33 @@
 package cloud.commandframework;
 
 import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.arguments.CommandSyntaxFormatter;
 import cloud.commandframework.arguments.StaticArgument;
+import cloud.commandframework.arguments.SuggestionSink;
 import cloud.commandframework.arguments.compound.CompoundArgument;
 import cloud.commandframework.arguments.compound.FlagArgument;
+import cloud.commandframework.arguments.parser.ArgumentParseMemo;
 import cloud.commandframework.arguments.parser.ArgumentParseResult;
 import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.context.CommandInput;
 import cloud.commandframework.exceptions.AmbiguousNodeException;
 import cloud.commandframework.exceptions.ArgumentParseException;
+import cloud.commandframework.exceptions.CommandParseException;
 import cloud.commandframework.exceptions.InvalidCommandSenderException;
 import cloud.commandframework.exceptions.InvalidSyntaxException;
 import cloud.commandframework.exceptions.NoCommandInLeafException;
 import cloud.commandframework.exceptions.NoPermissionException;
 import cloud.commandframework.exceptions.NoSuchCommandException;
+import cloud.commandframework.internal.SimilarLiteralIndex;
 import cloud.commandframework.keys.CloudKey;
 import cloud.commandframework.keys.SimpleCloudKey;
 import cloud.commandframework.meta.CommandMeta;
+import cloud.commandframework.metrics.CommandMetrics;
 import cloud.commandframework.permission.CommandPermission;
 import cloud.commandframework.permission.OrPermission;
+import cloud.commandframework.permission.PermissionResultCache;
 import cloud.commandframework.types.tuples.Pair;
+import cloud.commandframework.util.StringUtils;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeToken;
 import java.util.ArrayList;
@@ -51,7 +60,8 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -59,9 +69,10 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -105,7 +116,26 @@ public final class CommandTree<C> {
             TypeToken.get(Integer.class)
     );
 
+    /**
+     * Stores the {@link PermissionResultCache} used while parsing a command or computing suggestions, when
+     * {@link CommandManager.ManagerSettings#CACHE_PERMISSION_RESULTS} is enabled
+     */
+    private static final CloudKey<PermissionResultCache<?>> PERMISSION_RESULT_CACHE_KEY = SimpleCloudKey.of(
+            "__permission_result_cache__",
+            new TypeToken<PermissionResultCache<?>>() {
+            }
+    );
+
+    /**
+     * Maximum amount of similar literals that are suggested for an unknown literal
+     */
+    private static final int MAX_SIMILAR_LITERALS = 5;
+
     private final Object commandLock = new Object();
+    /**
+     * Incremented whenever commands are inserted into or deleted from the tree
+     */
+    private final AtomicLong version = new AtomicLong();
 
     private final Node<CommandArgument<C, ?>> internalTree = new Node<>(null);
     private final CommandManager<C> commandManager;
@@ -148,12 +178,31 @@ public final class CommandTree<C> {
             );
         }
 
-        final Pair<@Nullable Command<C>, @Nullable Exception> pair = this.parseCommand(
-                new ArrayList<>(),
-                commandContext,
-                args,
-                this.internalTree
-        );
+        final CommandInput commandInput = this.commandInput(args);
+        final CommandMetrics<C> metrics = this.commandManager.commandMetrics();
+        final long start = metrics == null ? 0L : System.nanoTime();
+        Pair<@Nullable Command<C>, @Nullable Exception> pair = null;
+        this.storePermissionResultCache(commandContext);
+        try {
+            pair = this.parseCommand(
+                    new ArrayList<>(),
+                    commandContext,
+                    commandInput,
+                    this.internalTree
+            );
+        } finally {
+            this.writeBack(commandInput, args);
+            commandContext.remove(PERMISSION_RESULT_CACHE_KEY);
+            if (metrics != null) {
+                metrics.phaseCompleted(
+                        commandContext,
+                        CommandMetrics.Phase.PARSE,
+                        pair == null ? null : pair.getFirst(),
+                        System.nanoTime() - start,
+                        pair != null && pair.getSecond() == null
+                );
+            }
+        }
         if (pair.getFirst() != null) {
             final Command<C> command = pair.getFirst();
             if (command.getSenderType().isPresent() && !command.getSenderType().get()
@@ -174,10 +223,10 @@ public final class CommandTree<C> {
     private @NonNull Pair<@Nullable Command<C>, @Nullable Exception> parseCommand(
             final @NonNull List<@NonNull CommandArgument<C, ?>> parsedArguments,
             final @NonNull CommandContext<C> commandContext,
-            final @NonNull Queue<@NonNull String> commandQueue,
+            final @NonNull CommandInput commandQueue,
             final @NonNull Node<@Nullable CommandArgument<C, ?>> root
     ) {
-        CommandPermission permission = this.isPermitted(commandContext.getSender(), root);
+        CommandPermission permission = this.isPermitted(commandContext, root);
         if (permission != null) {
             return Pair.of(null, new NoPermissionException(
                     permission,
@@ -201,69 +250,61 @@ public final class CommandTree<C> {
         }
 
         /* There are 0 or more static arguments as children. No variable child arguments are present */
-        if (root.children.isEmpty()) {
+        if (root.getChildren().isEmpty()) {
             /* We are at the bottom. Check if there's a command attached, in which case we're done */
             if (root.getValue() != null && root.getValue().getOwningCommand() != null) {
                 if (commandQueue.isEmpty()) {
                     return Pair.of(this.cast(root.getValue().getOwningCommand()), null);
                 } else {
                     /* Too many arguments. We have a unique path, so we can send the entire context */
-                    return Pair.of(null, new InvalidSyntaxException(
-                            this.commandManager.commandSyntaxFormatter()
-                                    .apply(parsedArguments, root),
-                            commandContext.getSender(), this.getChain(root)
-                            .stream()
-                            .filter(node -> node.getValue() != null)
-                            .map(Node::getValue)
-                            .collect(Collectors.toList())
+                    return Pair.of(null, this.invalidSyntax(
+                            commandContext,
+                            parsedArguments,
+                            root,
+                            root
                     ));
                 }
             } else {
                 /* Too many arguments. We have a unique path, so we can send the entire context */
-                return Pair.of(null, new InvalidSyntaxException(
-                        this.commandManager.commandSyntaxFormatter()
-                                .apply(parsedArguments, root),
-                        commandContext.getSender(), this.getChain(root)
-                        .stream()
-                        .filter(node -> node.getValue() != null)
-                        .map(Node::getValue)
-                        .collect(Collectors.toList())
+                return Pair.of(null, this.invalidSyntax(
+                        commandContext,
+                        parsedArguments,
+                        root,
+                        root
                 ));
             }
         } else {
-            final Iterator<Node<CommandArgument<C, ?>>> childIterator = root.getChildren().iterator();
-            if (childIterator.hasNext()) {
-                while (childIterator.hasNext()) {
-                    final Node<CommandArgument<C, ?>> child = childIterator.next();
-                    if (child.getValue() != null) {
-                        final CommandArgument<C, ?> argument = child.getValue();
-                        final CommandContext.ArgumentTiming argumentTiming = commandContext.createTiming(argument);
-
-                        argumentTiming.setStart(System.nanoTime());
-                        commandContext.setCurrentArgument(argument);
-                        final ArgumentParseResult<?> result = argument.getParser().parse(commandContext, commandQueue);
-                        argumentTiming.setEnd(System.nanoTime(), result.getFailure().isPresent());
-
-                        if (result.getParsedValue().isPresent()) {
-                            parsedArguments.add(child.getValue());
-                            return this.parseCommand(parsedArguments, commandContext, commandQueue, child);
-                        }
-                    }
+            /* Resolve the literal through the index of the node, rather than attempting to parse every literal child */
+            final String literal = commandQueue.peek();
+            final Node<CommandArgument<C, ?>> literalChild = literal == null ? null : root.getLiteralChildIgnoreCase(literal);
+            if (literalChild != null && this.attemptParseChild(commandContext, commandQueue, literalChild)) {
+                parsedArguments.add(literalChild.getValue());
+                return this.parseCommand(parsedArguments, commandContext, commandQueue, literalChild);
+            }
+            for (final Node<CommandArgument<C, ?>> child : root.getChildren()) {
+                if (child.getValue() == null || child.getValue() instanceof StaticArgument) {
+                    continue;
+                }
+                if (this.attemptParseChild(commandContext, commandQueue, child)) {
+                    parsedArguments.add(child.getValue());
+                    return this.parseCommand(parsedArguments, commandContext, commandQueue, child);
                 }
             }
             /* We could not find a match */
             if (root.equals(this.internalTree)) {
-                return Pair.of(null, new NoSuchCommandException(
+                final NoSuchCommandException exception = new NoSuchCommandException(
                         commandContext.getSender(),
                         this.getChain(root).stream().map(Node::getValue).collect(Collectors.toList()),
                         this.stringOrEmpty(commandQueue.peek())
-                ));
+                );
+                this.attachSimilarLiterals(exception, commandContext, root, literal);
+                return Pair.of(null, exception);
             }
             /* If we couldn't match a child, check if there's a command attached and execute it */
             if (root.getValue() != null && root.getValue().getOwningCommand() != null && commandQueue.isEmpty()) {
                 final Command<C> command = root.getValue().getOwningCommand();
-                if (!this.getCommandManager().hasPermission(
-                        commandContext.getSender(),
+                if (!this.hasPermission(
+                        commandContext,
                         command.getCommandPermission()
                 )) {
                     return Pair.of(null, new NoPermissionException(
@@ -279,40 +320,108 @@ public final class CommandTree<C> {
                 return Pair.of(root.getValue().getOwningCommand(), null);
             }
             /* We know that there's no command and we also cannot match any of the children */
-            return Pair.of(null, new InvalidSyntaxException(
-                    this.commandManager.commandSyntaxFormatter()
-                            .apply(parsedArguments, root),
-                    commandContext.getSender(), this.getChain(root)
-                    .stream()
-                    .filter(node -> node.getValue() != null)
-                    .map(Node::getValue)
-                    .collect(Collectors.toList())
-            ));
+            final InvalidSyntaxException exception = this.invalidSyntax(
+                    commandContext,
+                    parsedArguments,
+                    root,
+                    root
+            );
+            this.attachSimilarLiterals(exception, commandContext, root, literal);
+            return Pair.of(null, exception);
+        }
+    }
+
+    /**
+     * Let the exception look up the literal children of the node that are similar to the input that
+     * failed to match them, once the similar literals are requested
+     *
+     * @param exception      Exception caused by the input
+     * @param commandContext Command context
+     * @param node           Node whose literal children did not match the input
+     * @param input          Input that did not match, or {@code null} if there was no input
+     */
+    private void attachSimilarLiterals(
+            final @NonNull CommandParseException exception,
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> node,
+            final @Nullable String input
+    ) {
+        if (input == null || node.children.foldedLiterals.isEmpty()) {
+            return;
+        }
+        exception.similarLiterals(() -> node.similarLiteralIndex().find(
+                input,
+                MAX_SIMILAR_LITERALS,
+                child -> this.isPermitted(commandContext, child) == null
+        ));
+    }
+
+    private boolean attemptParseChild(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandInput commandQueue,
+            final @NonNull Node<@NonNull CommandArgument<C, ?>> child
+    ) {
+        final CommandArgument<C, ?> argument = Objects.requireNonNull(child.getValue());
+        final CommandMetrics<C> metrics = this.commandManager.commandMetrics();
+        final boolean timed = this.isArgumentTimed(metrics);
+        final long start = timed ? System.nanoTime() : 0L;
+
+        commandContext.setCurrentArgument(argument);
+        final ArgumentParseResult<?> result = this.parseArgument(commandContext, argument, commandQueue);
+        if (timed) {
+            this.recordArgumentTiming(metrics, commandContext, argument, start, result);
+        }
+
+        return result.getParsedValue().isPresent();
+    }
+
+    /**
+     * Parse the value of an argument, using the memoized value for the next token if the argument
+     * {@link CommandArgument#memoizeParsedValues(int) memoizes its parsed values}
+     *
+     * @param commandContext Command context
+     * @param argument       Argument to parse
+     * @param commandQueue   Input queue
+     * @param <T>            Value type
+     * @return Parse result
+     */
+    private <T> @NonNull ArgumentParseResult<T> parseArgument(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandArgument<C, T> argument,
+            final @NonNull CommandInput commandQueue
+    ) {
+        final ArgumentParseMemo<T> memo = argument.parseMemo();
+        final String token = commandQueue.peek();
+        if (memo == null || token == null) {
+            return argument.getParser().parse(commandContext, commandQueue);
+        }
+        final T memoized = memo.get(token);
+        if (memoized != null) {
+            commandQueue.remove();
+            return ArgumentParseResult.success(memoized);
+        }
+        final int size = commandQueue.size();
+        final ArgumentParseResult<T> result = argument.getParser().parse(commandContext, commandQueue);
+        /* Only memoize values that were parsed from exactly the token they are keyed on */
+        if (result.getParsedValue().isPresent() && commandQueue.size() == size - 1) {
+            memo.put(token, result.getParsedValue().get());
         }
+        return result;
     }
 
     private @NonNull Pair<@Nullable Command<C>, @Nullable Exception> attemptParseUnambiguousChild(
             final @NonNull List<@NonNull CommandArgument<C, ?>> parsedArguments,
             final @NonNull CommandContext<C> commandContext,
             final @NonNull Node<@Nullable CommandArgument<C, ?>> root,
-            final @NonNull Queue<String> commandQueue
+            final @NonNull CommandInput commandQueue
     ) {
         CommandPermission permission;
         final List<Node<CommandArgument<C, ?>>> children = root.getChildren();
 
         // Check whether it matches any of the static arguments
         // If so, do not attempt parsing as a dynamic argument
-        if (!commandQueue.isEmpty()) {
-            final String literal = commandQueue.peek();
-            final boolean matchesLiteral = children.stream()
-                    .filter(n -> n.getValue() instanceof StaticArgument)
-                    .map(n -> (StaticArgument<?>) n.getValue())
-                    .flatMap(arg -> Stream.concat(Stream.of(arg.getName()), arg.getAliases().stream()))
-                    .anyMatch(arg -> arg.equals(literal));
-
-            if (matchesLiteral) {
-                return Pair.of(null, null);
-            }
+        if (!commandQueue.isEmpty() && root.getLiteralChild(commandQueue.peek()) != null) {
+            return Pair.of(null, null);
         }
 
         // If it does not match a literal, try to find the one argument node, if it exists
@@ -328,7 +437,7 @@ public final class CommandTree<C> {
             final Node<CommandArgument<C, ?>> child = argumentNodes.get(0);
 
             // The value has to be a variable
-            permission = this.isPermitted(commandContext.getSender(), child);
+            permission = this.isPermitted(commandContext, child);
             if (!commandQueue.isEmpty() && permission != null) {
                 return Pair.of(null, new NoPermissionException(
                         permission,
@@ -363,8 +472,8 @@ public final class CommandTree<C> {
                     } else if (child.isLeaf()) {
                         if (root.getValue() != null && root.getValue().getOwningCommand() != null) {
                             final Command<C> command = root.getValue().getOwningCommand();
-                            if (!this.getCommandManager().hasPermission(
-                                    commandContext.getSender(),
+                            if (!this.hasPermission(
+                                    commandContext,
                                     command.getCommandPermission()
                             )) {
                                 return Pair.of(null, new NoPermissionException(
@@ -380,24 +489,18 @@ public final class CommandTree<C> {
                             return Pair.of(command, null);
                         }
                         /* Not enough arguments */
-                        return Pair.of(null, new InvalidSyntaxException(
-                                this.commandManager.commandSyntaxFormatter()
-                                        .apply(Objects.requireNonNull(
-                                                        child.getValue()
-                                                                .getOwningCommand())
-                                                .getArguments(), child),
-                                commandContext.getSender(), this.getChain(root)
-                                .stream()
-                                .filter(node -> node.getValue() != null)
-                                .map(Node::getValue)
-                                .collect(Collectors.toList())
+                        return Pair.of(null, this.invalidSyntax(
+                                commandContext,
+                                Objects.requireNonNull(child.getValue().getOwningCommand()).getArguments(),
+                                child,
+                                root
                         ));
                     } else {
                         /* The child is not a leaf, but may have an intermediary executor, attempt to use it */
                         if (root.getValue() != null && root.getValue().getOwningCommand() != null) {
                             final Command<C> command = root.getValue().getOwningCommand();
-                            if (!this.getCommandManager().hasPermission(
-                                    commandContext.getSender(),
+                            if (!this.hasPermission(
+                                    commandContext,
                                     command.getCommandPermission()
                             )) {
                                 return Pair.of(null, new NoPermissionException(
@@ -413,23 +516,21 @@ public final class CommandTree<C> {
                             return Pair.of(command, null);
                         }
                         /* Child does not have a command and so we cannot proceed */
-                        return Pair.of(null, new InvalidSyntaxException(
-                                this.commandManager.commandSyntaxFormatter()
-                                        .apply(parsedArguments, root),
-                                commandContext.getSender(), this.getChain(root)
-                                .stream()
-                                .filter(node -> node.getValue() != null)
-                                .map(Node::getValue)
-                                .collect(Collectors.toList())
+                        return Pair.of(null, this.invalidSyntax(
+                                commandContext,
+                                parsedArguments,
+                                root,
+                                root
                         ));
                     }
                 }
 
                 final CommandArgument<C, ?> argument = child.getValue();
-                final CommandContext.ArgumentTiming argumentTiming = commandContext.createTiming(argument);
+                final CommandMetrics<C> metrics = this.commandManager.commandMetrics();
+                final boolean timed = this.isArgumentTimed(metrics);
 
                 // START: Parsing
-                argumentTiming.setStart(System.nanoTime());
+                final long start = timed ? System.nanoTime() : 0L;
                 final ArgumentParseResult<?> result;
                 final ArgumentParseResult<Boolean> preParseResult = child.getValue().preprocess(
                         commandContext,
@@ -437,28 +538,27 @@ public final class CommandTree<C> {
                 );
                 if (!preParseResult.getFailure().isPresent() && preParseResult.getParsedValue().orElse(false)) {
                     commandContext.setCurrentArgument(argument);
-                    result = argument.getParser().parse(commandContext, commandQueue);
+                    result = this.parseArgument(commandContext, argument, commandQueue);
                 } else {
                     result = preParseResult;
                 }
-                argumentTiming.setEnd(System.nanoTime(), result.getFailure().isPresent());
+                if (timed) {
+                    this.recordArgumentTiming(metrics, commandContext, argument, start, result);
+                }
                 // END: Parsing
 
                 if (result.getParsedValue().isPresent()) {
-                    commandContext.store(child.getValue().getName(), result.getParsedValue().get());
+                    this.storeArgumentValue(commandContext, argument, result.getParsedValue().get());
                     if (child.isLeaf()) {
                         if (commandQueue.isEmpty()) {
                             return Pair.of(this.cast(child.getValue().getOwningCommand()), null);
                         } else {
                             /* Too many arguments. We have a unique path, so we can send the entire context */
-                            return Pair.of(null, new InvalidSyntaxException(
-                                    this.commandManager.commandSyntaxFormatter()
-                                            .apply(parsedArguments, child),
-                                    commandContext.getSender(), this.getChain(root)
-                                    .stream()
-                                    .filter(node -> node.getValue() != null)
-                                    .map(Node::getValue)
-                                    .collect(Collectors.toList())
+                            return Pair.of(null, this.invalidSyntax(
+                                    commandContext,
+                                    parsedArguments,
+                                    child,
+                                    root
                             ));
                         }
                     } else {
@@ -466,14 +566,7 @@ public final class CommandTree<C> {
                         return this.parseCommand(parsedArguments, commandContext, commandQueue, child);
                     }
                 } else if (result.getFailure().isPresent()) {
-                    return Pair.of(null, new ArgumentParseException(
-                            result.getFailure().get(), commandContext.getSender(),
-                            this.getChain(child)
-                                    .stream()
-                                    .filter(node -> node.getValue() != null)
-                                    .map(Node::getValue)
-                                    .collect(Collectors.toList())
-                    ));
+                    return Pair.of(null, this.argumentParseFailure(commandContext, result.getFailure().get(), child));
                 }
             }
         }
@@ -486,24 +579,127 @@ public final class CommandTree<C> {
      *
      * @param context      Context instance
      * @param commandQueue Input queue
-     * @return String suggestions. These should be filtered based on {@link String#startsWith(String)}
+     * @return String suggestions. These should be filtered based on {@link String#startsWith(String)}. At most
+     *         {@link CommandManager#suggestionLimit()} suggestions are returned
      */
     public @NonNull List<@NonNull String> getSuggestions(
             final @NonNull CommandContext<C> context,
             final @NonNull Queue<@NonNull String> commandQueue
     ) {
-        return this.getSuggestions(context, commandQueue, this.internalTree);
+        final int limit = this.commandManager.suggestionLimit();
+        final SuggestionSink sink = limit == SuggestionSink.UNLIMITED
+                ? SuggestionSink.unbounded()
+                : SuggestionSink.bounded(limit);
+        final CommandInput commandInput = this.commandInput(commandQueue);
+        this.storePermissionResultCache(context);
+        try {
+            this.getSuggestions(context, commandInput, this.internalTree, sink);
+        } finally {
+            this.writeBack(commandInput, commandQueue);
+            context.remove(PERMISSION_RESULT_CACHE_KEY);
+        }
+        return sink.suggestions();
     }
 
-    @SuppressWarnings("MixedMutabilityReturnType")
-    private @NonNull List<@NonNull String> getSuggestions(
-            final @NonNull CommandContext<C> commandContext,
+    /**
+     * Get suggestions from the input queue, resuming the traversal from the given node rather than from the root of the tree.
+     * <p>
+     * The queue must still contain the full input. The path from the root of the tree to the node has to consist of
+     * {@link StaticArgument literals} only, which are then matched against the leading tokens of the queue without visiting
+     * any of their siblings. If the node cannot be resumed from, or the leading tokens do not lead to it, the suggestions are
+     * calculated from the root of the tree instead. In both cases the suggestions are the same as the ones returned by
+     * {@link #getSuggestions(CommandContext, Queue)}
+     *
+     * @param context      Context instance
+     * @param commandQueue Input queue
+     * @param node         Literal node to resume the traversal from
+     * @return String suggestions. These should be filtered based on {@link String#startsWith(String)}. At most
+     *         {@link CommandManager#suggestionLimit()} suggestions are returned
+     * @since 1.9.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+    public @NonNull List<@NonNull String> getSuggestions(
+            final @NonNull CommandContext<C> context,
             final @NonNull Queue<@NonNull String> commandQueue,
-            final @NonNull Node<@Nullable CommandArgument<C, ?>> root
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> node
+    ) {
+        final int limit = this.commandManager.suggestionLimit();
+        final SuggestionSink sink = limit == SuggestionSink.UNLIMITED
+                ? SuggestionSink.unbounded()
+                : SuggestionSink.bounded(limit);
+        final CommandInput commandInput = this.commandInput(commandQueue);
+        this.storePermissionResultCache(context);
+        try {
+            final Node<CommandArgument<C, ?>> start = this.resumeLiteralPath(context, commandInput, node);
+            if (start != null) {
+                this.getSuggestions(context, commandInput, start, sink);
+            }
+        } finally {
+            this.writeBack(commandInput, commandQueue);
+            context.remove(PERMISSION_RESULT_CACHE_KEY);
+        }
+        return sink.suggestions();
+    }
+
+    /**
+     * Consume the leading literals of the input that lead from the root of the tree to the given node, doing the same
+     * checks as the regular suggestion traversal would do for each of them
+     *
+     * @param commandContext Command context
+     * @param commandQueue   Input queue
+     * @param node           Literal node to resume the traversal from
+     * @return Node to continue the traversal from, which is the root of the tree if the input does not lead to the node,
+     *         or {@code null} if the sender is not permitted to use one of the literals on the path
+     */
+    private @Nullable Node<@Nullable CommandArgument<C, ?>> resumeLiteralPath(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandInput commandQueue,
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> node
+    ) {
+        final LinkedList<Node<CommandArgument<C, ?>>> path = new LinkedList<>();
+        Node<CommandArgument<C, ?>> tail = node;
+        while (tail.getParent() != null) {
+            if (!(tail.getValue() instanceof StaticArgument)) {
+                return this.internalTree;
+            }
+            path.addFirst(tail);
+            tail = tail.getParent();
+        }
+        if (!tail.equals(this.internalTree)) {
+            return this.internalTree;
+        }
+
+        final CommandInput commandQueueCopy = commandQueue.copy();
+        Node<CommandArgument<C, ?>> current = this.internalTree;
+        for (final Node<CommandArgument<C, ?>> literal : path) {
+            if (this.isPermitted(commandContext, current) != null) {
+                return null;
+            }
+            final String token = commandQueue.peek();
+            if (token == null || !literal.equals(current.getLiteralChildIgnoreCase(token))) {
+                commandQueue.restore(commandQueueCopy);
+                return this.internalTree;
+            }
+            commandContext.setCurrentArgument(literal.getValue());
+            final ArgumentParseResult<?> result = literal.getValue().getParser().parse(commandContext, commandQueue);
+            if (!result.getParsedValue().isPresent() || commandQueue.isEmpty()) {
+                commandQueue.restore(commandQueueCopy);
+                return this.internalTree;
+            }
+            current = literal;
+        }
+        return current;
+    }
+
+    private void getSuggestions(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandInput commandQueue,
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> root,
+            final @NonNull SuggestionSink sink
     ) {
         /* If the sender isn't allowed to access the root node, no suggestions are needed */
-        if (this.isPermitted(commandContext.getSender(), root) != null) {
-            return Collections.emptyList();
+        if (this.isPermitted(commandContext, root) != null) {
+            return;
         }
         final List<Node<CommandArgument<C, ?>>> children = root.getChildren();
 
@@ -516,42 +712,32 @@ public final class CommandTree<C> {
          * Try to see if any of the static literals can be parsed (matches exactly)
          * If so, enter that node of the command tree for deeper suggestions
          */
-        if (!staticArguments.isEmpty() && !commandQueue.isEmpty()) {
-            final Queue<String> commandQueueCopy = new LinkedList<String>(commandQueue);
-            final Iterator<Node<CommandArgument<C, ?>>> childIterator = staticArguments.iterator();
-            if (childIterator.hasNext()) {
-                while (childIterator.hasNext()) {
-                    final Node<CommandArgument<C, ?>> child = childIterator.next();
-                    if (child.getValue() != null) {
-                        commandContext.setCurrentArgument(child.getValue());
-                        final ArgumentParseResult<?> result = child.getValue().getParser().parse(
-                                commandContext,
-                                commandQueue
-                        );
-                        if (result.getParsedValue().isPresent()) {
-                            // If further arguments are specified, dive into this literal
-                            if (!commandQueue.isEmpty()) {
-                                return this.getSuggestions(commandContext, commandQueue, child);
-                            }
-
-                            // We've already matched one exactly, no use looking further
-                            break;
-                        }
-                    }
-                }
+        final Node<CommandArgument<C, ?>> literalChild = commandQueue.isEmpty()
+                ? null
+                : root.getLiteralChildIgnoreCase(commandQueue.peek());
+        if (literalChild != null) {
+            final CommandInput commandQueueCopy = commandQueue.copy();
+            commandContext.setCurrentArgument(literalChild.getValue());
+            final ArgumentParseResult<?> result = literalChild.getValue().getParser().parse(
+                    commandContext,
+                    commandQueue
+            );
+            // If further arguments are specified, dive into this literal
+            if (result.getParsedValue().isPresent() && !commandQueue.isEmpty()) {
+                this.getSuggestions(commandContext, commandQueue, literalChild, sink);
+                return;
             }
 
             // Restore original queue
-            commandQueue.clear();
-            commandQueue.addAll(commandQueueCopy);
+            commandQueue.restore(commandQueueCopy);
         }
 
         /* Calculate suggestions for the literal arguments */
-        final List<String> suggestions = new LinkedList<>();
         if (commandQueue.size() <= 1) {
             final String literalValue = this.stringOrEmpty(commandQueue.peek());
+            sink.prefix(literalValue);
             for (final Node<CommandArgument<C, ?>> argument : staticArguments) {
-                if (this.isPermitted(commandContext.getSender(), argument) != null
+                if (this.isPermitted(commandContext, argument) != null
                         || ((StaticArgument<?>) argument.value).getHiddenLocations().contains(CommandMeta.Location.SUGGESTIONS)) {
                     continue;
                 }
@@ -562,7 +748,9 @@ public final class CommandTree<C> {
                     if (suggestion.equals(literalValue) || !suggestion.startsWith(literalValue)) {
                         continue;
                     }
-                    suggestions.add(suggestion);
+                    if (!sink.accept(suggestion)) {
+                        return;
+                    }
                 }
             }
         }
@@ -570,21 +758,23 @@ public final class CommandTree<C> {
         /* Calculate suggestions for the variable argument, if one exists */
         for (final Node<CommandArgument<C, ?>> child : root.getChildren()) {
             if (child.getValue() != null && !(child.getValue() instanceof StaticArgument)) {
-                suggestions.addAll(this.suggestionsForDynamicArgument(commandContext, commandQueue, child));
+                this.suggestionsForDynamicArgument(commandContext, commandQueue, child, sink);
+                if (sink.isFull()) {
+                    return;
+                }
             }
         }
-
-        return suggestions;
     }
 
-    private @NonNull List<@NonNull String> suggestionsForDynamicArgument(
+    private void suggestionsForDynamicArgument(
             final @NonNull CommandContext<C> commandContext,
-            final @NonNull Queue<@NonNull String> commandQueue,
-            final @NonNull Node<@Nullable CommandArgument<C, ?>> child
+            final @NonNull CommandInput commandQueue,
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> child,
+            final @NonNull SuggestionSink sink
     ) {
         /* If argument has no value associated, break out early */
         if (child.getValue() == null) {
-            return Collections.emptyList();
+            return;
         }
 
         /* When we get in here, we need to treat compound arguments a little differently */
@@ -630,23 +820,25 @@ public final class CommandTree<C> {
         }
 
         if (commandQueue.isEmpty()) {
-            return Collections.emptyList();
+            return;
         } else if (child.isLeaf()) {
             final String input;
             if (commandQueue.size() == 1) {
                 input = commandQueue.peek();
             } else {
                 input = child.getValue() instanceof CompoundArgument
-                        ? ((LinkedList<String>) commandQueue).getLast()
-                        : String.join(" ", commandQueue);
+                        ? commandQueue.getLast()
+                        : commandQueue.remainingInput();
             }
-            return this.directSuggestions(commandContext, child, input);
+            this.directSuggestions(commandContext, child, input, sink);
+            return;
         } else if (commandQueue.peek().isEmpty()) {
-            return this.directSuggestions(commandContext, child, commandQueue.peek());
+            this.directSuggestions(commandContext, child, commandQueue.peek(), sink);
+            return;
         }
 
         // Store original input command queue before the parsers below modify it
-        final Queue<String> commandQueueOriginal = new LinkedList<>(commandQueue);
+        final CommandInput commandQueueOriginal = commandQueue.copy();
 
         // START: Preprocessing
         final ArgumentParseResult<Boolean> preParseResult = child.getValue().preprocess(
@@ -660,40 +852,106 @@ public final class CommandTree<C> {
         if (preParseSuccess) {
             // START: Parsing
             commandContext.setCurrentArgument(child.getValue());
-            final ArgumentParseResult<?> result = child.getValue().getParser().parse(commandContext, commandQueue);
+            final ArgumentParseResult<?> result = this.parseArgument(commandContext, child.getValue(), commandQueue);
             final Optional<?> parsedValue = result.getParsedValue();
             final boolean parseSuccess = parsedValue.isPresent();
 
             if (parseSuccess && !commandQueue.isEmpty()) {
                 // the current argument at the position is parsable and there are more arguments following
-                commandContext.store(child.getValue().getName(), parsedValue.get());
-                return this.getSuggestions(commandContext, commandQueue, child);
+                this.storeArgumentValue(commandContext, child.getValue(), parsedValue.get());
+                this.getSuggestions(commandContext, commandQueue, child, sink);
+                return;
             } else if (!parseSuccess && commandQueueOriginal.size() > 1) {
                 // at this point there should normally be no need to reset the command queue as we expect
                 // users to only take out an argument if the parse succeeded. Just to be sure we reset anyway
-                commandQueue.clear();
-                commandQueue.addAll(commandQueueOriginal);
+                commandQueue.restore(commandQueueOriginal);
 
                 // there are more arguments following but the current argument isn't matching - there
                 // is no need to collect any further suggestions
-                return Collections.emptyList();
+                return;
             }
             // END: Parsing
         }
 
         // Restore original command input queue
-        commandQueue.clear();
-        commandQueue.addAll(commandQueueOriginal);
+        commandQueue.restore(commandQueueOriginal);
 
         if (!preParseSuccess && commandQueue.size() > 1) {
             // The preprocessor denied the argument, and there are more arguments following the current one
             // Therefore we shouldn't list the suggestions of the current argument, as clearly the suggestions of
             // one of the following arguments is requested
-            return Collections.emptyList();
+            return;
         }
 
         // Fallback: use suggestion provider of argument
-        return this.directSuggestions(commandContext, child, commandQueue.peek());
+        this.directSuggestions(commandContext, child, commandQueue.peek(), sink);
+    }
+
+    private @NonNull InvalidSyntaxException invalidSyntax(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull List<@NonNull CommandArgument<C, ?>> arguments,
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> syntaxNode,
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> chainNode
+    ) {
+        final CommandSyntaxFormatter<C> syntaxFormatter = this.commandManager.commandSyntaxFormatter();
+        if (!commandContext.isLightweightParseFailures()) {
+            return new InvalidSyntaxException(
+                    syntaxFormatter.apply(arguments, syntaxNode),
+                    commandContext.getSender(),
+                    this.getChainArguments(chainNode)
+            );
+        }
+        /* The parsed arguments may be modified after the failure has been created, so we store a copy */
+        final List<CommandArgument<C, ?>> argumentsCopy = new ArrayList<>(arguments);
+        return new InvalidSyntaxException(
+                () -> syntaxFormatter.apply(argumentsCopy, syntaxNode),
+                commandContext.getSender(),
+                () -> this.getChainArguments(chainNode),
+                true
+        );
+    }
+
+    private @NonNull ArgumentParseException argumentParseFailure(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull Throwable failure,
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> chainNode
+    ) {
+        if (!commandContext.isLightweightParseFailures()) {
+            return new ArgumentParseException(failure, commandContext.getSender(), this.getChainArguments(chainNode));
+        }
+        return new ArgumentParseException(
+                failure,
+                commandContext.getSender(),
+                () -> this.getChainArguments(chainNode),
+                true
+        );
+    }
+
+    private @NonNull List<@NonNull CommandArgument<?, ?>> getChainArguments(
+            final @NonNull Node<@Nullable CommandArgument<C, ?>> end
+    ) {
+        final List<CommandArgument<?, ?>> arguments = new ArrayList<>();
+        for (final Node<CommandArgument<C, ?>> node : this.getChain(end)) {
+            if (node.getValue() != null) {
+                arguments.add(node.getValue());
+            }
+        }
+        return arguments;
+    }
+
+    private @NonNull CommandInput commandInput(final @NonNull Queue<@NonNull String> queue) {
+        if (queue instanceof CommandInput) {
+            return (CommandInput) queue;
+        }
+        return CommandInput.of(queue);
+    }
+
+    private void writeBack(final @NonNull CommandInput commandInput, final @NonNull Queue<@NonNull String> queue) {
+        /* Queues that were not supplied as command input are expected to reflect what was consumed by the tree */
+        if (commandInput != queue) {
+            queue.clear();
+            queue.addAll(commandInput);
+        }
     }
 
     private @NonNull String stringOrEmpty(final @Nullable String string) {
@@ -703,29 +961,33 @@ public final class CommandTree<C> {
         return string;
     }
 
-    private @NonNull List<@NonNull String> directSuggestions(
+    private void directSuggestions(
             final @NonNull CommandContext<C> commandContext,
             final @NonNull Node<@NonNull CommandArgument<C, ?>> current,
-            final @NonNull String text) {
+            final @NonNull String text,
+            final @NonNull SuggestionSink sink
+    ) {
         CommandArgument<C, ?> argument = Objects.requireNonNull(current.getValue());
 
         commandContext.setCurrentArgument(argument);
-        List<String> suggestions = argument.getSuggestionsProvider().apply(commandContext, text);
+        sink.prefix(text);
+        if (!sink.acceptAll(argument.getSuggestionsProvider().apply(commandContext, text))) {
+            return;
+        }
 
         // When suggesting a flag, potentially suggest following nodes too
         if (argument instanceof FlagArgument
                 && !current.getChildren().isEmpty() // Has children
                 && !text.startsWith("-") // Not a flag
                 && !commandContext.getOptional(FlagArgument.FLAG_META_KEY).isPresent()) {
-            suggestions = new ArrayList<>(suggestions);
             for (final Node<CommandArgument<C, ?>> child : current.getChildren()) {
                 argument = Objects.requireNonNull(child.getValue());
                 commandContext.setCurrentArgument(argument);
-                suggestions.addAll(argument.getSuggestionsProvider().apply(commandContext, text));
+                if (!sink.acceptAll(argument.getSuggestionsProvider().apply(commandContext, text))) {
+                    return;
+                }
             }
         }
-
-        return suggestions;
     }
 
     /**
@@ -733,54 +995,172 @@ public final class CommandTree<C> {
      *
      * @param command Command to insert
      */
-    @SuppressWarnings("unchecked")
     public void insertCommand(final @NonNull Command<C> command) {
+        this.insertCommands(Collections.singletonList(command));
+    }
+
+    /**
+     * Insert several commands into the command tree. The affected parts of the tree are verified
+     * once all commands have been inserted, rather than once per command.
+     * <p>
+     * If any of the commands cannot be inserted, none of them are: the nodes that were created for the
+     * commands are removed again before the exception is thrown, and no command is registered
+     *
+     * @param commands Commands to insert
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public void insertCommands(final @NonNull Collection<? extends Command<C>> commands) {
         synchronized (this.commandLock) {
-            Node<CommandArgument<C, ?>> node = this.internalTree;
-            FlagArgument<C> flags = command.flagArgument();
+            final List<Node<CommandArgument<C, ?>>> createdNodes = new ArrayList<>();
+            /* Owners are only assigned once the batch has been verified, so that a failed batch leaves no trace */
+            final Map<Node<CommandArgument<C, ?>>, Command<C>> owners = new IdentityHashMap<>();
+            final List<Node<CommandArgument<C, ?>>> nodes = new ArrayList<>(commands.size());
+            final Set<Node<CommandArgument<C, ?>>> leaves;
+            try {
+                for (final Command<C> command : commands) {
+                    nodes.add(this.insertCommandPath(command, createdNodes, owners));
+                }
+                leaves = this.verify(nodes, owners);
+            } catch (final RuntimeException e) {
+                for (int i = createdNodes.size() - 1; i >= 0; i--) {
+                    final Node<CommandArgument<C, ?>> node = createdNodes.get(i);
+                    Objects.requireNonNull(node.getParent()).removeChild(node);
+                }
+                throw e;
+            }
+            owners.forEach((node, command) -> Objects.requireNonNull(node.getValue()).setOwningCommand(command));
+            this.register(leaves);
+            this.version.incrementAndGet();
+        }
+    }
 
-            List<CommandArgument<C, ?>> nonFlagArguments = command.nonFlagArguments();
+    /**
+     * Insert the nodes of a command chain. The node at the end of the chain is claimed for the command in the
+     * given owners, rather than by setting its owning command
+     *
+     * @param command      Command to insert
+     * @param createdNodes Nodes that have been created for the batch, which new nodes are appended to
+     * @param owners       Nodes that have been claimed by commands of the batch
+     * @return Node at the end of the command chain
+     */
+    @SuppressWarnings("unchecked")
+    private @NonNull Node<@Nullable CommandArgument<C, ?>> insertCommandPath(
+            final @NonNull Command<C> command,
+            final @NonNull List<@NonNull Node<@Nullable CommandArgument<C, ?>>> createdNodes,
+            final @NonNull Map<@NonNull Node<@Nullable CommandArgument<C, ?>>, @NonNull Command<C>> owners
+    ) {
+        Node<CommandArgument<C, ?>> node = this.internalTree;
+        FlagArgument<C> flags = command.flagArgument();
 
-            int flagStartIdx = this.flagStartIndex(nonFlagArguments, flags);
+        List<CommandArgument<C, ?>> nonFlagArguments = command.nonFlagArguments();
 
-            for (int i = 0; i < nonFlagArguments.size(); i++) {
-                final CommandArgument<C, ?> argument = nonFlagArguments.get(i);
+        int flagStartIdx = this.flagStartIndex(nonFlagArguments, flags);
+        int depth = 0;
 
-                Node<CommandArgument<C, ?>> tempNode = node.getChild(argument);
-                if (tempNode == null) {
-                    tempNode = node.addChild(argument);
-                } else if (argument instanceof StaticArgument && tempNode.getValue() != null) {
-                    for (final String alias : ((StaticArgument<C>) argument).getAliases()) {
-                        ((StaticArgument<C>) tempNode.getValue()).registerAlias(alias);
-                    }
-                }
-                if (node.children.size() > 0) {
-                    node.children.sort(Comparator.comparing(Node::getValue));
+        /*
+         * New nodes only lead to this command, so they are published with its permission. Readers can see them before
+         * the permissions are propagated, and must not be allowed through in the meantime
+         */
+        final Map<String, Object> permissionMeta = Collections.singletonMap("permission", command.getCommandPermission());
+        final List<CommandArgument<C, ?>> chain = new ArrayList<>();
+
+        for (int i = 0; i < nonFlagArguments.size(); i++) {
+            final CommandArgument<C, ?> argument = nonFlagArguments.get(i);
+
+            Node<CommandArgument<C, ?>> tempNode = node.getChild(argument);
+            if (tempNode == null) {
+                tempNode = node.addChild(argument, Comparator.comparing(Node::getValue), permissionMeta);
+                createdNodes.add(tempNode);
+            } else if (argument instanceof StaticArgument && tempNode.getValue() != null) {
+                for (final String alias : ((StaticArgument<C>) argument).getAliases()) {
+                    ((StaticArgument<C>) tempNode.getValue()).registerAlias(alias);
                 }
+            }
+            tempNode.setParent(node);
+            node = tempNode;
+            this.assignContextSlot(node, argument, depth++);
+            chain.add(node.getValue());
+
+            if (i >= flagStartIdx) {
+                tempNode = node.addChild(flags, null, permissionMeta);
+                createdNodes.add(tempNode);
                 tempNode.setParent(node);
                 node = tempNode;
-
-                if (i >= flagStartIdx) {
-                    tempNode = node.addChild(flags);
-                    tempNode.setParent(node);
-                    node = tempNode;
-                }
+                this.assignContextSlot(node, flags, depth++);
+                chain.add(node.getValue());
+            }
+        }
+        this.assignContextSlotsByName(chain);
+
+        if (node.getValue() != null) {
+            final Command<C> owner = node.getValue().getOwningCommand() == null
+                    ? owners.get(node)
+                    : node.getValue().getOwningCommand();
+            if (owner != null) {
+                throw new IllegalStateException(String.format(
+                        "Duplicate command chains detected. Node '%s' already has an owning command (%s)",
+                        node.toString(), owner.toString()
+                ));
             }
+            owners.put(node, command);
+        }
+        return node;
+    }
 
-            if (node.getValue() != null) {
-                if (node.getValue().getOwningCommand() != null) {
-                    throw new IllegalStateException(String.format(
-                            "Duplicate command chains detected. Node '%s' already has an owning command (%s)",
-                            node.toString(), node.getValue().getOwningCommand().toString()
-                    ));
-                }
-                node.getValue().setOwningCommand(command);
+    /**
+     * Give the argument, and the argument that represents it in the tree, the context slot that corresponds to the
+     * depth of the node
+     *
+     * @param node     Node that the argument was inserted into
+     * @param argument Argument
+     * @param depth    Depth of the node, where the children of the root node have depth zero
+     */
+    private void assignContextSlot(
+            final @NonNull Node<CommandArgument<C, ?>> node,
+            final @NonNull CommandArgument<C, ?> argument,
+            final int depth
+    ) {
+        argument.assignContextSlot(depth);
+        if (node.getValue() != null) {
+            node.getValue().assignContextSlot(depth);
+        }
+    }
+
+    /**
+     * Give the arguments of the nodes along a command chain the name to slot table of the chain that ends in them.
+     * This is done after the whole chain has been inserted, as arguments that appear at several depths give up
+     * their slots during the insertion
+     *
+     * @param chain Arguments of the nodes along the chain, in order
+     */
+    private void assignContextSlotsByName(final @NonNull List<@Nullable CommandArgument<C, ?>> chain) {
+        CommandArgument<C, ?> parent = null;
+        for (final CommandArgument<C, ?> argument : chain) {
+            if (argument == null || argument.contextSlot() < 0) {
+                continue;
             }
-            // Verify the command structure every time we add a new command
-            this.verifyAndRegister();
+            /* Existing nodes were resolved when they were inserted, and their chain has not changed since */
+            if (argument.contextSlotsByName() == null) {
+                final Map<String, Integer> slotsByName = parent == null
+                        ? new HashMap<>()
+                        : new HashMap<>(Objects.requireNonNull(parent.contextSlotsByName()));
+                slotsByName.put(argument.getName(), argument.contextSlot());
+                argument.assignContextSlotsByName(parent, Collections.unmodifiableMap(slotsByName));
+            }
+            parent = argument;
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private void storeArgumentValue(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandArgument<C, ?> argument,
+            final @NonNull Object value
+    ) {
+        commandContext.store((CommandArgument<C, Object>) argument, value);
+    }
+
     private int flagStartIndex(final @NonNull List<CommandArgument<C, ?>> arguments, final @Nullable FlagArgument<C> flags) {
         // Do not append flags
         if (flags == null) {
@@ -800,17 +1180,75 @@ public final class CommandTree<C> {
         return arguments.size() - 1;
     }
 
+    private void storePermissionResultCache(final @NonNull CommandContext<C> commandContext) {
+        if (this.commandManager.getSetting(CommandManager.ManagerSettings.CACHE_PERMISSION_RESULTS)) {
+            commandContext.store(
+                    PERMISSION_RESULT_CACHE_KEY,
+                    new PermissionResultCache<>(this.commandManager, commandContext.getSender())
+            );
+        }
+    }
+
+    private boolean isArgumentTimed(final @Nullable CommandMetrics<C> metrics) {
+        return metrics != null || this.commandManager.getSetting(CommandManager.ManagerSettings.RECORD_ARGUMENT_TIMINGS);
+    }
+
+    private void recordArgumentTiming(
+            final @Nullable CommandMetrics<C> metrics,
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandArgument<C, ?> argument,
+            final long start,
+            final @NonNull ArgumentParseResult<?> result
+    ) {
+        final long end = System.nanoTime();
+        final boolean success = !result.getFailure().isPresent();
+        if (this.commandManager.getSetting(CommandManager.ManagerSettings.RECORD_ARGUMENT_TIMINGS)) {
+            final CommandContext.ArgumentTiming argumentTiming = commandContext.createTiming(argument);
+            argumentTiming.setStart(start);
+            argumentTiming.setEnd(end, success);
+        }
+        if (metrics != null) {
+            metrics.argumentParsed(commandContext, argument, end - start, success);
+        }
+    }
+
+    private boolean hasPermission(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandPermission permission
+    ) {
+        final CommandMetrics<C> metrics = this.commandManager.commandMetrics();
+        if (metrics == null) {
+            return this.checkPermission(commandContext, permission);
+        }
+        final long start = System.nanoTime();
+        final boolean result = this.checkPermission(commandContext, permission);
+        metrics.phaseCompleted(commandContext, CommandMetrics.Phase.PERMISSION_CHECK, null, System.nanoTime() - start, result);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean checkPermission(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandPermission permission
+    ) {
+        final PermissionResultCache<?> cache = commandContext.getOrDefault(PERMISSION_RESULT_CACHE_KEY, null);
+        if (cache != null) {
+            return ((PermissionResultCache<C>) cache).hasPermission(permission);
+        }
+        return this.commandManager.hasPermission(commandContext.getSender(), permission);
+    }
+
     private @Nullable CommandPermission isPermitted(
-            final @NonNull C sender,
+            final @NonNull CommandContext<C> commandContext,
             final @NonNull Node<@Nullable CommandArgument<C, ?>> node
     ) {
         final CommandPermission permission = (CommandPermission) node.nodeMeta.get("permission");
         if (permission != null) {
-            return this.commandManager.hasPermission(sender, permission) ? null : permission;
+            return this.hasPermission(commandContext, permission) ? null : permission;
         }
         if (node.isLeaf()) {
-            return this.commandManager.hasPermission(
-                    sender,
+            return this.hasPermission(
+                    commandContext,
                     Objects.requireNonNull(
                             Objects.requireNonNull(
                                     node.value,
@@ -828,7 +1266,7 @@ public final class CommandTree<C> {
          */
         final List<CommandPermission> missingPermissions = new LinkedList<>();
         for (final Node<CommandArgument<C, ?>> child : node.getChildren()) {
-            final CommandPermission check = this.isPermitted(sender, child);
+            final CommandPermission check = this.isPermitted(commandContext, child);
             if (check == null) {
                 return null;
             } else {
@@ -844,64 +1282,126 @@ public final class CommandTree<C> {
      * command tree contracts
      */
     public void verifyAndRegister() {
-        // All top level commands are supposed to be registered in the command manager
-        this.internalTree.children.stream().map(Node::getValue).forEach(commandArgument -> {
-            if (!(commandArgument instanceof StaticArgument)) {
-                throw new IllegalStateException("Top level command argument cannot be a variable");
+        synchronized (this.commandLock) {
+            // All top level commands are supposed to be registered in the command manager
+            this.internalTree.getChildren().stream().map(Node::getValue).forEach(commandArgument -> {
+                if (!(commandArgument instanceof StaticArgument)) {
+                    throw new IllegalStateException("Top level command argument cannot be a variable");
+                }
+            });
+
+            this.checkAmbiguity(this.internalTree);
+
+            // Verify that all leaf nodes have command registered
+            this.getLeaves(this.internalTree).forEach(leaf -> {
+                if (leaf.getOwningCommand() == null) {
+                    throw new NoCommandInLeafException(leaf);
+                } else {
+                    final Command<C> owningCommand = leaf.getOwningCommand();
+                    this.commandManager.commandRegistrationHandler().registerCommand(owningCommand);
+                }
+            });
+
+            // Register command permissions
+            this.getLeavesRaw(this.internalTree).forEach(this::propagatePermission);
+        }
+    }
+
+    /**
+     * Verify the parts of the tree that are affected by the insertion of the given nodes, that is the chains
+     * leading up to the nodes, and the subtrees below them
+     *
+     * @param insertedNodes Nodes that commands were inserted at
+     * @param owners        Nodes that will be owned by the inserted commands once they have been verified
+     * @return Leaves of the affected parts of the tree
+     */
+    private @NonNull Set<@NonNull Node<@Nullable CommandArgument<C, ?>>> verify(
+            final @NonNull Collection<@NonNull Node<@Nullable CommandArgument<C, ?>>> insertedNodes,
+            final @NonNull Map<@NonNull Node<@Nullable CommandArgument<C, ?>>, @NonNull Command<C>> owners
+    ) {
+        // Collect the chains, only walking up until we reach a node that has already been visited
+        final Set<Node<CommandArgument<C, ?>>> chainNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Set<Node<CommandArgument<C, ?>>> leaves = Collections.newSetFromMap(new LinkedHashMap<>());
+        for (final Node<CommandArgument<C, ?>> insertedNode : insertedNodes) {
+            Node<CommandArgument<C, ?>> node = insertedNode;
+            while (node != null && chainNodes.add(node)) {
+                if (node.getParent() == this.internalTree && !(node.getValue() instanceof StaticArgument)) {
+                    throw new IllegalStateException("Top level command argument cannot be a variable");
+                }
+                node = node.getParent();
             }
-        });
+            leaves.addAll(this.getLeavesRaw(insertedNode));
+        }
 
-        this.checkAmbiguity(this.internalTree);
+        // Only the children of the affected nodes may have become ambiguous
+        chainNodes.forEach(this::checkChildAmbiguity);
 
         // Verify that all leaf nodes have command registered
-        this.getLeaves(this.internalTree).forEach(leaf -> {
-            if (leaf.getOwningCommand() == null) {
-                throw new NoCommandInLeafException(leaf);
-            } else {
-                final Command<C> owningCommand = leaf.getOwningCommand();
-                this.commandManager.commandRegistrationHandler().registerCommand(owningCommand);
+        for (final Node<CommandArgument<C, ?>> leaf : leaves) {
+            final CommandArgument<C, ?> argument = Objects.requireNonNull(leaf.getValue(), "leaf.value");
+            if (argument.getOwningCommand() == null && !owners.containsKey(leaf)) {
+                throw new NoCommandInLeafException(argument);
             }
-        });
+        }
+        return leaves;
+    }
+
+    /**
+     * Register the commands that own the given verified leaves, and propagate their permissions
+     *
+     * @param leaves Leaves of the parts of the tree that were affected by an insertion
+     */
+    private void register(final @NonNull Set<@NonNull Node<@Nullable CommandArgument<C, ?>>> leaves) {
+        for (final Node<CommandArgument<C, ?>> leaf : leaves) {
+            this.commandManager.commandRegistrationHandler().registerCommand(
+                    Objects.requireNonNull(Objects.requireNonNull(leaf.getValue(), "leaf.value").getOwningCommand())
+            );
+        }
 
         // Register command permissions
-        this.getLeavesRaw(this.internalTree).forEach(node -> {
-            // noinspection all
-            final CommandPermission commandPermission = node.getValue().getOwningCommand().getCommandPermission();
-            /* All leaves must necessarily have an owning command */
-            node.nodeMeta.put("permission", commandPermission);
-            // Get chain and order it tail->head then skip the tail (leaf node)
-            List<Node<CommandArgument<C, ?>>> chain = this.getChain(node);
-            Collections.reverse(chain);
-            chain = chain.subList(1, chain.size());
-            // Go through all nodes from the tail upwards until a collision occurs
-            for (final Node<CommandArgument<C, ?>> commandArgumentNode : chain) {
-                final CommandPermission existingPermission = (CommandPermission) commandArgumentNode.nodeMeta
-                        .get("permission");
-
-                CommandPermission permission;
-                if (existingPermission != null) {
-                    permission = OrPermission.of(Arrays.asList(commandPermission, existingPermission));
-                } else {
-                    permission = commandPermission;
-                }
+        leaves.forEach(this::propagatePermission);
+    }
 
-                /* Now also check if there's a command handler attached to an upper level node */
-                if (commandArgumentNode.getValue() != null && commandArgumentNode
-                        .getValue()
-                        .getOwningCommand() != null) {
-                    final Command<C> command = commandArgumentNode.getValue().getOwningCommand();
-                    if (this
-                            .getCommandManager()
-                            .getSetting(CommandManager.ManagerSettings.ENFORCE_INTERMEDIARY_PERMISSIONS)) {
-                        permission = command.getCommandPermission();
-                    } else {
-                        permission = OrPermission.of(Arrays.asList(permission, command.getCommandPermission()));
-                    }
-                }
+    /**
+     * Store the permission of the command owning the given leaf node in the leaf, and merge it
+     * into the permissions of all nodes in the chain leading up to the leaf
+     *
+     * @param leaf Leaf node
+     */
+    private void propagatePermission(final @NonNull Node<@Nullable CommandArgument<C, ?>> leaf) {
+        // noinspection all
+        final CommandPermission commandPermission = leaf.getValue().getOwningCommand().getCommandPermission();
+        /* All leaves must necessarily have an owning command */
+        leaf.nodeMeta.put("permission", commandPermission);
+        // Go through all nodes from the tail upwards until a collision occurs
+        for (Node<CommandArgument<C, ?>> commandArgumentNode = leaf.getParent(); commandArgumentNode != null;
+             commandArgumentNode = commandArgumentNode.getParent()) {
+            final CommandPermission existingPermission = (CommandPermission) commandArgumentNode.nodeMeta
+                    .get("permission");
+
+            CommandPermission permission;
+            if (existingPermission != null && !existingPermission.equals(commandPermission)) {
+                permission = OrPermission.of(Arrays.asList(commandPermission, existingPermission));
+            } else {
+                permission = commandPermission;
+            }
 
-                commandArgumentNode.nodeMeta.put("permission", permission);
+            /* Now also check if there's a command handler attached to an upper level node */
+            if (commandArgumentNode.getValue() != null && commandArgumentNode
+                    .getValue()
+                    .getOwningCommand() != null) {
+                final Command<C> command = commandArgumentNode.getValue().getOwningCommand();
+                if (this
+                        .getCommandManager()
+                        .getSetting(CommandManager.ManagerSettings.ENFORCE_INTERMEDIARY_PERMISSIONS)) {
+                    permission = command.getCommandPermission();
+                } else {
+                    permission = OrPermission.of(Arrays.asList(permission, command.getCommandPermission()));
+                }
             }
-        });
+
+            commandArgumentNode.nodeMeta.put("permission", permission);
+        }
     }
 
     private void checkAmbiguity(final @NonNull Node<@Nullable CommandArgument<C, ?>> node) throws
@@ -910,8 +1410,20 @@ public final class CommandTree<C> {
             return;
         }
 
+        this.checkChildAmbiguity(node);
+
+        // Recursively check child nodes as well
+        node.getChildren().forEach(this::checkAmbiguity);
+    }
+
+    private void checkChildAmbiguity(final @NonNull Node<@Nullable CommandArgument<C, ?>> node) throws
+            AmbiguousNodeException {
+        if (node.isLeaf()) {
+            return;
+        }
+
         // List of child nodes that are not static arguments, but (parsed) variable ones
-        final List<Node<CommandArgument<C, ?>>> childVariableArguments = node.children.stream()
+        final List<Node<CommandArgument<C, ?>>> childVariableArguments = node.getChildren().stream()
                 .filter(n -> (n.getValue() != null && !(n.getValue() instanceof StaticArgument)))
                 .collect(Collectors.toList());
 
@@ -929,7 +1441,7 @@ public final class CommandTree<C> {
         }
 
         // List of child nodes that are static arguments, with fixed values
-        @SuppressWarnings({"rawtypes", "unchecked"}) final List<Node<StaticArgument<?>>> childStaticArguments = node.children
+        @SuppressWarnings({"rawtypes", "unchecked"}) final List<Node<StaticArgument<?>>> childStaticArguments = node.getChildren()
                 .stream()
                 .filter(n -> n.getValue() instanceof StaticArgument)
                 .map(n -> (Node<StaticArgument<?>>) ((Node) n))
@@ -953,9 +1465,6 @@ public final class CommandTree<C> {
                 }
             }
         }
-
-        // Recursively check child nodes as well
-        node.children.forEach(this::checkAmbiguity);
     }
 
     private @NonNull List<@NonNull Node<@Nullable CommandArgument<C, ?>>> getLeavesRaw(
@@ -967,7 +1476,7 @@ public final class CommandTree<C> {
                 leaves.add(node);
             }
         } else {
-            node.children.forEach(child -> leaves.addAll(this.getLeavesRaw(child)));
+            node.getChildren().forEach(child -> leaves.addAll(this.getLeavesRaw(child)));
         }
         return leaves;
     }
@@ -981,7 +1490,7 @@ public final class CommandTree<C> {
                 leaves.add(node.getValue());
             }
         } else {
-            node.children.forEach(child -> leaves.addAll(this.getLeaves(child)));
+            node.getChildren().forEach(child -> leaves.addAll(this.getLeaves(child)));
         }
         return leaves;
     }
@@ -1020,17 +1529,10 @@ public final class CommandTree<C> {
      * @return Root node, or {@code null}
      */
     public @Nullable Node<@Nullable CommandArgument<C, ?>> getNamedNode(final @Nullable String name) {
-        for (final Node<CommandArgument<C, ?>> node : this.getRootNodes()) {
-            if (node.getValue() != null && node.getValue() instanceof StaticArgument) {
-                @SuppressWarnings("unchecked") final StaticArgument<C> staticArgument = (StaticArgument<C>) node.getValue();
-                for (final String alias : staticArgument.getAliases()) {
-                    if (alias.equalsIgnoreCase(name)) {
-                        return node;
-                    }
-                }
-            }
+        if (name == null) {
+            return null;
         }
-        return null;
+        return this.internalTree.getLiteralChildIgnoreCase(name);
     }
 
     void deleteRecursively(
@@ -1038,8 +1540,26 @@ public final class CommandTree<C> {
         final boolean root,
         final Consumer<Command<C>> op
     ) {
-        for (final Node<@Nullable CommandArgument<C, ?>> child : new ArrayList<>(node.children)) {
-            this.deleteRecursively(child, false, op);
+        synchronized (this.commandLock) {
+            /* Detach the node first, so that concurrent readers either see the entire subtree or none of it */
+            this.removeNode(node, root);
+            this.forEachOwningCommand(node, op);
+            this.version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Visit the commands that own the nodes of a subtree, with the children of a node being visited before the node itself
+     *
+     * @param node Root of the subtree
+     * @param op   Operation to invoke with each owning command
+     */
+    private void forEachOwningCommand(
+        final @NonNull Node<@Nullable CommandArgument<C, ?>> node,
+        final Consumer<Command<C>> op
+    ) {
+        for (final Node<@Nullable CommandArgument<C, ?>> child : node.getChildren()) {
+            this.forEachOwningCommand(child, op);
         }
 
         final @Nullable CommandArgument<C, ?> value = node.getValue();
@@ -1047,7 +1567,6 @@ public final class CommandTree<C> {
         if (owner != null) {
             op.accept(owner);
         }
-        this.removeNode(node, root);
     }
 
     private boolean removeNode(
@@ -1063,6 +1582,18 @@ public final class CommandTree<C> {
         }
     }
 
+    /**
+     * Get the version of the tree. The version changes whenever commands are inserted into or deleted
+     * from the tree, which allows for caching data that is derived from the registered commands
+     *
+     * @return Tree version
+     * @since 1.9.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+    public long version() {
+        return this.version.get();
+    }
+
     /**
      * Get the command manager
      *
@@ -1079,32 +1610,74 @@ public final class CommandTree<C> {
      */
     public static final class Node<T> {
 
-        private final Map<String, Object> nodeMeta = new HashMap<>();
-        private final List<Node<T>> children = new LinkedList<>();
+        private final Map<String, Object> nodeMeta = new ConcurrentHashMap<>();
+        /**
+         * Immutable snapshot of the children and their literal lookup tables. Writers replace the snapshot as a
+         * whole, so readers never need to lock and never observe a partially updated node
+         */
+        private volatile Children<T> children = Children.empty();
+        /**
+         * Index of the literal children used to find literals similar to unknown input. Created on first use
+         * and then kept up to date as literals are added, but discarded when literals are removed
+         */
+        private @Nullable SimilarLiteralIndex<Node<T>> similarLiteralIndex;
+        /**
+         * Given to the literal children, which call it when they are aliased
+         */
+        private final Runnable aliasListener = this::rebuildLiteralIndex;
         private T value;
-        private Node<T> parent;
+        private volatile Node<T> parent;
 
         private Node(final @Nullable T value) {
             this.value = value;
         }
 
         /**
-         * Get an immutable copy of the node's child list
+         * Get an immutable snapshot of the node's child list. The snapshot is not affected by commands
+         * that are inserted or deleted after it was retrieved
          *
          * @return Children
          */
         public @NonNull List<@NonNull Node<@Nullable T>> getChildren() {
-            return Collections.unmodifiableList(this.children);
+            return this.children.nodes;
         }
 
-        private @NonNull Node<@Nullable T> addChild(final @NonNull T child) {
+        /**
+         * Add a new child to the node and publish the updated children
+         *
+         * @param child Child value
+         * @param order Order of the children after the child has been added, or {@code null} to append the child
+         * @param meta  Initial node meta of the child, which is visible to readers as soon as the child is
+         * @return Child node
+         */
+        @SuppressWarnings("unchecked")
+        private synchronized @NonNull Node<@Nullable T> addChild(
+                final @NonNull T child,
+                final @Nullable Comparator<? super Node<T>> order,
+                final @NonNull Map<@NonNull String, @NonNull Object> meta
+        ) {
             final Node<T> node = new Node<>(child);
-            this.children.add(node);
+            node.nodeMeta.putAll(meta);
+            node.parent = this;
+            final List<Node<T>> current = this.children.nodes;
+            final Node<T>[] nodes = current.toArray(new Node[current.size() + 1]);
+            nodes[current.size()] = node;
+            if (order != null) {
+                Arrays.sort(nodes, order);
+            }
+            this.publishChildren(Collections.unmodifiableList(Arrays.asList(nodes)));
             return node;
         }
 
         private @Nullable Node<@Nullable T> getChild(final @NonNull T type) {
-            for (final Node<T> child : this.children) {
+            final Children<T> snapshot = this.children;
+            if (type instanceof StaticArgument) {
+                final Node<T> child = snapshot.literals.get(((StaticArgument<?>) type).getName());
+                if (child != null && type.equals(child.getValue())) {
+                    return child;
+                }
+            }
+            for (final Node<T> child : snapshot.nodes) {
                 if (type.equals(child.getValue())) {
                     return child;
                 }
@@ -1112,8 +1685,105 @@ public final class CommandTree<C> {
             return null;
         }
 
-        private boolean removeChild(final @NonNull Node<T> child) {
-            return this.children.remove(child);
+        private synchronized boolean removeChild(final @NonNull Node<T> child) {
+            final List<Node<T>> nodes = new ArrayList<>(this.children.nodes);
+            final boolean removed = nodes.remove(child);
+            if (removed) {
+                if (child.value instanceof StaticArgument) {
+                    ((StaticArgument<?>) child.value).aliasListener(null);
+                }
+                this.publishChildren(Collections.unmodifiableList(nodes));
+            }
+            return removed;
+        }
+
+        /**
+         * Get the child node whose {@link StaticArgument literal} name or one of its aliases is equal to the given string
+         *
+         * @param literal Literal name or alias
+         * @return Child node, or {@code null} if no literal child matches
+         * @since 1.9.0
+         */
+        @API(status = API.Status.STABLE, since = "1.9.0")
+        public @Nullable Node<@Nullable T> getLiteralChild(final @NonNull String literal) {
+            return this.children.literals.get(literal);
+        }
+
+        /**
+         * Get the child node whose {@link StaticArgument literal} name or one of its aliases is equal to the given string,
+         * ignoring case. If several literals only differ by case, the first one in the child order is returned
+         *
+         * @param literal Literal name or alias
+         * @return Child node, or {@code null} if no literal child matches
+         * @since 1.9.0
+         */
+        @API(status = API.Status.STABLE, since = "1.9.0")
+        public @Nullable Node<@Nullable T> getLiteralChildIgnoreCase(final @NonNull String literal) {
+            return this.children.foldedLiterals.get(StringUtils.foldCase(literal));
+        }
+
+        /**
+         * Rebuild the literal lookup tables from the current children. This is called by the literal children
+         * whenever they are aliased
+         */
+        private synchronized void rebuildLiteralIndex() {
+            this.publishChildren(this.children.nodes);
+        }
+
+        /**
+         * Build the literal lookup tables for the given children and publish them together with the children
+         *
+         * @param nodes Immutable list of children
+         */
+        private synchronized void publishChildren(final @NonNull List<Node<T>> nodes) {
+            final Map<String, Node<T>> literals = new HashMap<>();
+            final Map<String, Node<T>> foldedLiterals = new HashMap<>();
+            for (final Node<T> child : nodes) {
+                if (!(child.value instanceof StaticArgument)) {
+                    continue;
+                }
+                ((StaticArgument<?>) child.value).aliasListener(this.aliasListener);
+                for (final String alias : ((StaticArgument<?>) child.value).getAliases()) {
+                    literals.putIfAbsent(alias, child);
+                    foldedLiterals.putIfAbsent(StringUtils.foldCase(alias), child);
+                }
+            }
+            final Map<String, Node<T>> previousFoldedLiterals = this.children.foldedLiterals;
+            this.children = new Children<>(nodes, literals, foldedLiterals);
+
+            final SimilarLiteralIndex<Node<T>> similarLiterals = this.similarLiteralIndex;
+            if (similarLiterals == null) {
+                return;
+            }
+            for (final Map.Entry<String, Node<T>> entry : previousFoldedLiterals.entrySet()) {
+                if (!entry.getValue().equals(foldedLiterals.get(entry.getKey()))) {
+                    /* Literals cannot be removed from the index, so it is recreated once it is needed again */
+                    this.similarLiteralIndex = null;
+                    return;
+                }
+            }
+            for (final Map.Entry<String, Node<T>> entry : foldedLiterals.entrySet()) {
+                if (!previousFoldedLiterals.containsKey(entry.getKey())) {
+                    similarLiterals.add(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+        /**
+         * Get the index of the literal children that is used to find literals similar to unknown input
+         *
+         * @return Similar literal index
+         */
+        private synchronized @NonNull SimilarLiteralIndex<Node<T>> similarLiteralIndex() {
+            SimilarLiteralIndex<Node<T>> similarLiterals = this.similarLiteralIndex;
+            if (similarLiterals == null) {
+                similarLiterals = new SimilarLiteralIndex<>();
+                for (final Map.Entry<String, Node<T>> entry : this.children.foldedLiterals.entrySet()) {
+                    similarLiterals.add(entry.getKey(), entry.getValue());
+                }
+                this.similarLiteralIndex = similarLiterals;
+            }
+            return similarLiterals;
         }
 
         /**
@@ -1122,7 +1792,7 @@ public final class CommandTree<C> {
          * @return {@code true} if the node is a leaf node, else {@code false}
          */
         public boolean isLeaf() {
-            return this.children.isEmpty();
+            return this.children.nodes.isEmpty();
         }
 
         /**
@@ -1182,5 +1852,38 @@ public final class CommandTree<C> {
         public String toString() {
             return "Node{value=" + this.value + '}';
         }
+
+        /**
+         * Immutable children of a node, together with the lookup tables of their literals
+         *
+         * @param <T> Node value type
+         */
+        private static final class Children<T> {
+
+            private static final Children<?> EMPTY = new Children<>(
+                    Collections.emptyList(),
+                    Collections.emptyMap(),
+                    Collections.emptyMap()
+            );
+
+            private final List<Node<T>> nodes;
+            private final Map<String, Node<T>> literals;
+            private final Map<String, Node<T>> foldedLiterals;
+
+            private Children(
+                    final @NonNull List<Node<T>> nodes,
+                    final @NonNull Map<String, Node<T>> literals,
+                    final @NonNull Map<String, Node<T>> foldedLiterals
+            ) {
+                this.nodes = nodes;
+                this.literals = literals;
+                this.foldedLiterals = foldedLiterals;
+            }
+
+            @SuppressWarnings("unchecked")
+            private static <T> @NonNull Children<T> empty() {
+                return (Children<T>) EMPTY;
+            }
+        }
     }
 }
@@ -25,17 +25,20 @@ package cloud.commandframework.annotations.injection;
 
 import cloud.commandframework.annotations.AnnotationAccessor;
 import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.services.PipelineException;
 import cloud.commandframework.services.ServicePipeline;
 import cloud.commandframework.types.tuples.Pair;
 import cloud.commandframework.types.tuples.Triplet;
 import io.leangen.geantyref.TypeToken;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -45,6 +48,11 @@ import org.checkerframework.checker.nullness.qual.Nullable;
  * and {@link ParameterInjector injectors}.
  *
  * The order injectors are tested is the same order they were registered in.
+ * <p>
+ * The injectors that apply to a type are resolved once per type and cached until another injector is registered.
+ * As long as no {@link #registerInjectionService(InjectionService) injection service} has been registered,
+ * {@link #getInjectable(Class, CommandContext, AnnotationAccessor)} tests the cached injectors directly instead of
+ * going through the service pipeline.
  *
  * @param <C> Command sender type
  * @since 1.2.0
@@ -53,15 +61,20 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 @API(status = API.Status.STABLE, since = "1.2.0")
 public final class ParameterInjectorRegistry<C> implements InjectionService<C> {
 
+    private static final ParameterInjector<?, ?>[] NO_INJECTORS = new ParameterInjector<?, ?>[0];
+
     private final List<Pair<Predicate<Class<?>>, ParameterInjector<C, ?>>> injectors = new ArrayList<>();
+    private final Map<Class<?>, ParameterInjector<C, ?>[]> resolvedInjectors = new ConcurrentHashMap<>();
+    private final TypeToken<InjectionService<C>> serviceType = new TypeToken<InjectionService<C>>() {
+    };
     private final ServicePipeline servicePipeline = ServicePipeline.builder().build();
+    private volatile boolean hasInjectionServices;
 
     /**
      * Create a new parameter injector registry
      */
     public ParameterInjectorRegistry() {
-        this.servicePipeline.registerServiceType(new TypeToken<InjectionService<C>>() {
-        }, this);
+        this.servicePipeline.registerServiceType(this.serviceType, this);
     }
 
     /**
@@ -93,6 +106,7 @@ public final class ParameterInjectorRegistry<C> implements InjectionService<C> {
             final @NonNull ParameterInjector<C, T> injector
     ) {
         this.injectors.add(Pair.of(predicate, injector));
+        this.resolvedInjectors.clear();
     }
 
     /**
@@ -106,19 +120,61 @@ public final class ParameterInjectorRegistry<C> implements InjectionService<C> {
      * @deprecated Inject directly instead of relying on this list
      */
     @Deprecated
-    public synchronized <T> @NonNull Collection<@NonNull ParameterInjector<C, ?>> injectors(
+    public <T> @NonNull Collection<@NonNull ParameterInjector<C, ?>> injectors(
             final @NonNull Class<T> clazz
     ) {
-        return Collections.unmodifiableCollection(this.injectors.stream()
-                .filter(pair -> pair.getFirst().test(clazz))
-                .map(Pair::getSecond)
-                .collect(Collectors.toList()));
+        return Collections.unmodifiableList(Arrays.asList(this.resolveInjectors(clazz)));
     }
 
     @Override
     public @Nullable Object handle(final @NonNull Triplet<CommandContext<C>, Class<?>, AnnotationAccessor> triplet) {
-        for (final ParameterInjector<C, ?> injector : this.injectors(triplet.getSecond())) {
-            final Object value = injector.create(triplet.getFirst(), triplet.getThird());
+        return this.inject(triplet.getFirst(), triplet.getSecond(), triplet.getThird());
+    }
+
+    /**
+     * Get the injectors that apply to the given type, in registration order. The injectors are resolved once
+     * per type, and cached until another injector is registered
+     *
+     * @param clazz Type to query for
+     * @return Applicable injectors
+     */
+    @SuppressWarnings("unchecked")
+    private @NonNull ParameterInjector<C, ?> @NonNull [] resolveInjectors(final @NonNull Class<?> clazz) {
+        final ParameterInjector<C, ?>[] resolved = this.resolvedInjectors.get(clazz);
+        if (resolved != null) {
+            return resolved;
+        }
+        /* Resolve while holding the lock, so that a concurrent registration cannot be missed by the cached array */
+        synchronized (this) {
+            return this.resolvedInjectors.computeIfAbsent(clazz, type -> {
+                final List<ParameterInjector<C, ?>> applicable = new ArrayList<>();
+                for (final Pair<Predicate<Class<?>>, ParameterInjector<C, ?>> pair : this.injectors) {
+                    if (pair.getFirst().test(type)) {
+                        applicable.add(pair.getSecond());
+                    }
+                }
+                return applicable.isEmpty()
+                        ? (ParameterInjector<C, ?>[]) NO_INJECTORS
+                        : applicable.toArray((ParameterInjector<C, ?>[]) NO_INJECTORS);
+            });
+        }
+    }
+
+    /**
+     * Create a value using the first registered injector that is able to inject the given type
+     *
+     * @param context            Command context
+     * @param clazz              Type to inject
+     * @param annotationAccessor Annotation accessor
+     * @return Injected value, or {@code null} if no injector produced a value
+     */
+    private @Nullable Object inject(
+            final @NonNull CommandContext<C> context,
+            final @NonNull Class<?> clazz,
+            final @NonNull AnnotationAccessor annotationAccessor
+    ) {
+        for (final ParameterInjector<C, ?> injector : this.resolveInjectors(clazz)) {
+            final Object value = injector.create(context, annotationAccessor);
             if (value != null) {
                 return value;
             }
@@ -146,10 +202,19 @@ public final class ParameterInjectorRegistry<C> implements InjectionService<C> {
             final @NonNull CommandContext<C> context,
             final @NonNull AnnotationAccessor annotationAccessor
     ) {
+        if (!this.hasInjectionServices) {
+            final Object value;
+            try {
+                value = this.inject(context, clazz, annotationAccessor);
+            } catch (final Exception e) {
+                /* Injector failures are wrapped in the same way as when they are thrown inside the service pipeline */
+                throw new PipelineException(e);
+            }
+            return value == null ? Optional.empty() : Optional.of(clazz.cast(value));
+        }
         final Triplet<CommandContext<C>, Class<?>, AnnotationAccessor> triplet = Triplet.of(context, clazz, annotationAccessor);
         try {
-            return Optional.of(clazz.cast(this.servicePipeline.pump(triplet).through(new TypeToken<InjectionService<C>>() {
-            }).getResult()));
+            return Optional.of(clazz.cast(this.servicePipeline.pump(triplet).through(this.serviceType).getResult()));
         } catch (final IllegalStateException ignored) {
         }
         return Optional.empty();
@@ -164,7 +229,7 @@ public final class ParameterInjectorRegistry<C> implements InjectionService<C> {
      */
     @API(status = API.Status.STABLE, since = "1.4.0")
     public void registerInjectionService(final InjectionService<C> service) {
-        this.servicePipeline.registerServiceImplementation(new TypeToken<InjectionService<C>>() {
-        }, service, Collections.emptyList());
+        this.servicePipeline.registerServiceImplementation(this.serviceType, service, Collections.emptyList());
+        this.hasInjectionServices = true;
     }
 }
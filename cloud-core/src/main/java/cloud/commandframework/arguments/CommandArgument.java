@@ -26,6 +26,7 @@ package cloud.commandframework.arguments;
 import cloud.commandframework.ArgumentDescription;
 import cloud.commandframework.Command;
 import cloud.commandframework.CommandManager;
+import cloud.commandframework.arguments.parser.ArgumentParseMemo;
 import cloud.commandframework.arguments.parser.ArgumentParseResult;
 import cloud.commandframework.arguments.parser.ArgumentParser;
 import cloud.commandframework.arguments.parser.ParserParameters;
@@ -38,6 +39,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.function.BiFunction;
@@ -62,6 +64,9 @@ public class CommandArgument<C, T> implements Comparable<CommandArgument<?, ?>>,
      */
     private static final Pattern NAME_PATTERN = Pattern.compile("[A-Za-z0-9\\-_]+");
 
+    private static final int UNASSIGNED_CONTEXT_SLOT = -1;
+    private static final int SHARED_CONTEXT_SLOT = -2;
+
     /**
      * A typed key representing this argument
      */
@@ -115,6 +120,24 @@ public class CommandArgument<C, T> implements Comparable<CommandArgument<?, ?>>,
 
     private Command<C> owningCommand;
 
+    /**
+     * Index of the value slot that holds the parsed value of this argument in a {@link CommandContext},
+     * or a negative value if the argument has not been given a slot
+     */
+    private volatile int contextSlot = UNASSIGNED_CONTEXT_SLOT;
+    /**
+     * Nearest argument before this argument in its command chain that has a context slot
+     */
+    private volatile @Nullable CommandArgument<?, ?> contextSlotParent;
+    /**
+     * Context slots of the arguments in the command chain that ends in this argument, indexed by name
+     */
+    private volatile @Nullable Map<String, Integer> contextSlotsByName;
+    /**
+     * Memo of the values parsed by a context free parser, if enabled
+     */
+    private volatile @Nullable ArgumentParseMemo<T> parseMemo;
+
     /**
      * Construct a new command argument
      *
@@ -417,6 +440,43 @@ public class CommandArgument<C, T> implements Comparable<CommandArgument<?, ?>>,
         return ArgumentParseResult.success(true);
     }
 
+    /**
+     * Memoize the values parsed by this argument, keyed on the raw input token, so that repeated input does not need to be
+     * parsed again. At most {@code capacity} values are kept, and the least recently used value is evicted first.
+     * <p>
+     * This is only allowed for {@link ArgumentParser#isContextFree() context free} parsers that consume a single token.
+     * The parser must also always produce the same value for the same token, which rules out parsers that look up
+     * values that may change, such as online players
+     *
+     * @param capacity Maximum number of memoized values
+     * @return {@code this}
+     * @throws IllegalArgumentException If the parser is not context free or does not consume a single token
+     * @since 1.9.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+    public @NonNull @This CommandArgument<C, T> memoizeParsedValues(final int capacity) {
+        if (!this.parser.isContextFree() || this.parser.getRequestedArgumentCount() != 1) {
+            throw new IllegalArgumentException(String.format(
+                    "Argument '%s' cannot be memoized, as its parser is not context free or consumes several tokens",
+                    this.name
+            ));
+        }
+        this.parseMemo = ArgumentParseMemo.of(capacity);
+        return this;
+    }
+
+    /**
+     * Get the memo of the values parsed by this argument
+     *
+     * @return Parse memo, or {@code null} if the parsed values are not memoized
+     * @see #memoizeParsedValues(int)
+     * @since 1.9.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+    public @Nullable ArgumentParseMemo<T> parseMemo() {
+        return this.parseMemo;
+    }
+
     /**
      * Get the owning command
      *
@@ -438,6 +498,79 @@ public class CommandArgument<C, T> implements Comparable<CommandArgument<?, ?>>,
         this.owningCommand = owningCommand;
     }
 
+    /**
+     * Get the index of the slot in which {@link CommandContext} stores the parsed value of this argument.
+     * <p>
+     * The slot is the depth at which the argument was inserted into the command tree, which means that the
+     * slots of the arguments along any command chain are dense and unique.
+     *
+     * @return Slot index, or a negative value if the argument does not have a slot
+     * @since 1.9.0
+     */
+    @API(status = API.Status.INTERNAL, consumers = "cloud.commandframework.*", since = "1.9.0")
+    public final int contextSlot() {
+        return this.contextSlot;
+    }
+
+    /**
+     * Assign the index of the slot in which {@link CommandContext} stores the parsed value of this argument.
+     * <p>
+     * If the argument has already been assigned a different slot, for example because it appears at several
+     * depths of the tree, it gives up its slot and its value will be stored by name instead.
+     *
+     * @param slot Slot index
+     * @since 1.9.0
+     */
+    @API(status = API.Status.INTERNAL, consumers = "cloud.commandframework.*", since = "1.9.0")
+    public final synchronized void assignContextSlot(final int slot) {
+        if (this.contextSlot == UNASSIGNED_CONTEXT_SLOT) {
+            this.contextSlot = slot;
+        } else if (this.contextSlot != slot) {
+            this.contextSlot = SHARED_CONTEXT_SLOT;
+        }
+    }
+
+    /**
+     * Get the nearest argument before this argument in its command chain that has a context slot
+     *
+     * @return Parent argument, or {@code null} if there is none or the chain has not been resolved
+     * @since 1.9.0
+     */
+    @API(status = API.Status.INTERNAL, consumers = "cloud.commandframework.*", since = "1.9.0")
+    public final @Nullable CommandArgument<?, ?> contextSlotParent() {
+        return this.contextSlotParent;
+    }
+
+    /**
+     * Get the context slots of the arguments in the command chain that ends in this argument, indexed by name.
+     * If several arguments in the chain share a name, the name refers to the last of them
+     *
+     * @return Immutable map of slots, or {@code null} if the chain has not been resolved
+     * @since 1.9.0
+     */
+    @API(status = API.Status.INTERNAL, consumers = "cloud.commandframework.*", since = "1.9.0")
+    public final @Nullable Map<@NonNull String, @NonNull Integer> contextSlotsByName() {
+        return this.contextSlotsByName;
+    }
+
+    /**
+     * Resolve the command chain that ends in this argument. This is done once, by the command tree, when the
+     * argument is inserted
+     *
+     * @param parent      Nearest argument before this argument in the chain that has a context slot
+     * @param slotsByName Immutable map of the slots of the arguments in the chain, indexed by name
+     * @since 1.9.0
+     */
+    @API(status = API.Status.INTERNAL, consumers = "cloud.commandframework.*", since = "1.9.0")
+    public final void assignContextSlotsByName(
+            final @Nullable CommandArgument<?, ?> parent,
+            final @NonNull Map<@NonNull String, @NonNull Integer> slotsByName
+    ) {
+        /* The parent is published first, so that it is visible to anyone who sees the map */
+        this.contextSlotParent = parent;
+        this.contextSlotsByName = slotsByName;
+    }
+
     /**
      * Get the argument suggestions provider
      *
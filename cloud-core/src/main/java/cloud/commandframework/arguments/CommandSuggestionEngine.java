@@ -23,10 +23,12 @@
 //
 package cloud.commandframework.arguments;
 
+import cloud.commandframework.CommandTree;
 import cloud.commandframework.context.CommandContext;
 import java.util.List;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Handler that produces command suggestions depending on input
@@ -48,4 +50,26 @@ public interface CommandSuggestionEngine<C> {
             @NonNull CommandContext<C> context,
             @NonNull String input
     );
+
+    /**
+     * Get command suggestions for the "next" argument that would yield a correctly
+     * parsing command input, resuming from a node of the command tree that the leading
+     * literals of the input have already been matched to.
+     * <p>
+     * The default implementation ignores the node and delegates to {@link #getSuggestions(CommandContext, String)}
+     *
+     * @param context Request context
+     * @param input   Full input provided by the sender
+     * @param node    Literal node to resume from
+     * @return List of suggestions
+     * @since 1.9.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+    default @NonNull List<@NonNull String> getSuggestions(
+            final @NonNull CommandContext<C> context,
+            final @NonNull String input,
+            final CommandTree.@NonNull Node<@Nullable CommandArgument<C, ?>> node
+    ) {
+        return this.getSuggestions(context, input);
+    }
 }
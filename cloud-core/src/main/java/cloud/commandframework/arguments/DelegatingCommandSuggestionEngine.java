@@ -26,14 +26,15 @@ package cloud.commandframework.arguments;
 import cloud.commandframework.CommandManager;
 import cloud.commandframework.CommandTree;
 import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.context.CommandInput;
 import cloud.commandframework.execution.preprocessor.CommandPreprocessingContext;
 import cloud.commandframework.internal.CommandInputTokenizer;
 import cloud.commandframework.services.State;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Command suggestion engine that delegates to a {@link cloud.commandframework.CommandTree}
@@ -67,17 +68,27 @@ public final class DelegatingCommandSuggestionEngine<C> implements CommandSugges
             final @NonNull CommandContext<C> context,
             final @NonNull String input
     ) {
-        final @NonNull LinkedList<@NonNull String> inputQueue = new CommandInputTokenizer(input).tokenize();
-        /* Store a copy of the input queue in the context */
-        context.store("__raw_input__", new LinkedList<>(inputQueue));
+        return this.getSuggestions(context, input, (CommandTree.Node<CommandArgument<C, ?>>) null);
+    }
+
+    @Override
+    public @NonNull List<@NonNull String> getSuggestions(
+            final @NonNull CommandContext<C> context,
+            final @NonNull String input,
+            final CommandTree.@Nullable Node<@Nullable CommandArgument<C, ?>> node
+    ) {
+        final CommandInput commandInput = new CommandInputTokenizer(input).tokenizeInput();
+        /* Store a copy of the input in the context */
+        context.rawInput(commandInput.copy());
+        final CommandPreprocessingContext<C> preprocessingContext = new CommandPreprocessingContext<>(context, commandInput);
         final List<String> suggestions;
-        if (this.commandManager.preprocessContext(context, inputQueue) == State.ACCEPTED) {
+        if (this.commandManager.preprocessContext(preprocessingContext) == State.ACCEPTED) {
+            final List<String> treeSuggestions = node == null
+                    ? this.commandTree.getSuggestions(context, preprocessingContext.commandInput())
+                    : this.commandTree.getSuggestions(context, preprocessingContext.commandInput(), node);
             suggestions = this.commandManager.commandSuggestionProcessor().apply(
-                    new CommandPreprocessingContext<>(context, inputQueue),
-                    this.commandTree.getSuggestions(
-                            context,
-                            inputQueue
-                    )
+                    preprocessingContext,
+                    treeSuggestions
             );
         } else {
             suggestions = Collections.emptyList();
@@ -39,6 +39,7 @@ import java.util.Set;
 import java.util.TreeSet;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * {@link CommandArgument} type that recognizes fixed strings. This type does not parse variables.
@@ -49,6 +50,11 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 public final class StaticArgument<C> extends CommandArgument<C, String> {
 
     private final Set<CommandMeta.Location> hiddenLocations;
+    /**
+     * Notified when an alias is registered, so that the command tree node that holds this argument can
+     * update its literal index
+     */
+    private volatile @Nullable Runnable aliasListener;
 
     private StaticArgument(
             final boolean required, final @NonNull String name,
@@ -117,7 +123,26 @@ public final class StaticArgument<C> extends CommandArgument<C, String> {
      * @param alias New alias
      */
     public void registerAlias(final @NonNull String alias) {
+        if (this.getAliases().contains(alias)) {
+            return;
+        }
         ((StaticArgumentParser<C>) this.getParser()).insertAlias(alias);
+        final Runnable listener = this.aliasListener;
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
+    /**
+     * Set the listener that is notified when an alias is {@link #registerAlias(String) registered}. The command
+     * tree uses this to keep the literal index of the node that holds the argument up to date
+     *
+     * @param listener Listener, or {@code null} to remove the current listener
+     * @since 1.9.0
+     */
+    @API(status = API.Status.INTERNAL, consumers = "cloud.commandframework.*", since = "1.9.0")
+    public void aliasListener(final @Nullable Runnable listener) {
+        this.aliasListener = listener;
     }
 
     /**
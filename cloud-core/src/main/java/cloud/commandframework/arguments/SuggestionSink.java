@@ -0,0 +1,167 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.arguments;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Collector for command suggestions that stops accepting suggestions once a limit has been reached.
+ * <p>
+ * The command tree pushes the suggestions returned by each suggestion provider into a sink, and stops
+ * consulting further suggestion providers once the sink is {@link #isFull() full}. Suggestion providers
+ * always return their suggestions, and are not given access to the sink.
+ * <p>
+ * When the sink is {@link #isBounded() bounded}, suggestions that do not start with the {@link #prefix() prefix}
+ * (ignoring case) are discarded without counting towards the limit. Unbounded sinks accept all suggestions.
+ *
+ * @since 1.9.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+public final class SuggestionSink {
+
+    /**
+     * Limit used by sinks that accept an unlimited amount of suggestions
+     */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final List<String> suggestions = new ArrayList<>();
+    private final int limit;
+    private String prefix = "";
+
+    private SuggestionSink(final int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Create a new sink that accepts an unlimited amount of suggestions
+     *
+     * @return Created sink
+     */
+    public static @NonNull SuggestionSink unbounded() {
+        return new SuggestionSink(UNLIMITED);
+    }
+
+    /**
+     * Create a new sink that accepts at most {@code limit} suggestions
+     *
+     * @param limit Maximum amount of suggestions. Must be positive
+     * @return Created sink
+     */
+    public static @NonNull SuggestionSink bounded(final int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Suggestion limit must be positive, was: " + limit);
+        }
+        return new SuggestionSink(limit);
+    }
+
+    /**
+     * Get the maximum amount of suggestions accepted by this sink
+     *
+     * @return Limit, or {@link #UNLIMITED}
+     */
+    public int limit() {
+        return this.limit;
+    }
+
+    /**
+     * Check whether this sink has a limit
+     *
+     * @return {@code true} if the sink is bounded
+     */
+    public boolean isBounded() {
+        return this.limit != UNLIMITED;
+    }
+
+    /**
+     * Get the input that is currently being completed
+     *
+     * @return Prefix that suggestions are matched against
+     */
+    public @NonNull String prefix() {
+        return this.prefix;
+    }
+
+    /**
+     * Set the input that is currently being completed. This is updated by the command tree before
+     * each suggestion provider is consulted
+     *
+     * @param prefix New prefix
+     */
+    public void prefix(final @NonNull String prefix) {
+        this.prefix = prefix;
+    }
+
+    /**
+     * Push a suggestion into the sink
+     *
+     * @param suggestion Suggestion
+     * @return {@code true} if the sink accepts more suggestions, {@code false} if it is full
+     */
+    public boolean accept(final @NonNull String suggestion) {
+        if (this.isFull()) {
+            return false;
+        }
+        if (this.isBounded() && !suggestion.regionMatches(true, 0, this.prefix, 0, this.prefix.length())) {
+            return true;
+        }
+        this.suggestions.add(suggestion);
+        return !this.isFull();
+    }
+
+    /**
+     * Push suggestions into the sink, stopping once the sink is full
+     *
+     * @param suggestions Suggestions
+     * @return {@code true} if the sink accepts more suggestions, {@code false} if it is full
+     */
+    public boolean acceptAll(final @NonNull Iterable<@NonNull String> suggestions) {
+        for (final String suggestion : suggestions) {
+            if (!this.accept(suggestion)) {
+                return false;
+            }
+        }
+        return !this.isFull();
+    }
+
+    /**
+     * Check whether the sink has reached its limit
+     *
+     * @return {@code true} if no further suggestions will be accepted
+     */
+    public boolean isFull() {
+        return this.suggestions.size() >= this.limit;
+    }
+
+    /**
+     * Get the suggestions collected so far, in the order they were accepted
+     *
+     * @return Mutable list of suggestions
+     */
+    public @NonNull List<@NonNull String> suggestions() {
+        return this.suggestions;
+    }
+}
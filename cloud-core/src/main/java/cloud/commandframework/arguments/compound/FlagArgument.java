@@ -35,21 +35,23 @@ import cloud.commandframework.exceptions.parsing.ParserException;
 import cloud.commandframework.keys.CloudKey;
 import cloud.commandframework.keys.SimpleCloudKey;
 import io.leangen.geantyref.TypeToken;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
 import java.util.function.BiFunction;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Container for flag parsing logic. This should not be be used directly.
@@ -60,9 +62,6 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 @API(status = API.Status.STABLE)
 public final class FlagArgument<C> extends CommandArgument<C, Object> {
 
-    private static final Pattern FLAG_PRIMARY_PATTERN = Pattern.compile(" --(?<name>([A-Za-z]+))");
-    private static final Pattern FLAG_ALIAS_PATTERN = Pattern.compile(" -(?<name>([A-Za-z]+))");
-
     /**
      * Dummy object that indicates that flags were parsed successfully
      */
@@ -119,10 +118,110 @@ public final class FlagArgument<C> extends CommandArgument<C, Object> {
     @API(status = API.Status.STABLE)
     public static final class FlagArgumentParser<C> implements ArgumentParser<C, Object> {
 
+        private static final int ASCII_TABLE_SIZE = 128;
+        private static final CommandFlag<?>[] NO_FLAGS = new CommandFlag<?>[0];
+
         private final CommandFlag<?>[] flags;
+        /**
+         * Flags by their lower case name. If several flags share a name, the first one wins
+         */
+        private final Map<String, CommandFlag<?>> flagsByName = new HashMap<>();
+        /**
+         * Flags by their lower case alias. If several flags share an alias, the last one wins
+         */
+        private final Map<String, CommandFlag<?>> flagsByAlias = new HashMap<>();
+        /**
+         * Presence flags that may appear in a combined {@code -abc} group, indexed by their ASCII alias
+         */
+        private final CommandFlag<?>[][] presenceFlagsByAlias = new CommandFlag<?>[ASCII_TABLE_SIZE][];
 
         private FlagArgumentParser(final @NonNull CommandFlag<?>[] flags) {
             this.flags = flags;
+
+            final List<List<CommandFlag<?>>> presenceFlags = new ArrayList<>(Collections.nCopies(ASCII_TABLE_SIZE, null));
+            for (final CommandFlag<?> flag : flags) {
+                this.flagsByName.putIfAbsent(flag.getName().toLowerCase(Locale.ENGLISH), flag);
+                for (final String alias : flag.getAliases()) {
+                    this.flagsByAlias.put(alias.toLowerCase(Locale.ENGLISH), flag);
+
+                    /* Combined groups are lower cased before they are matched against the aliases */
+                    if (flag.getCommandArgument() != null || alias.length() != 1) {
+                        continue;
+                    }
+                    final char aliasChar = alias.charAt(0);
+                    if (aliasChar >= ASCII_TABLE_SIZE || Character.toLowerCase(aliasChar) != aliasChar) {
+                        continue;
+                    }
+                    List<CommandFlag<?>> aliasFlags = presenceFlags.get(aliasChar);
+                    if (aliasFlags == null) {
+                        aliasFlags = new ArrayList<>(1);
+                        presenceFlags.set(aliasChar, aliasFlags);
+                    }
+                    if (!aliasFlags.contains(flag)) {
+                        aliasFlags.add(flag);
+                    }
+                }
+            }
+            for (int i = 0; i < ASCII_TABLE_SIZE; i++) {
+                final List<CommandFlag<?>> aliasFlags = presenceFlags.get(i);
+                this.presenceFlagsByAlias[i] = aliasFlags == null ? NO_FLAGS : aliasFlags.toArray(NO_FLAGS);
+            }
+        }
+
+        private @Nullable CommandFlag<?> flagByName(final @NonNull String name) {
+            return this.flagsByName.get(name.toLowerCase(Locale.ENGLISH));
+        }
+
+        private @Nullable CommandFlag<?> flagByAlias(final @NonNull String alias) {
+            return this.flagsByAlias.get(alias.toLowerCase(Locale.ENGLISH));
+        }
+
+        /**
+         * Get the presence flags that a character in a combined {@code -abc} group refers to
+         *
+         * @param aliasChar Character from the group
+         * @return Matching presence flags, in registration order
+         */
+        private @NonNull CommandFlag<?> @NonNull [] presenceFlagsByAlias(final char aliasChar) {
+            final char lowerCaseChar = Character.toLowerCase(aliasChar);
+            if (lowerCaseChar < ASCII_TABLE_SIZE) {
+                return this.presenceFlagsByAlias[lowerCaseChar];
+            }
+            final String alias = Character.toString(aliasChar).toLowerCase(Locale.ENGLISH);
+            final List<CommandFlag<?>> aliasFlags = new ArrayList<>();
+            for (final CommandFlag<?> flag : this.flags) {
+                if (flag.getCommandArgument() == null && flag.getAliases().contains(alias)) {
+                    aliasFlags.add(flag);
+                }
+            }
+            return aliasFlags.toArray(NO_FLAGS);
+        }
+
+        /**
+         * Find the flags used in the raw input. This is only used when the flags have not been parsed
+         * into the context beforehand
+         *
+         * @param rawInput Raw input tokens
+         * @return Used flags
+         */
+        private @NonNull Set<CommandFlag<?>> findUsedFlags(final @NonNull List<@NonNull String> rawInput) {
+            final Set<CommandFlag<?>> usedFlags = new HashSet<>();
+            for (final String token : rawInput) {
+                if (token.startsWith("--")) {
+                    final CommandFlag<?> flag = this.flagByName(token.substring(2));
+                    if (flag != null) {
+                        usedFlags.add(flag);
+                    }
+                } else if (token.startsWith("-")) {
+                    for (int i = 1; i < token.length(); i++) {
+                        final CommandFlag<?> flag = this.flagByAlias(Character.toString(token.charAt(i)));
+                        if (flag != null) {
+                            usedFlags.add(flag);
+                        }
+                    }
+                }
+            }
+            return usedFlags;
         }
 
         @Override
@@ -192,34 +291,9 @@ public final class FlagArgument<C> extends CommandArgument<C, Object> {
             /* Check if we have a last flag stored */
             final String lastArg = Objects.requireNonNull(commandContext.getOrDefault(FLAG_META_KEY, ""));
             if (!lastArg.startsWith("-")) {
-                final String rawInput = commandContext.getRawInputJoined();
-                /* Collection containing all used flags */
-                final List<CommandFlag<?>> usedFlags = new LinkedList<>();
-                /* Find all "primary" flags, using --flag */
-                final Matcher primaryMatcher = FLAG_PRIMARY_PATTERN.matcher(rawInput);
-                while (primaryMatcher.find()) {
-                    final String name = primaryMatcher.group("name");
-                    for (final CommandFlag<?> flag : this.flags) {
-                        if (flag.getName().equalsIgnoreCase(name)) {
-                            usedFlags.add(flag);
-                            break;
-                        }
-                    }
-                }
-                /* Find all alias flags */
-                final Matcher aliasMatcher = FLAG_ALIAS_PATTERN.matcher(rawInput);
-                while (aliasMatcher.find()) {
-                    final String name = aliasMatcher.group("name");
-                    for (final CommandFlag<?> flag : this.flags) {
-                        for (final String alias : flag.getAliases()) {
-                            /* Aliases are single-char strings */
-                            if (name.contains(alias)) {
-                                usedFlags.add(flag);
-                                break;
-                            }
-                        }
-                    }
-                }
+                /* Collection containing all used flags, as recorded by the flag parser */
+                final Set<CommandFlag<?>> usedFlags = commandContext.getOptional(PARSED_FLAGS)
+                        .orElseGet(() -> this.findUsedFlags(commandContext.getRawInput()));
                 /* Suggestions */
                 final List<String> strings = new LinkedList<>();
                 /* Recommend "primary" flags */
@@ -259,23 +333,9 @@ public final class FlagArgument<C> extends CommandArgument<C, Object> {
             } else {
                 CommandFlag<?> currentFlag = null;
                 if (lastArg.startsWith("--")) { // --long
-                    final String flagName = lastArg.substring(2);
-                    for (final CommandFlag<?> flag : this.flags) {
-                        if (flagName.equalsIgnoreCase(flag.getName())) {
-                            currentFlag = flag;
-                            break;
-                        }
-                    }
+                    currentFlag = this.flagByName(lastArg.substring(2));
                 } else { // -x
-                    final String flagName = lastArg.substring(1);
-                    for (final CommandFlag<?> flag : this.flags) {
-                        for (final String alias : flag.getAliases()) {
-                            if (alias.equalsIgnoreCase(flagName)) {
-                                currentFlag = flag;
-                                break;
-                            }
-                        }
-                    }
+                    currentFlag = this.flagByAlias(lastArg.substring(1));
                 }
                 if (currentFlag != null
                         && commandContext.hasPermission(currentFlag.permission())
@@ -333,45 +393,32 @@ public final class FlagArgument<C> extends CommandArgument<C, Object> {
                         inputQueue.poll();
 
                         if (string.startsWith("--")) {
-                            final String flagName = string.substring(2);
-                            for (final CommandFlag<?> flag : FlagArgumentParser.this.flags) {
-                                if (flagName.equalsIgnoreCase(flag.getName())) {
-                                    currentFlag = flag;
-                                    currentFlagName = string;
-                                    break;
-                                }
-                            }
+                            currentFlag = FlagArgumentParser.this.flagByName(string.substring(2));
+                            currentFlagName = string;
                         } else {
                             final String flagName = string.substring(1);
                             if (flagName.length() > 1) {
                                 boolean oneAdded = false;
                                 for (int i = 0; i < flagName.length(); i++) {
-                                    final String parsedFlag = Character.toString(flagName.charAt(i))
-                                            .toLowerCase(Locale.ENGLISH);
-                                    for (final CommandFlag<?> candidateFlag : FlagArgumentParser.this.flags) {
-                                        if (candidateFlag.getCommandArgument() != null) {
-                                            continue;
+                                    for (final CommandFlag<?> candidateFlag
+                                            : FlagArgumentParser.this.presenceFlagsByAlias(flagName.charAt(i))) {
+                                        if (parsedFlags.contains(candidateFlag)
+                                                && candidateFlag.mode() != CommandFlag.FlagMode.REPEATABLE) {
+                                            return ArgumentParseResult.failure(new FlagParseException(
+                                                    string,
+                                                    FailureReason.DUPLICATE_FLAG,
+                                                    commandContext
+                                            ));
+                                        } else if (!commandContext.hasPermission(candidateFlag.permission())) {
+                                            return ArgumentParseResult.failure(new FlagParseException(
+                                                    string,
+                                                    FailureReason.NO_PERMISSION,
+                                                    commandContext
+                                            ));
                                         }
-
-                                       if (candidateFlag.getAliases().contains(parsedFlag)) {
-                                           if (parsedFlags.contains(candidateFlag)
-                                                   && candidateFlag.mode() != CommandFlag.FlagMode.REPEATABLE) {
-                                               return ArgumentParseResult.failure(new FlagParseException(
-                                                       string,
-                                                       FailureReason.DUPLICATE_FLAG,
-                                                       commandContext
-                                               ));
-                                           } else if (!commandContext.hasPermission(candidateFlag.permission())) {
-                                               return ArgumentParseResult.failure(new FlagParseException(
-                                                       string,
-                                                       FailureReason.NO_PERMISSION,
-                                                       commandContext
-                                               ));
-                                           }
-                                           parsedFlags.add(candidateFlag);
-                                           commandContext.flags().addPresenceFlag(candidateFlag);
-                                           oneAdded = true;
-                                       }
+                                        parsedFlags.add(candidateFlag);
+                                        commandContext.flags().addPresenceFlag(candidateFlag);
+                                        oneAdded = true;
                                     }
                                 }
                                 /* We need to parse at least one flag */
@@ -384,15 +431,8 @@ public final class FlagArgument<C> extends CommandArgument<C, Object> {
                                 }
                                 continue;
                             } else {
-                                for (final CommandFlag<?> flag : FlagArgumentParser.this.flags) {
-                                    for (final String alias : flag.getAliases()) {
-                                        if (alias.equalsIgnoreCase(flagName)) {
-                                            currentFlag = flag;
-                                            currentFlagName = string;
-                                            break;
-                                        }
-                                    }
-                                }
+                                currentFlag = FlagArgumentParser.this.flagByAlias(flagName);
+                                currentFlagName = string;
                             }
                         }
                         if (currentFlag == null) {
@@ -0,0 +1,161 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.arguments.parser;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Bounded least recently used memo of the values that a {@link ArgumentParser#isContextFree() context free} parser
+ * has parsed, keyed on the raw input token.
+ * <p>
+ * The memo is consulted by the command tree before invoking the parser, so that repeated input skips parsing
+ * entirely. Only successful results are memoized, as parse failures carry the context that they were created in.
+ * Parsers whose results change over time, such as parsers that look up online players, must not be memoized.
+ *
+ * @param <T> Value type
+ * @since 1.9.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+public final class ArgumentParseMemo<T> {
+
+    private final int capacity;
+    private final Map<String, T> values;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private ArgumentParseMemo(final int capacity) {
+        this.capacity = capacity;
+        this.values = new LinkedHashMap<String, T>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, T> eldest) {
+                return this.size() > ArgumentParseMemo.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Create a new memo that holds at most {@code capacity} values
+     *
+     * @param capacity Maximum number of memoized values
+     * @param <T>      Value type
+     * @return Created memo
+     */
+    public static <T> @NonNull ArgumentParseMemo<T> of(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, was " + capacity);
+        }
+        return new ArgumentParseMemo<>(capacity);
+    }
+
+    /**
+     * Get the value that was memoized for the given token, and record a hit or a miss
+     *
+     * @param token Raw input token
+     * @return Memoized value, or {@code null} if the token has not been memoized
+     */
+    public @Nullable T get(final @NonNull String token) {
+        final T value;
+        synchronized (this.values) {
+            value = this.values.get(token);
+        }
+        if (value == null) {
+            this.misses.incrementAndGet();
+        } else {
+            this.hits.incrementAndGet();
+        }
+        return value;
+    }
+
+    /**
+     * Memoize the value that the given token was parsed into, evicting the least recently used value if the memo is full
+     *
+     * @param token Raw input token
+     * @param value Parsed value
+     */
+    public void put(final @NonNull String token, final @NonNull T value) {
+        synchronized (this.values) {
+            this.values.put(token, value);
+        }
+    }
+
+    /**
+     * Remove all memoized values. The hit and miss counters are not reset
+     */
+    public void clear() {
+        synchronized (this.values) {
+            this.values.clear();
+        }
+    }
+
+    /**
+     * Get the number of memoized values
+     *
+     * @return Number of values
+     */
+    public int size() {
+        synchronized (this.values) {
+            return this.values.size();
+        }
+    }
+
+    /**
+     * Get the maximum number of memoized values
+     *
+     * @return Capacity
+     */
+    public int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Get the number of lookups that found a memoized value
+     *
+     * @return Number of hits
+     */
+    public long hits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Get the number of lookups that did not find a memoized value
+     *
+     * @return Number of misses
+     */
+    public long misses() {
+        return this.misses.get();
+    }
+
+    @Override
+    public String toString() {
+        return "ArgumentParseMemo{capacity=" + this.capacity + ", size=" + this.size()
+                + ", hits=" + this.hits() + ", misses=" + this.misses() + '}';
+    }
+}
@@ -267,7 +267,7 @@ public final class ByteArgument<C> extends CommandArgument<C, Byte> {
                 final @NonNull CommandContext<C> commandContext,
                 final @NonNull String input
         ) {
-            return IntegerArgument.IntegerParser.getSuggestions(this.min, this.max, input);
+            return NumericSuggestions.suggestions(commandContext, this.min, this.max, input);
         }
 
         /**
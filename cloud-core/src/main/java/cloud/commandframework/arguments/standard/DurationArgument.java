@@ -33,16 +33,12 @@ import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.parsing.NoInputProvidedException;
 import cloud.commandframework.exceptions.parsing.ParserException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Locale;
 import java.util.Queue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -56,10 +52,8 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 @API(status = API.Status.STABLE, since = "1.7.0")
 public final class DurationArgument<C> extends CommandArgument<C, Duration> {
 
-    /**
-     * Matches durations in the format of: <code>2d15h7m12s</code>
-     */
-    private static final Pattern DURATION_PATTERN = Pattern.compile("(([1-9][0-9]+|[1-9])[dhms])");
+    private static final char[] UNITS = {'d', 'h', 'm', 's'};
+    private static final int RADIX = 10;
 
     private DurationArgument(
             final boolean required,
@@ -215,66 +209,87 @@ public final class DurationArgument<C> extends CommandArgument<C, Duration> {
                 ));
             }
 
-            final Matcher matcher = DURATION_PATTERN.matcher(input);
-
-            Duration duration = Duration.ofNanos(0);
-
-            while (matcher.find()) {
-                String group = matcher.group();
-                String timeUnit = String.valueOf(group.charAt(group.length() - 1));
-                int timeValue = Integer.parseInt(group.substring(0, group.length() - 1));
-                switch (timeUnit) {
-                    case "d":
-                        duration = duration.plusDays(timeValue);
-                        break;
-                    case "h":
-                        duration = duration.plusHours(timeValue);
-                        break;
-                    case "m":
-                        duration = duration.plusMinutes(timeValue);
-                        break;
-                    case "s":
-                        duration = duration.plusSeconds(timeValue);
-                        break;
-                    default:
+            /*
+             * Scan for <number><unit> components, where the number does not start with a zero. Characters that are
+             * not part of a component are skipped.
+             */
+            long seconds = 0;
+            int index = 0;
+            while (index < input.length()) {
+                final char first = input.charAt(index);
+                if (first < '1' || first > '9') {
+                    index++;
+                    continue;
+                }
+                int end = index + 1;
+                while (end < input.length() && input.charAt(end) >= '0' && input.charAt(end) <= '9') {
+                    end++;
+                }
+                final long unitSeconds = end < input.length() ? unitSeconds(input.charAt(end)) : -1;
+                if (unitSeconds < 0) {
+                    index = end;
+                    continue;
+                }
+                long value = 0;
+                for (int i = index; i < end; i++) {
+                    value = value * RADIX + (input.charAt(i) - '0');
+                    if (value > Integer.MAX_VALUE) {
                         return ArgumentParseResult.failure(new DurationArgument.DurationParseException(input, commandContext));
+                    }
                 }
+                seconds += value * unitSeconds;
+                index = end + 1;
             }
 
-            if (duration.isZero()) {
+            if (seconds == 0) {
                 return ArgumentParseResult.failure(new DurationArgument.DurationParseException(input, commandContext));
             }
 
+            final Duration duration = Duration.ofSeconds(seconds);
             inputQueue.remove();
             return ArgumentParseResult.success(duration);
         }
 
         @Override
+        @SuppressWarnings("MixedMutabilityReturnType")
         public @NonNull List<@NonNull String> suggestions(
                 final @NonNull CommandContext<C> commandContext,
                 final @NonNull String input
         ) {
-            char[] chars = input.toLowerCase(Locale.ROOT).toCharArray();
-
-            if (chars.length == 0) {
-                return IntStream.range(1, 10).boxed()
-                        .sorted()
-                        .map(String::valueOf)
-                        .collect(Collectors.toList());
-            }
-
-            char last = chars[chars.length - 1];
-
             // 1d_, 5d4m_, etc
-            if (Character.isLetter(last)) {
+            if (!input.isEmpty() && Character.isLetter(input.charAt(input.length() - 1))) {
                 return Collections.emptyList();
             }
 
-            // 1d5_, 5d4m2_, etc
-            return Stream.of("d", "h", "m", "s")
-                    .filter(unit -> !input.contains(unit))
-                    .map(unit -> input + unit)
-                    .collect(Collectors.toList());
+            final List<String> suggestions = new ArrayList<>();
+            if (input.isEmpty()) {
+                for (char digit = '1'; digit <= '9'; digit++) {
+                    suggestions.add(String.valueOf(digit));
+                }
+            } else {
+                // 1d5_, 5d4m2_, etc
+                for (final char unit : UNITS) {
+                    if (input.indexOf(unit) < 0) {
+                        suggestions.add(input + unit);
+                    }
+                }
+            }
+            return suggestions;
+        }
+
+        private static long unitSeconds(final char unit) {
+            switch (unit) {
+                case 'd':
+                    return TimeUnit.DAYS.toSeconds(1);
+                case 'h':
+                    return TimeUnit.HOURS.toSeconds(1);
+                case 'm':
+                    return TimeUnit.MINUTES.toSeconds(1);
+                case 's':
+                    return 1;
+                default:
+                    return -1;
+            }
         }
     }
 
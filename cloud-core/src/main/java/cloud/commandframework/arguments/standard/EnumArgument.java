@@ -32,8 +32,12 @@ import cloud.commandframework.captions.StandardCaptionKeys;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.parsing.NoInputProvidedException;
 import cloud.commandframework.exceptions.parsing.ParserException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.function.BiFunction;
@@ -175,7 +179,14 @@ public class EnumArgument<C, E extends Enum<E>> extends CommandArgument<C, E> {
     public static final class EnumParser<C, E extends Enum<E>> implements ArgumentParser<C, E> {
 
         private final Class<E> enumClass;
-        private final EnumSet<E> allowedValues;
+        /**
+         * Constants keyed on their case folded names
+         */
+        private final Map<String, E> constants;
+        /**
+         * Lower case names of the constants, in declaration order
+         */
+        private final List<String> suggestions;
 
         /**
          * Construct a new enum parser
@@ -184,7 +195,31 @@ public class EnumArgument<C, E extends Enum<E>> extends CommandArgument<C, E> {
          */
         public EnumParser(final @NonNull Class<E> enumClass) {
             this.enumClass = enumClass;
-            this.allowedValues = EnumSet.allOf(enumClass);
+            final E[] values = enumClass.getEnumConstants();
+            final Map<String, E> constants = new HashMap<>();
+            final String[] suggestions = new String[values.length];
+            for (final E value : values) {
+                constants.putIfAbsent(fold(value.name()), value);
+                suggestions[value.ordinal()] = value.name().toLowerCase();
+            }
+
+            this.constants = constants;
+            this.suggestions = Collections.unmodifiableList(Arrays.asList(suggestions));
+        }
+
+        /**
+         * Fold the case of a string, such that two strings are {@link String#equalsIgnoreCase(String) equal ignoring case}
+         * if and only if their folded forms are equal
+         *
+         * @param string String to fold
+         * @return Folded string, which has the same length as the input
+         */
+        private static @NonNull String fold(final @NonNull String string) {
+            final char[] chars = new char[string.length()];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = Character.toLowerCase(Character.toUpperCase(string.charAt(i)));
+            }
+            return new String(chars);
         }
 
         @Override
@@ -200,22 +235,27 @@ public class EnumArgument<C, E extends Enum<E>> extends CommandArgument<C, E> {
                 ));
             }
 
-            for (final E value : this.allowedValues) {
-                if (value.name().equalsIgnoreCase(input)) {
-                    inputQueue.remove();
-                    return ArgumentParseResult.success(value);
-                }
+            final E value = this.constants.get(fold(input));
+            if (value != null) {
+                inputQueue.remove();
+                return ArgumentParseResult.success(value);
             }
 
             return ArgumentParseResult.failure(new EnumParseException(input, this.enumClass, commandContext));
         }
 
+        /**
+         * {@inheritDoc}
+         * <p>
+         * The suggestions are the lower case names of all constants in declaration order. The list is built once when the
+         * parser is created, and is shared between calls
+         */
         @Override
         public @NonNull List<@NonNull String> suggestions(
                 final @NonNull CommandContext<C> commandContext,
                 final @NonNull String input
         ) {
-            return EnumSet.allOf(this.enumClass).stream().map(e -> e.name().toLowerCase()).collect(Collectors.toList());
+            return this.suggestions;
         }
 
         @Override
@@ -229,6 +269,19 @@ public class EnumArgument<C, E extends Enum<E>> extends CommandArgument<C, E> {
     public static final class EnumParseException extends ParserException {
 
         private static final long serialVersionUID = 3465389578951428862L;
+        /**
+         * Joined lower case constants of each enum class, which are the same for every failure
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static final ClassValue<String> ACCEPTABLE_VALUES = new ClassValue<String>() {
+            @Override
+            protected String computeValue(final Class<?> type) {
+                final EnumSet<?> enumSet = EnumSet.allOf((Class<? extends Enum>) type);
+                return enumSet.stream()
+                        .map(e -> e.toString().toLowerCase())
+                        .collect(Collectors.joining(", "));
+            }
+        };
         private final String input;
         private final Class<? extends Enum<?>> enumClass;
 
@@ -257,10 +310,7 @@ public class EnumArgument<C, E extends Enum<E>> extends CommandArgument<C, E> {
 
         @SuppressWarnings({"unchecked", "rawtypes"})
         private static @NonNull String join(final @NonNull Class<? extends Enum> clazz) {
-            final EnumSet<?> enumSet = EnumSet.allOf(clazz);
-            return enumSet.stream()
-                    .map(e -> e.toString().toLowerCase())
-                    .collect(Collectors.joining(", "));
+            return ACCEPTABLE_VALUES.get(clazz);
         }
 
         /**
@@ -25,18 +25,15 @@ package cloud.commandframework.arguments.standard;
 
 import cloud.commandframework.ArgumentDescription;
 import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.arguments.SuggestionSink;
 import cloud.commandframework.arguments.parser.ArgumentParseResult;
 import cloud.commandframework.arguments.parser.ArgumentParser;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.parsing.NoInputProvidedException;
 import cloud.commandframework.exceptions.parsing.NumberParseException;
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
-import java.util.Set;
-import java.util.TreeSet;
 import java.util.function.BiFunction;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -47,9 +44,6 @@ import org.checkerframework.common.returnsreceiver.qual.This;
 @API(status = API.Status.STABLE)
 public final class IntegerArgument<C> extends CommandArgument<C, Integer> {
 
-    private static final int MAX_SUGGESTIONS_INCREMENT = 10;
-    private static final int NUMBER_SHIFT_MULTIPLIER = 10;
-
     private final int min;
     private final int max;
 
@@ -251,39 +245,14 @@ public final class IntegerArgument<C> extends CommandArgument<C, Integer> {
          * @param input Input
          * @return List of suggestions
          */
-        @SuppressWarnings("MixedMutabilityReturnType")
         public static @NonNull List<@NonNull String> getSuggestions(
                 final long min,
                 final long max,
                 final @NonNull String input
         ) {
-            final Set<Long> numbers = new TreeSet<>();
-
-            try {
-                final long inputNum = Long.parseLong(input.equals("-") ? "-0" : input.isEmpty() ? "0" : input);
-                final long inputNumAbsolute = Math.abs(inputNum);
-
-                numbers.add(inputNumAbsolute); /* It's a valid number, so we suggest it */
-                for (int i = 0; i < MAX_SUGGESTIONS_INCREMENT
-                        && (inputNum * NUMBER_SHIFT_MULTIPLIER) + i <= max; i++) {
-                    numbers.add((inputNumAbsolute * NUMBER_SHIFT_MULTIPLIER) + i);
-                }
-
-                final List<String> suggestions = new LinkedList<>();
-                for (long number : numbers) {
-                    if (input.startsWith("-")) {
-                        number = -number; /* Preserve sign */
-                    }
-                    if (number < min || number > max) {
-                        continue;
-                    }
-                    suggestions.add(String.valueOf(number));
-                }
-
-                return suggestions;
-            } catch (final Exception ignored) {
-                return Collections.emptyList();
-            }
+            final SuggestionSink sink = SuggestionSink.unbounded();
+            NumericSuggestions.suggest(min, max, input, sink);
+            return sink.suggestions();
         }
 
         @Override
@@ -357,7 +326,7 @@ public final class IntegerArgument<C> extends CommandArgument<C, Integer> {
                 final @NonNull CommandContext<C> commandContext,
                 final @NonNull String input
         ) {
-            return getSuggestions(this.min, this.max, input);
+            return NumericSuggestions.suggestions(commandContext, this.min, this.max, input);
         }
     }
 
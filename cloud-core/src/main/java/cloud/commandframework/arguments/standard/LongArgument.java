@@ -304,7 +304,7 @@ public final class LongArgument<C> extends CommandArgument<C, Long> {
                 final @NonNull CommandContext<C> commandContext,
                 final @NonNull String input
         ) {
-            return IntegerArgument.IntegerParser.getSuggestions(this.min, this.max, input);
+            return NumericSuggestions.suggestions(commandContext, this.min, this.max, input);
         }
     }
 
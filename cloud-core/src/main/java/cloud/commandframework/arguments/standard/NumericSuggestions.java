@@ -0,0 +1,137 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.arguments.standard;
+
+import cloud.commandframework.arguments.SuggestionSink;
+import cloud.commandframework.context.CommandContext;
+import java.util.List;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Suggestion engine shared by the integral number parsers.
+ * <p>
+ * For a valid numeric prefix, the engine suggests the prefix itself followed by the prefix with each digit appended,
+ * keeping the sign of the input and skipping numbers outside of the accepted range. Candidates are generated in
+ * ascending order of their absolute value, and there are never more than eleven of them.
+ *
+ * @since 1.9.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+public final class NumericSuggestions {
+
+    private static final int RADIX = 10;
+
+    private NumericSuggestions() {
+    }
+
+    /**
+     * Get the suggestions for a numeric argument
+     *
+     * @param commandContext Command context
+     * @param min            Minimum accepted value
+     * @param max            Maximum accepted value
+     * @param input          Input that is being completed
+     * @return Suggestions, in ascending order of their absolute value
+     */
+    public static @NonNull List<@NonNull String> suggestions(
+            final @NonNull CommandContext<?> commandContext,
+            final long min,
+            final long max,
+            final @NonNull String input
+    ) {
+        final SuggestionSink sink = SuggestionSink.unbounded();
+        suggest(min, max, input, sink);
+        return sink.suggestions();
+    }
+
+    /**
+     * Push the suggestions for the given input into a sink, stopping as soon as the sink is full. Nothing is
+     * suggested if the input is not a (possibly empty or signed) number
+     *
+     * @param min   Minimum accepted value
+     * @param max   Maximum accepted value
+     * @param input Input that is being completed
+     * @param sink  Sink that receives the suggestions
+     */
+    public static void suggest(
+            final long min,
+            final long max,
+            final @NonNull String input,
+            final @NonNull SuggestionSink sink
+    ) {
+        final boolean negative = !input.isEmpty() && input.charAt(0) == '-';
+        final int start = !input.isEmpty() && (negative || input.charAt(0) == '+') ? 1 : 0;
+        if (start == 1 && input.length() == 1 && !negative) {
+            return;
+        }
+
+        /* Accumulate negatively, so that the magnitude of Long.MIN_VALUE can be represented */
+        long negatedValue = 0;
+        for (int i = start; i < input.length(); i++) {
+            final int digit = Character.digit(input.charAt(i), RADIX);
+            if (digit < 0 || negatedValue < (Long.MIN_VALUE + digit) / RADIX) {
+                return;
+            }
+            negatedValue = negatedValue * RADIX - digit;
+        }
+        if (negatedValue == Long.MIN_VALUE) {
+            /* Long.MIN_VALUE cannot be extended, and its magnitude cannot be represented */
+            if (negative) {
+                offer(Long.MIN_VALUE, false, min, max, sink);
+            }
+            return;
+        }
+
+        final long absolute = -negatedValue;
+
+        if (!offer(absolute, negative, min, max, sink)) {
+            return;
+        }
+        for (int i = 0; i < RADIX && absolute <= (Long.MAX_VALUE - i) / RADIX; i++) {
+            final long number = absolute * RADIX + i;
+            if (negative ? -number < min : number > max) {
+                /* The candidates only move further away from the accepted range */
+                return;
+            }
+            if (number != absolute && !offer(number, negative, min, max, sink)) {
+                return;
+            }
+        }
+    }
+
+    private static boolean offer(
+            final long absolute,
+            final boolean negative,
+            final long min,
+            final long max,
+            final @NonNull SuggestionSink sink
+    ) {
+        final long number = negative ? -absolute : absolute;
+        if (number < min || number > max) {
+            return true;
+        }
+        return sink.accept(Long.toString(number));
+    }
+}
@@ -32,14 +32,10 @@ import cloud.commandframework.captions.StandardCaptionKeys;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.parsing.NoInputProvidedException;
 import cloud.commandframework.exceptions.parsing.ParserException;
-import cloud.commandframework.util.StringUtils;
 import java.util.Collections;
 import java.util.List;
 import java.util.Queue;
-import java.util.StringJoiner;
 import java.util.function.BiFunction;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.common.returnsreceiver.qual.This;
@@ -48,9 +44,6 @@ import org.checkerframework.common.returnsreceiver.qual.This;
 @API(status = API.Status.STABLE)
 public final class StringArgument<C> extends CommandArgument<C, String> {
 
-    private static final Pattern QUOTED_DOUBLE = Pattern.compile("\"(?<inner>(?:[^\"\\\\]|\\\\.)*)\"");
-    private static final Pattern QUOTED_SINGLE = Pattern.compile("'(?<inner>(?:[^'\\\\]|\\\\.)*)'");
-
     private final StringMode stringMode;
 
     private StringArgument(
@@ -329,8 +322,6 @@ public final class StringArgument<C> extends CommandArgument<C, String> {
     @API(status = API.Status.STABLE)
     public static final class StringParser<C> implements ArgumentParser<C, String> {
 
-        private static final Pattern FLAG_PATTERN = Pattern.compile("(-[A-Za-z_\\-0-9])|(--[A-Za-z_\\-0-9]*)");
-
         private final StringMode stringMode;
         private final BiFunction<CommandContext<C>, String, List<String>> suggestionsProvider;
 
@@ -372,6 +363,15 @@ public final class StringArgument<C> extends CommandArgument<C, String> {
             }
         }
 
+        /**
+         * Scan a quoted string in a single pass over the input tokens. Backslashes escape the following
+         * character, and only escaped quotes lose their backslash. The token that contains the closing
+         * quote is the last token that is consumed.
+         *
+         * @param commandContext Command context
+         * @param inputQueue     Input queue
+         * @return Parsed string, or a failure if the quote is never closed
+         */
         private @NonNull ArgumentParseResult<String> parseQuoted(
                 final @NonNull CommandContext<C> commandContext,
                 final @NonNull Queue<@NonNull String> inputQueue
@@ -382,60 +382,51 @@ public final class StringArgument<C> extends CommandArgument<C, String> {
                 return ArgumentParseResult.success(peek);
             }
 
-            final StringJoiner sj = new StringJoiner(" ");
-            for (final String string : inputQueue) {
-                sj.add(string);
-            }
-            final String string = sj.toString();
-
-            final Matcher doubleMatcher = QUOTED_DOUBLE.matcher(string);
-            String doubleMatch = null;
-            if (doubleMatcher.find()) {
-                doubleMatch = doubleMatcher.group("inner");
-            }
-            final Matcher singleMatcher = QUOTED_SINGLE.matcher(string);
-            String singleMatch = null;
-            if (singleMatcher.find()) {
-                singleMatch = singleMatcher.group("inner");
-            }
+            final char quote = peek.charAt(0);
+            final StringBuilder inner = new StringBuilder();
+            int consumedTokens = 0;
+            boolean closed = false;
 
-            String inner = null;
-            if (singleMatch != null && doubleMatch != null) {
-                final int singleIndex = string.indexOf(singleMatch);
-                final int doubleIndex = string.indexOf(doubleMatch);
-                inner = doubleIndex < singleIndex ? doubleMatch : singleMatch;
-            } else if (singleMatch == null && doubleMatch != null) {
-                inner = doubleMatch;
-            } else if (singleMatch != null) {
-                inner = singleMatch;
-            }
-
-            if (inner != null) {
-                final int numSpaces = StringUtils.countCharOccurrences(inner, ' ');
-                for (int i = 0; i <= numSpaces; i++) {
-                    inputQueue.remove();
+            scan:
+            for (final String token : inputQueue) {
+                if (consumedTokens++ > 0) {
+                    inner.append(' ');
                 }
-            } else {
-                inner = inputQueue.peek();
-                if (inner.startsWith("\"") || inner.startsWith("'")) {
-                    return ArgumentParseResult.failure(new StringParseException(sj.toString(),
-                            StringMode.QUOTED, commandContext
-                    ));
-                } else {
-                    inputQueue.remove();
+                for (int i = consumedTokens == 1 ? 1 : 0; i < token.length(); i++) {
+                    final char character = token.charAt(i);
+                    if (character == '\\' && i + 1 < token.length()) {
+                        final char escaped = token.charAt(++i);
+                        if (escaped != '"' && escaped != '\'') {
+                            inner.append(character);
+                        }
+                        inner.append(escaped);
+                    } else if (character == quote) {
+                        closed = true;
+                        break scan;
+                    } else {
+                        inner.append(character);
+                    }
                 }
             }
 
-            inner = inner.replace("\\\"", "\"").replace("\\'", "'");
-
-            return ArgumentParseResult.success(inner);
+            if (!closed) {
+                return ArgumentParseResult.failure(new StringParseException(
+                        String.join(" ", inputQueue),
+                        StringMode.QUOTED,
+                        commandContext
+                ));
+            }
+            for (int i = 0; i < consumedTokens; i++) {
+                inputQueue.remove();
+            }
+            return ArgumentParseResult.success(inner.toString());
         }
 
         private @NonNull ArgumentParseResult<String> parseGreedy(
                 final @NonNull CommandContext<C> commandContext,
                 final @NonNull Queue<@NonNull String> inputQueue
         ) {
-            final StringJoiner sj = new StringJoiner(" ");
+            final StringBuilder builder = new StringBuilder();
             final int size = inputQueue.size();
 
             for (int i = 0; i < size; i++) {
@@ -445,18 +436,48 @@ public final class StringArgument<C> extends CommandArgument<C, String> {
                     break;
                 }
 
-                if (this.stringMode == StringMode.GREEDY_FLAG_YIELDING) {
-                    // The pattern requires a leading space.
-                    if (FLAG_PATTERN.matcher(string).matches()) {
-                        break;
-                    }
+                if (this.stringMode == StringMode.GREEDY_FLAG_YIELDING && isFlag(string)) {
+                    break;
                 }
 
-                sj.add(string);
+                if (i > 0) {
+                    builder.append(' ');
+                }
+                builder.append(string);
                 inputQueue.remove();
             }
 
-            return ArgumentParseResult.success(sj.toString());
+            return ArgumentParseResult.success(builder.toString());
+        }
+
+        /**
+         * Check whether a token is a flag, meaning either {@code -x} or {@code --name}, where the names consist of
+         * letters, digits, underscores and dashes
+         *
+         * @param token Token
+         * @return {@code true} if the token is a flag
+         */
+        private static boolean isFlag(final @NonNull String token) {
+            if (token.length() < 2 || token.charAt(0) != '-') {
+                return false;
+            }
+            if (token.charAt(1) != '-') {
+                return token.length() == 2 && isFlagCharacter(token.charAt(1));
+            }
+            for (int i = 2; i < token.length(); i++) {
+                if (!isFlagCharacter(token.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean isFlagCharacter(final char character) {
+            return (character >= 'a' && character <= 'z')
+                    || (character >= 'A' && character <= 'Z')
+                    || (character >= '0' && character <= '9')
+                    || character == '_'
+                    || character == '-';
         }
 
         @Override
@@ -42,4 +42,20 @@ public interface CaptionRegistry<C> {
      * @return Caption
      */
     @NonNull String getCaption(@NonNull Caption caption, @NonNull C sender);
+
+    /**
+     * Get a compiled template of a caption for a specific sender.
+     * <p>
+     * The default implementation compiles the result of {@link #getCaption(Caption, Object)} on every call.
+     * Implementations are encouraged to cache the compiled templates.
+     *
+     * @param caption Caption key
+     * @param sender  Sender
+     * @return Compiled caption
+     * @since 1.9.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+    default @NonNull CaptionTemplate getCaptionTemplate(final @NonNull Caption caption, final @NonNull C sender) {
+        return CaptionTemplate.compile(this.getCaption(caption, sender));
+    }
 }
@@ -0,0 +1,147 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.captions;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Caption message that has been parsed into literal segments and {@code {variable}} slots, so that
+ * it can be rendered in a single pass.
+ * <p>
+ * A slot is a pair of braces that does not contain any other brace. Slots without a matching
+ * {@link CaptionVariable} are rendered verbatim. Replacement values are inserted as-is, and are never
+ * scanned for further variables.
+ *
+ * @since 1.9.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+public final class CaptionTemplate {
+
+    private static final int ESTIMATED_VARIABLE_LENGTH = 16;
+
+    private final String template;
+    /**
+     * Literal segments. There is always exactly one more literal than there are variable keys
+     */
+    private final String[] literals;
+    private final String[] keys;
+
+    private CaptionTemplate(
+            final @NonNull String template,
+            final @NonNull String @NonNull [] literals,
+            final @NonNull String @NonNull [] keys
+    ) {
+        this.template = template;
+        this.literals = literals;
+        this.keys = keys;
+    }
+
+    /**
+     * Parse a caption message into a template
+     *
+     * @param template Caption message
+     * @return Compiled template
+     */
+    public static @NonNull CaptionTemplate compile(final @NonNull String template) {
+        final List<String> literals = new ArrayList<>();
+        final List<String> keys = new ArrayList<>();
+        int literalStart = 0;
+        int open = -1;
+        for (int i = 0; i < template.length(); i++) {
+            final char character = template.charAt(i);
+            if (character == '{') {
+                open = i;
+            } else if (character == '}' && open >= 0) {
+                literals.add(template.substring(literalStart, open));
+                keys.add(template.substring(open + 1, i));
+                literalStart = i + 1;
+                open = -1;
+            }
+        }
+        literals.add(template.substring(literalStart));
+        return new CaptionTemplate(
+                template,
+                literals.toArray(new String[0]),
+                keys.toArray(new String[0])
+        );
+    }
+
+    /**
+     * Get the caption message that this template was compiled from
+     *
+     * @return Caption message
+     */
+    public @NonNull String template() {
+        return this.template;
+    }
+
+    /**
+     * Render the template, replacing each slot with the value of the first variable that has the same key
+     *
+     * @param variables Variables
+     * @return Rendered message
+     */
+    public @NonNull String render(final @NonNull CaptionVariable @NonNull... variables) {
+        if (this.keys.length == 0) {
+            return this.template;
+        }
+        final StringBuilder builder = new StringBuilder(
+                this.template.length() + this.keys.length * ESTIMATED_VARIABLE_LENGTH
+        );
+        for (int i = 0; i < this.keys.length; i++) {
+            builder.append(this.literals[i]);
+            final CaptionVariable variable = find(this.keys[i], variables);
+            if (variable == null) {
+                builder.append('{').append(this.keys[i]).append('}');
+            } else {
+                builder.append(variable.getValue());
+            }
+        }
+        return builder.append(this.literals[this.keys.length]).toString();
+    }
+
+    private static @Nullable CaptionVariable find(
+            final @NonNull String key,
+            final @NonNull CaptionVariable @NonNull [] variables
+    ) {
+        for (final CaptionVariable variable : variables) {
+            if (variable.getKey().equals(key)) {
+                return variable;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "CaptionTemplate{template='%s'}",
+                this.template
+        );
+    }
+}
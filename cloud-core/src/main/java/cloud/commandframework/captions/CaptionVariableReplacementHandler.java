@@ -40,4 +40,23 @@ public interface CaptionVariableReplacementHandler {
      * @return Transformed message
      */
     @NonNull String replaceVariables(@NonNull String string, @NonNull CaptionVariable... variables);
+
+    /**
+     * Replace the variables in a compiled caption template and return the result.
+     * <p>
+     * The default implementation delegates to {@link #replaceVariables(String, CaptionVariable...)} using the
+     * {@link CaptionTemplate#template() template message}.
+     *
+     * @param template  Template to replace variables in
+     * @param variables Variables
+     * @return Transformed message
+     * @since 1.9.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+    default @NonNull String replaceVariables(
+            final @NonNull CaptionTemplate template,
+            final @NonNull CaptionVariable... variables
+    ) {
+        return this.replaceVariables(template.template(), variables);
+    }
 }
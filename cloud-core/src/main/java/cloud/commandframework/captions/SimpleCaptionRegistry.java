@@ -25,6 +25,7 @@ package cloud.commandframework.captions;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -98,7 +99,18 @@ public class SimpleCaptionRegistry<C> implements FactoryDelegatingCaptionRegistr
      */
     public static final String ARGUMENT_PARSE_FAILURE_DURATION = "'{input}' is not a duration format";
 
+    /**
+     * Maximum amount of compiled templates that are cached, to bound the memory used by message factories
+     * that produce a different message on every call
+     */
+    private static final int MAX_CACHED_TEMPLATES = 512;
+
     private final Map<Caption, BiFunction<Caption, C, String>> messageFactories = new HashMap<>();
+    /**
+     * Compiled templates, keyed by the message produced by the factories. Factories that produce different
+     * messages for different senders (for example, per locale) get a template for each message
+     */
+    private final Map<String, CaptionTemplate> templates = new ConcurrentHashMap<>();
 
     protected SimpleCaptionRegistry() {
         this.registerMessageFactory(
@@ -180,6 +192,23 @@ public class SimpleCaptionRegistry<C> implements FactoryDelegatingCaptionRegistr
         return messageFactory.apply(caption, sender);
     }
 
+    @Override
+    public final @NonNull CaptionTemplate getCaptionTemplate(
+            final @NonNull Caption caption,
+            final @NonNull C sender
+    ) {
+        final String message = this.getCaption(caption, sender);
+        final CaptionTemplate cached = this.templates.get(message);
+        if (cached != null) {
+            return cached;
+        }
+        final CaptionTemplate template = CaptionTemplate.compile(message);
+        if (this.templates.size() < MAX_CACHED_TEMPLATES) {
+            this.templates.put(message, template);
+        }
+        return template;
+    }
+
     @Override
     public final void registerMessageFactory(
             final @NonNull Caption caption,
@@ -37,10 +37,14 @@ public final class SimpleCaptionVariableReplacementHandler implements CaptionVar
             final @NonNull String string,
             final @NonNull CaptionVariable... variables
     ) {
-        String replacedString = string;
-        for (final CaptionVariable variable : variables) {
-            replacedString = replacedString.replace(String.format("{%s}", variable.getKey()), variable.getValue());
-        }
-        return replacedString;
+        return CaptionTemplate.compile(string).render(variables);
+    }
+
+    @Override
+    public @NonNull String replaceVariables(
+            final @NonNull CaptionTemplate template,
+            final @NonNull CaptionVariable... variables
+    ) {
+        return template.render(variables);
     }
 }
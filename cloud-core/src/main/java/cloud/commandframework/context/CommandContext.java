@@ -36,10 +36,13 @@ import cloud.commandframework.keys.CloudKey;
 import cloud.commandframework.keys.CloudKeyHolder;
 import cloud.commandframework.keys.SimpleCloudKey;
 import cloud.commandframework.permission.CommandPermission;
+import io.leangen.geantyref.TypeToken;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -55,10 +58,28 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 @API(status = API.Status.STABLE)
 public class CommandContext<C> {
 
+    private static final CloudKey<CommandInput> RAW_COMMAND_INPUT_KEY = SimpleCloudKey.of(
+            "__raw_command_input__",
+            TypeToken.get(CommandInput.class)
+    );
+
+    private static final int INITIAL_SLOT_CAPACITY = 8;
+
     private final CaptionVariableReplacementHandler captionVariableReplacementHandler;
     private final Map<CommandArgument<C, ?>, ArgumentTiming> argumentTimings = new HashMap<>();
     private final FlagContext flagContext = FlagContext.create();
     private final Map<CloudKey<?>, Object> internalStorage = new HashMap<>();
+    /**
+     * Values of arguments that have been assigned a {@link CommandArgument#contextSlot()}, indexed by slot.
+     * A value stored in a slot shadows any value stored in {@link #internalStorage} with the same name.
+     */
+    private Object[] slotValues = null;
+    private CommandArgument<?, ?>[] slotArguments = null;
+    /**
+     * Most recently stored argument with a slot. All arguments in {@link #slotArguments} belong to its command chain,
+     * so its {@link CommandArgument#contextSlotsByName()} resolves the names of the stored arguments to their slots
+     */
+    private CommandArgument<?, ?> chainArgument = null;
     private final C commandSender;
     private final boolean suggestions;
     private final CaptionRegistry<C> captionRegistry;
@@ -146,7 +167,7 @@ public class CommandContext<C> {
             final @NonNull CaptionVariable... variables
     ) {
         return this.captionVariableReplacementHandler.replaceVariables(
-                this.captionRegistry.getCaption(caption, this.commandSender),
+                this.captionRegistry.getCaptionTemplate(caption, this.commandSender),
                 variables
         );
     }
@@ -193,6 +214,19 @@ public class CommandContext<C> {
         return this.suggestions;
     }
 
+    /**
+     * Check whether parse failures created for this context should be lightweight, meaning that they do not capture
+     * a stack trace and that their details are only computed once they are requested
+     *
+     * @return {@code true} if {@link CommandManager.ManagerSettings#LIGHTWEIGHT_PARSE_FAILURES} is enabled
+     * @since 1.9.0
+     */
+    @API(status = API.Status.INTERNAL, consumers = "cloud.commandframework.*", since = "1.9.0")
+    public boolean isLightweightParseFailures() {
+        return this.commandManager != null
+                && this.commandManager.getSetting(CommandManager.ManagerSettings.LIGHTWEIGHT_PARSE_FAILURES);
+    }
+
     /**
      * Store a value in the context map. This will overwrite any existing
      * value stored with the same key
@@ -202,7 +236,12 @@ public class CommandContext<C> {
      * @param <T>   Value type
      */
     public <T extends @NonNull Object> void store(final @NonNull String key, final T value) {
-        this.internalStorage.put(SimpleCloudKey.of(key), value);
+        final int slot = this.slotOf(key);
+        if (slot >= 0) {
+            this.slotValues[slot] = value;
+        } else {
+            this.internalStorage.put(SimpleCloudKey.of(key), value);
+        }
     }
 
     /**
@@ -214,7 +253,12 @@ public class CommandContext<C> {
      * @param <T>   Value type
      */
     public <T extends @NonNull Object> void store(final @NonNull CloudKey<T> key, final T value) {
-        this.internalStorage.put(key, value);
+        final int slot = this.slotOf(key);
+        if (slot >= 0) {
+            this.slotValues[slot] = value;
+        } else {
+            this.internalStorage.put(key, value);
+        }
     }
 
     /**
@@ -226,7 +270,21 @@ public class CommandContext<C> {
      * @param <T>       Value type
      */
     public <T extends @NonNull Object> void store(final @NonNull CommandArgument<C, T> keyHolder, final T value) {
-        this.store((CloudKeyHolder<T>) keyHolder, value);
+        final int slot = keyHolder.contextSlot();
+        if (slot < 0 || keyHolder.contextSlotsByName() == null) {
+            this.store(keyHolder.getKey(), value);
+            return;
+        }
+        this.ensureSlotCapacity(slot);
+        if (this.slotArguments[slot] != keyHolder) {
+            if (this.chainArgument != keyHolder.contextSlotParent()) {
+                /* The argument does not continue the chain of the stored arguments */
+                this.displaceSlots(keyHolder);
+            }
+            this.slotArguments[slot] = keyHolder;
+            this.chainArgument = keyHolder;
+        }
+        this.slotValues[slot] = value;
     }
 
     /**
@@ -239,8 +297,13 @@ public class CommandContext<C> {
      * @since 1.4.0
      */
     @API(status = API.Status.STABLE, since = "1.4.0")
+    @SuppressWarnings("unchecked")
     public <T extends @NonNull Object> void store(final @NonNull CloudKeyHolder<T> keyHolder, final T value) {
-        this.internalStorage.put(keyHolder.getKey(), value);
+        if (keyHolder instanceof CommandArgument) {
+            this.store((CommandArgument<C, T>) keyHolder, value);
+        } else {
+            this.store(keyHolder.getKey(), value);
+        }
     }
 
     /**
@@ -292,7 +355,7 @@ public class CommandContext<C> {
      */
     @API(status = API.Status.STABLE, since = "1.3.0")
     public boolean contains(final @NonNull String key) {
-        return this.contains(SimpleCloudKey.of(key));
+        return this.slotOf(key) >= 0 || this.internalStorage.containsKey(SimpleCloudKey.of(key));
     }
 
     /**
@@ -304,7 +367,7 @@ public class CommandContext<C> {
      */
     @API(status = API.Status.STABLE, since = "1.4.0")
     public boolean contains(final @NonNull CloudKey<?> key) {
-        return this.internalStorage.containsKey(key);
+        return this.slotOf(key) >= 0 || this.internalStorage.containsKey(key);
     }
 
     /**
@@ -317,6 +380,13 @@ public class CommandContext<C> {
     public @NonNull Map<@NonNull String, @Nullable ?> asMap() {
         final Map<String, Object> values = new HashMap<>();
         this.internalStorage.forEach((key, value) -> values.put(key.getName(), value));
+        if (this.slotArguments != null) {
+            for (int i = 0; i < this.slotArguments.length; i++) {
+                if (this.slotArguments[i] != null) {
+                    values.put(this.slotArguments[i].getName(), this.slotValues[i]);
+                }
+            }
+        }
         return Collections.unmodifiableMap(values);
     }
 
@@ -329,7 +399,7 @@ public class CommandContext<C> {
      * @return Value
      */
     public <T extends @NonNull Object> @NonNull Optional<T> getOptional(final @NonNull String key) {
-        final Object value = this.internalStorage.get(SimpleCloudKey.of(key));
+        final Object value = this.lookup(key);
         if (value != null) {
             @SuppressWarnings("unchecked") final T castedValue = (T) value;
             return Optional.of(castedValue);
@@ -349,7 +419,7 @@ public class CommandContext<C> {
      */
     @API(status = API.Status.STABLE, since = "1.4.0")
     public <T extends @NonNull Object> @NonNull Optional<T> getOptional(final @NonNull CloudKey<T> key) {
-        final Object value = this.internalStorage.get(key);
+        final Object value = this.lookup(key);
         if (value != null) {
             @SuppressWarnings("unchecked") final T castedValue = (T) value;
             return Optional.of(castedValue);
@@ -368,7 +438,13 @@ public class CommandContext<C> {
      */
     @SuppressWarnings("unused")
     public <T extends @NonNull Object> @NonNull Optional<T> getOptional(final @NonNull CommandArgument<C, T> keyHolder) {
-        return this.getOptional((CloudKeyHolder<T>) keyHolder);
+        final Object value = this.lookup(keyHolder);
+        if (value != null) {
+            @SuppressWarnings("unchecked") final T castedValue = (T) value;
+            return Optional.of(castedValue);
+        } else {
+            return Optional.empty();
+        }
     }
 
     /**
@@ -383,7 +459,9 @@ public class CommandContext<C> {
     @SuppressWarnings("unused")
     @API(status = API.Status.STABLE, since = "1.4.0")
     public <T extends @NonNull Object> @NonNull Optional<T> getOptional(final @NonNull CloudKeyHolder<T> keyHolder) {
-        final Object value = this.internalStorage.get(keyHolder.getKey());
+        final Object value = keyHolder instanceof CommandArgument
+                ? this.lookup((CommandArgument<?, ?>) keyHolder)
+                : this.lookup(keyHolder.getKey());
         if (value != null) {
             @SuppressWarnings("unchecked") final T castedValue = (T) value;
             return Optional.of(castedValue);
@@ -398,7 +476,8 @@ public class CommandContext<C> {
      * @param key Key to remove
      */
     public void remove(final @NonNull String key) {
-        this.remove(SimpleCloudKey.of(key));
+        this.clearSlot(key);
+        this.internalStorage.remove(SimpleCloudKey.of(key));
     }
 
     /**
@@ -409,6 +488,9 @@ public class CommandContext<C> {
      */
     @API(status = API.Status.STABLE, since = "1.4.0")
     public void remove(final @NonNull CloudKey<?> key) {
+        if (key instanceof SimpleCloudKey) {
+            this.clearSlot(key.getName());
+        }
         this.internalStorage.remove(key);
     }
 
@@ -423,7 +505,7 @@ public class CommandContext<C> {
      */
     @SuppressWarnings({"unchecked", "TypeParameterUnusedInFormals"})
     public <T extends @NonNull Object> T get(final @NonNull String key) {
-        final Object value = this.internalStorage.get(SimpleCloudKey.of(key));
+        final Object value = this.lookup(key);
         if (value == null) {
             throw new NullPointerException("No such object stored in the context: " + key);
         }
@@ -443,7 +525,7 @@ public class CommandContext<C> {
     @SuppressWarnings({"unchecked", "TypeParameterUnusedInFormals"})
     @API(status = API.Status.STABLE, since = "1.4.0")
     public <T extends @NonNull Object> T get(final @NonNull CloudKey<T> key) {
-        final Object value = this.internalStorage.get(key);
+        final Object value = this.lookup(key);
         if (value == null) {
             throw new NullPointerException("No such object stored in the context: " + key);
         }
@@ -459,8 +541,13 @@ public class CommandContext<C> {
      * @return Stored value
      * @throws NullPointerException If no such value is stored
      */
+    @SuppressWarnings("unchecked")
     public <T extends @NonNull Object> T get(final @NonNull CommandArgument<C, T> keyHolder) {
-        return this.get(keyHolder.getKey());
+        final Object value = this.lookup(keyHolder);
+        if (value == null) {
+            throw new NullPointerException("No such object stored in the context: " + keyHolder.getKey());
+        }
+        return (T) value;
     }
 
     /**
@@ -474,7 +561,11 @@ public class CommandContext<C> {
      * @since 1.4.0
      */
     @API(status = API.Status.STABLE, since = "1.4.0")
+    @SuppressWarnings("unchecked")
     public <T extends @NonNull Object> T get(final @NonNull CloudKeyHolder<T> keyHolder) {
+        if (keyHolder instanceof CommandArgument) {
+            return this.get((CommandArgument<C, T>) keyHolder);
+        }
         return this.get(keyHolder.getKey());
     }
 
@@ -490,7 +581,7 @@ public class CommandContext<C> {
             final @NonNull CommandArgument<C, @NonNull T> argument,
             final T defaultValue
     ) {
-        return this.<T>getOptional(argument.getName()).orElse(defaultValue);
+        return this.getOptional(argument).orElse(defaultValue);
     }
 
     /**
@@ -573,18 +664,132 @@ public class CommandContext<C> {
             final @NonNull CloudKey<T> key,
             final @NonNull Function<CloudKey<T>, T> defaultFunction
     ) {
+        final int slot = this.slotOf(key);
+        if (slot >= 0 && this.slotValues[slot] != null) {
+            @SuppressWarnings("unchecked") final T castedValue = (T) this.slotValues[slot];
+            return castedValue;
+        } else if (slot >= 0) {
+            final T value = defaultFunction.apply(key);
+            this.slotValues[slot] = value;
+            return value;
+        }
         @SuppressWarnings("unchecked")
         final T castedValue = (T) this.internalStorage.computeIfAbsent(key, k -> defaultFunction.apply((CloudKey<T>) k));
         return castedValue;
     }
 
+    private @Nullable Object lookup(final @NonNull String key) {
+        final int slot = this.slotOf(key);
+        if (slot >= 0) {
+            return this.slotValues[slot];
+        }
+        return this.internalStorage.get(SimpleCloudKey.of(key));
+    }
+
+    private @Nullable Object lookup(final @NonNull CloudKey<?> key) {
+        final int slot = this.slotOf(key);
+        if (slot >= 0) {
+            return this.slotValues[slot];
+        }
+        return this.internalStorage.get(key);
+    }
+
+    private @Nullable Object lookup(final @NonNull CommandArgument<?, ?> argument) {
+        final int slot = argument.contextSlot();
+        if (slot >= 0 && this.slotArguments != null && slot < this.slotArguments.length) {
+            final CommandArgument<?, ?> stored = this.slotArguments[slot];
+            if (stored != null && stored.getName().equals(argument.getName())) {
+                return this.slotValues[slot];
+            }
+        }
+        return this.lookup(argument.getKey());
+    }
+
+    /**
+     * Find the slot that holds the value stored for the given key, if the key is name-based
+     *
+     * @param key Key
+     * @return Slot index, or {@code -1}
+     */
+    private int slotOf(final @NonNull CloudKey<?> key) {
+        if (this.chainArgument == null || !(key instanceof SimpleCloudKey)) {
+            return -1;
+        }
+        return this.slotOf(key.getName());
+    }
+
+    private int slotOf(final @NonNull String name) {
+        if (this.chainArgument == null) {
+            return -1;
+        }
+        final Integer slot = Objects.requireNonNull(this.chainArgument.contextSlotsByName()).get(name);
+        if (slot == null) {
+            return -1;
+        }
+        final CommandArgument<?, ?> stored = this.slotArguments[slot];
+        return stored != null && stored.getName().equals(name) ? slot : -1;
+    }
+
+    private void clearSlot(final @NonNull String name) {
+        final int slot = this.slotOf(name);
+        if (slot >= 0) {
+            this.slotArguments[slot] = null;
+            this.slotValues[slot] = null;
+        }
+    }
+
+    /**
+     * Move the values of all stored arguments that are not in the command chain of the given argument out of
+     * their slots, so that they remain reachable by name
+     *
+     * @param argument Argument that is about to be stored
+     */
+    private void displaceSlots(final @NonNull CommandArgument<?, ?> argument) {
+        CommandArgument<?, ?> ancestor = argument.contextSlotParent();
+        for (int slot = this.slotArguments.length - 1; slot >= 0; slot--) {
+            final boolean inChain = ancestor != null && ancestor.contextSlot() == slot;
+            final CommandArgument<?, ?> stored = this.slotArguments[slot];
+            if (stored != null && (!inChain || stored != ancestor)) {
+                this.internalStorage.put(stored.getKey(), this.slotValues[slot]);
+                this.slotArguments[slot] = null;
+                this.slotValues[slot] = null;
+            }
+            if (inChain) {
+                ancestor = ancestor.contextSlotParent();
+            }
+        }
+    }
+
+    private void ensureSlotCapacity(final int slot) {
+        if (this.slotArguments == null) {
+            final int capacity = Math.max(slot + 1, INITIAL_SLOT_CAPACITY);
+            this.slotArguments = new CommandArgument<?, ?>[capacity];
+            this.slotValues = new Object[capacity];
+        } else if (slot >= this.slotArguments.length) {
+            final int capacity = Math.max(slot + 1, this.slotArguments.length * 2);
+            this.slotArguments = Arrays.copyOf(this.slotArguments, capacity);
+            this.slotValues = Arrays.copyOf(this.slotValues, capacity);
+        }
+    }
+
     /**
      * Get the raw input.
      *
      * @return Raw input in token form
      */
     public @NonNull LinkedList<@NonNull String> getRawInput() {
-        return this.getOrDefault("__raw_input__", new LinkedList<>());
+        final LinkedList<String> rawInput = this.getOrDefault("__raw_input__", null);
+        if (rawInput != null) {
+            return rawInput;
+        }
+        final CommandInput commandInput = this.getOrDefault(RAW_COMMAND_INPUT_KEY, null);
+        if (commandInput == null) {
+            return new LinkedList<>();
+        }
+        /* The token list is only created once something asks for it */
+        final LinkedList<String> tokens = new LinkedList<>(commandInput);
+        this.store("__raw_input__", tokens);
+        return tokens;
     }
 
     /**
@@ -595,11 +800,32 @@ public class CommandContext<C> {
      */
     @API(status = API.Status.STABLE, since = "1.1.0")
     public @NonNull String getRawInputJoined() {
-        return String.join(" ", this.getRawInput());
+        final LinkedList<String> rawInput = this.getOrDefault("__raw_input__", null);
+        if (rawInput != null) {
+            return String.join(" ", rawInput);
+        }
+        final CommandInput commandInput = this.getOrDefault(RAW_COMMAND_INPUT_KEY, null);
+        if (commandInput == null) {
+            return "";
+        }
+        return commandInput.remainingInput();
+    }
+
+    /**
+     * Store the raw input of the command. The input will not be modified, and the position of the input
+     * should be at the start of the input.
+     *
+     * @param commandInput Raw command input
+     * @since 1.9.0
+     */
+    @API(status = API.Status.INTERNAL, since = "1.9.0")
+    public void rawInput(final @NonNull CommandInput commandInput) {
+        this.store(RAW_COMMAND_INPUT_KEY, commandInput);
     }
 
     /**
-     * Create an argument timing for a specific argument
+     * Create an argument timing for a specific argument. The command tree only creates timings when
+     * {@link CommandManager.ManagerSettings#RECORD_ARGUMENT_TIMINGS} is enabled, which is the default
      *
      * @param argument Argument
      * @return Created timing instance
@@ -611,7 +837,8 @@ public class CommandContext<C> {
     }
 
     /**
-     * Get an immutable view of the argument timings map
+     * Get an immutable view of the argument timings map. Timings are only recorded when
+     * {@link CommandManager.ManagerSettings#RECORD_ARGUMENT_TIMINGS} is enabled, which is the default
      *
      * @return Argument timings
      */
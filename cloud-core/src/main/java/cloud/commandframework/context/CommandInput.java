@@ -0,0 +1,433 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.context;
+
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Tokenized command input. The input is split at every blank space, and if the input ends with
+ * a blank space, a trailing empty token is added.
+ * <p>
+ * The tokens are stored as offsets into the original input string, and are only turned into strings
+ * once they are read. Consuming a token from the head of the input moves a cursor, and backtracking is
+ * done by {@link #restore(CommandInput) restoring} a {@link #copy() copy} of the input, which does not
+ * copy any tokens unless either of the instances is structurally modified afterwards.
+ * <p>
+ * This is a {@link Deque}, and may thus be passed to anything that consumes an input queue, such as
+ * {@link cloud.commandframework.arguments.parser.ArgumentParser#parse(CommandContext, java.util.Queue)}.
+ * Inserting tokens, or removing tokens from anywhere but the head of the input, is supported but more expensive.
+ *
+ * @since 1.9.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+public final class CommandInput extends AbstractQueue<@NonNull String> implements Deque<@NonNull String> {
+
+    private static final char DELIMITER = ' ';
+    private static final int INSERTED_TOKEN = -1;
+
+    private final String input;
+    private int[] starts;
+    private int[] ends;
+    private String[] tokens;
+    private boolean shared;
+    private int head;
+    private int tail;
+
+    private CommandInput(
+            final @NonNull String input,
+            final int[] starts,
+            final int[] ends,
+            final String[] tokens,
+            final int head,
+            final int tail
+    ) {
+        this.input = input;
+        this.starts = starts;
+        this.ends = ends;
+        this.tokens = tokens;
+        this.head = head;
+        this.tail = tail;
+    }
+
+    /**
+     * Tokenize the given input
+     *
+     * @param input Input that is to be turned into tokens
+     * @return Command input
+     */
+    public static @NonNull CommandInput of(final @NonNull String input) {
+        final int length = input.length();
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (input.charAt(i) != DELIMITER && (i == 0 || input.charAt(i - 1) == DELIMITER)) {
+                count++;
+            }
+        }
+        final boolean trailingDelimiter = length > 0 && input.charAt(length - 1) == DELIMITER;
+        if (trailingDelimiter) {
+            count++;
+        }
+
+        final int[] starts = new int[count];
+        final int[] ends = new int[count];
+        int index = 0;
+        int cursor = 0;
+        while (cursor < length) {
+            if (input.charAt(cursor) == DELIMITER) {
+                cursor++;
+                continue;
+            }
+            starts[index] = cursor;
+            while (cursor < length && input.charAt(cursor) != DELIMITER) {
+                cursor++;
+            }
+            ends[index++] = cursor;
+        }
+        if (trailingDelimiter) {
+            starts[index] = length;
+            ends[index] = length;
+        }
+        return new CommandInput(input, starts, ends, new String[count], 0, count);
+    }
+
+    /**
+     * Create a command input from already split tokens
+     *
+     * @param tokens Tokens
+     * @return Command input containing the given tokens
+     */
+    public static @NonNull CommandInput of(final @NonNull Collection<@NonNull String> tokens) {
+        final int count = tokens.size();
+        final int[] starts = new int[count];
+        final int[] ends = new int[count];
+        final String[] strings = new String[count];
+        final StringBuilder builder = new StringBuilder();
+        int index = 0;
+        for (final String token : tokens) {
+            if (index > 0) {
+                builder.append(DELIMITER);
+            }
+            starts[index] = builder.length();
+            builder.append(token);
+            ends[index] = builder.length();
+            strings[index++] = token;
+        }
+        return new CommandInput(builder.toString(), starts, ends, strings, 0, count);
+    }
+
+    /**
+     * Create a copy of this input, which includes the current position. The tokens are shared between
+     * the two instances until either of them is structurally modified, so this is cheap.
+     *
+     * @return Copy of the input
+     * @see #restore(CommandInput)
+     */
+    public @NonNull CommandInput copy() {
+        this.shared = true;
+        final CommandInput copy = new CommandInput(this.input, this.starts, this.ends, this.tokens, this.head, this.tail);
+        copy.shared = true;
+        return copy;
+    }
+
+    /**
+     * Reset this input to the state of a {@link #copy()} that was created earlier from this input
+     *
+     * @param snapshot Copy of this input
+     * @throws IllegalArgumentException If the snapshot was not created from this input
+     */
+    public void restore(final @NonNull CommandInput snapshot) {
+        if (snapshot.input != this.input) {
+            throw new IllegalArgumentException("The snapshot was not created from this input");
+        }
+        if (snapshot == this) {
+            return;
+        }
+        this.shared = true;
+        snapshot.shared = true;
+        this.starts = snapshot.starts;
+        this.ends = snapshot.ends;
+        this.tokens = snapshot.tokens;
+        this.head = snapshot.head;
+        this.tail = snapshot.tail;
+    }
+
+    /**
+     * Get the remaining tokens joined with a blank space as the delimiter. This is equivalent to
+     * {@code String.join(" ", input)}, but does not allocate any intermediate strings
+     *
+     * @return Remaining input
+     */
+    public @NonNull String remainingInput() {
+        if (this.head == this.tail) {
+            return "";
+        } else if (this.head + 1 == this.tail) {
+            return this.token(this.head);
+        }
+        for (int i = this.head; i < this.tail; i++) {
+            if (this.starts[i] == INSERTED_TOKEN || (i > this.head && this.starts[i] != this.ends[i - 1] + 1)) {
+                return String.join(String.valueOf(DELIMITER), this);
+            }
+        }
+        return this.input.substring(this.starts[this.head], this.ends[this.tail - 1]);
+    }
+
+    @Override
+    public int size() {
+        return this.tail - this.head;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.head == this.tail;
+    }
+
+    @Override
+    public void clear() {
+        this.head = this.tail;
+    }
+
+    @Override
+    public @Nullable String peek() {
+        return this.isEmpty() ? null : this.token(this.head);
+    }
+
+    @Override
+    public @Nullable String poll() {
+        return this.isEmpty() ? null : this.token(this.head++);
+    }
+
+    @Override
+    public boolean offer(final @NonNull String token) {
+        return this.offerLast(token);
+    }
+
+    @Override
+    public void addFirst(final @NonNull String token) {
+        this.offerFirst(token);
+    }
+
+    @Override
+    public void addLast(final @NonNull String token) {
+        this.offerLast(token);
+    }
+
+    @Override
+    public boolean offerFirst(final @NonNull String token) {
+        this.insert(this.head, Objects.requireNonNull(token, "token"));
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(final @NonNull String token) {
+        this.insert(this.tail, Objects.requireNonNull(token, "token"));
+        return true;
+    }
+
+    @Override
+    public @NonNull String removeFirst() {
+        return this.remove();
+    }
+
+    @Override
+    public @NonNull String removeLast() {
+        if (this.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return this.token(--this.tail);
+    }
+
+    @Override
+    public @Nullable String pollFirst() {
+        return this.poll();
+    }
+
+    @Override
+    public @Nullable String pollLast() {
+        return this.isEmpty() ? null : this.token(--this.tail);
+    }
+
+    @Override
+    public @NonNull String getFirst() {
+        return this.element();
+    }
+
+    @Override
+    public @NonNull String getLast() {
+        if (this.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return this.token(this.tail - 1);
+    }
+
+    @Override
+    public @Nullable String peekFirst() {
+        return this.peek();
+    }
+
+    @Override
+    public @Nullable String peekLast() {
+        return this.isEmpty() ? null : this.token(this.tail - 1);
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(final @Nullable Object o) {
+        for (int i = this.head; i < this.tail; i++) {
+            if (this.token(i).equals(o)) {
+                this.removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeLastOccurrence(final @Nullable Object o) {
+        for (int i = this.tail - 1; i >= this.head; i--) {
+            if (this.token(i).equals(o)) {
+                this.removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void push(final @NonNull String token) {
+        this.addFirst(token);
+    }
+
+    @Override
+    public @NonNull String pop() {
+        return this.removeFirst();
+    }
+
+    @Override
+    public @NonNull Iterator<@NonNull String> iterator() {
+        return new TokenIterator(false);
+    }
+
+    @Override
+    public @NonNull Iterator<@NonNull String> descendingIterator() {
+        return new TokenIterator(true);
+    }
+
+    private @NonNull String token(final int index) {
+        String token = this.tokens[index];
+        if (token == null) {
+            token = this.input.substring(this.starts[index], this.ends[index]);
+            this.tokens[index] = token;
+        }
+        return token;
+    }
+
+    private void insert(final int index, final @NonNull String token) {
+        this.ensureOwned();
+        if (this.tail == this.starts.length) {
+            final int capacity = Math.max(4, this.starts.length * 2);
+            this.starts = Arrays.copyOf(this.starts, capacity);
+            this.ends = Arrays.copyOf(this.ends, capacity);
+            this.tokens = Arrays.copyOf(this.tokens, capacity);
+        }
+        System.arraycopy(this.starts, index, this.starts, index + 1, this.tail - index);
+        System.arraycopy(this.ends, index, this.ends, index + 1, this.tail - index);
+        System.arraycopy(this.tokens, index, this.tokens, index + 1, this.tail - index);
+        this.starts[index] = INSERTED_TOKEN;
+        this.ends[index] = INSERTED_TOKEN;
+        this.tokens[index] = token;
+        this.tail++;
+    }
+
+    private void removeAt(final int index) {
+        this.ensureOwned();
+        System.arraycopy(this.starts, index + 1, this.starts, index, this.tail - index - 1);
+        System.arraycopy(this.ends, index + 1, this.ends, index, this.tail - index - 1);
+        System.arraycopy(this.tokens, index + 1, this.tokens, index, this.tail - index - 1);
+        this.tail--;
+        this.tokens[this.tail] = null;
+    }
+
+    private void ensureOwned() {
+        if (this.shared) {
+            this.starts = this.starts.clone();
+            this.ends = this.ends.clone();
+            this.tokens = this.tokens.clone();
+            this.shared = false;
+        }
+    }
+
+
+    private final class TokenIterator implements Iterator<@NonNull String> {
+
+        private final boolean descending;
+        private int next;
+        private int last = -1;
+        private int expectedTail = CommandInput.this.tail;
+
+        private TokenIterator(final boolean descending) {
+            this.descending = descending;
+            this.next = descending ? CommandInput.this.tail - 1 : CommandInput.this.head;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.descending ? this.next >= CommandInput.this.head : this.next < CommandInput.this.tail;
+        }
+
+        @Override
+        public @NonNull String next() {
+            if (this.expectedTail != CommandInput.this.tail) {
+                throw new ConcurrentModificationException();
+            }
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            this.last = this.next;
+            this.next += this.descending ? -1 : 1;
+            return CommandInput.this.token(this.last);
+        }
+
+        @Override
+        public void remove() {
+            if (this.last == -1) {
+                throw new IllegalStateException();
+            }
+            CommandInput.this.removeAt(this.last);
+            if (!this.descending) {
+                this.next--;
+            }
+            this.last = -1;
+            this.expectedTail = CommandInput.this.tail;
+        }
+    }
+}
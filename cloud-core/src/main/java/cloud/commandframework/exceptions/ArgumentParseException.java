@@ -25,6 +25,7 @@ package cloud.commandframework.exceptions;
 
 import cloud.commandframework.arguments.CommandArgument;
 import java.util.List;
+import java.util.function.Supplier;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -51,6 +52,26 @@ public class ArgumentParseException extends CommandParseException {
         this.cause = throwable;
     }
 
+    /**
+     * Create a new command parse exception, where the chain is only computed once it is requested
+     *
+     * @param throwable     Exception that caused the parsing error
+     * @param commandSender Command sender
+     * @param currentChain  Supplier of the chain leading up to the exception. Invoked at most once
+     * @param stackless     Whether to skip capturing the stack trace
+     * @since 1.9.0
+     */
+    @API(status = API.Status.INTERNAL, consumers = "cloud.commandframework.*", since = "1.9.0")
+    public ArgumentParseException(
+            final @NonNull Throwable throwable,
+            final @NonNull Object commandSender,
+            final @NonNull Supplier<@NonNull List<@NonNull CommandArgument<?, ?>>> currentChain,
+            final boolean stackless
+    ) {
+        super(commandSender, currentChain, stackless);
+        this.cause = throwable;
+    }
+
     /**
      * Get the cause of the exception
      *
@@ -26,8 +26,11 @@ package cloud.commandframework.exceptions;
 import cloud.commandframework.arguments.CommandArgument;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Exception thrown when parsing user input into a command
@@ -38,7 +41,11 @@ public class CommandParseException extends IllegalArgumentException {
 
     private static final long serialVersionUID = -2415981126382517435L;
     private final Object commandSender;
-    private final List<CommandArgument<?, ?>> currentChain;
+    private transient @Nullable Supplier<@NonNull List<CommandArgument<?, ?>>> currentChainSupplier;
+    private @Nullable List<CommandArgument<?, ?>> currentChain;
+    private transient @Nullable Supplier<@NonNull List<@NonNull String>> similarLiteralsSupplier;
+    private @Nullable List<String> similarLiterals;
+    private transient boolean constructed;
 
     /**
      * Construct a new command parse exception
@@ -53,6 +60,30 @@ public class CommandParseException extends IllegalArgumentException {
     ) {
         this.commandSender = commandSender;
         this.currentChain = currentChain;
+        this.constructed = true;
+        this.fillInStackTrace();
+    }
+
+    /**
+     * Construct a new command parse exception with a lazily computed chain
+     *
+     * @param commandSender Sender who executed the command
+     * @param currentChain  Supplier of the chain leading up to the exception. Invoked at most once
+     * @param stackless     Whether to skip capturing the stack trace
+     * @since 1.9.0
+     */
+    @API(status = API.Status.INTERNAL, consumers = "cloud.commandframework.*", since = "1.9.0")
+    protected CommandParseException(
+            final @NonNull Object commandSender,
+            final @NonNull Supplier<@NonNull List<CommandArgument<?, ?>>> currentChain,
+            final boolean stackless
+    ) {
+        this.commandSender = commandSender;
+        this.currentChainSupplier = currentChain;
+        this.constructed = true;
+        if (!stackless) {
+            this.fillInStackTrace();
+        }
     }
 
     /**
@@ -70,6 +101,56 @@ public class CommandParseException extends IllegalArgumentException {
      * @return Unmodifiable list of command arguments
      */
     public @NonNull List<@NonNull CommandArgument<?, ?>> getCurrentChain() {
-        return Collections.unmodifiableList(this.currentChain);
+        List<CommandArgument<?, ?>> currentChain = this.currentChain;
+        if (currentChain == null) {
+            currentChain = Objects.requireNonNull(this.currentChainSupplier, "currentChainSupplier").get();
+            this.currentChain = currentChain;
+            this.currentChainSupplier = null;
+        }
+        return Collections.unmodifiableList(currentChain);
+    }
+
+    /**
+     * Get the literals that are similar to the input that failed to match a literal, for example to tell the
+     * sender which command they might have meant. Only literals that the sender has permission to use are
+     * included.
+     * <p>
+     * The literals are looked up the first time this method is called.
+     *
+     * @return Unmodifiable list of similar literals, ordered by similarity. Empty if the failure was not caused
+     *         by an unknown literal, or if there are no similar literals
+     * @since 1.9.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+    public @NonNull List<@NonNull String> getSimilarLiterals() {
+        List<String> similarLiterals = this.similarLiterals;
+        if (similarLiterals == null) {
+            final Supplier<List<String>> supplier = this.similarLiteralsSupplier;
+            similarLiterals = supplier == null ? Collections.emptyList() : supplier.get();
+            this.similarLiterals = similarLiterals;
+            this.similarLiteralsSupplier = null;
+        }
+        return Collections.unmodifiableList(similarLiterals);
+    }
+
+    /**
+     * Set the supplier of the literals returned by {@link #getSimilarLiterals()}
+     *
+     * @param similarLiterals Supplier of similar literals. Invoked at most once
+     * @since 1.9.0
+     */
+    @API(status = API.Status.INTERNAL, consumers = "cloud.commandframework.*", since = "1.9.0")
+    public void similarLiterals(final @NonNull Supplier<@NonNull List<@NonNull String>> similarLiterals) {
+        this.similarLiteralsSupplier = similarLiterals;
+        this.similarLiterals = null;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        /* The stack trace is captured at the end of the constructor, once we know whether it's wanted */
+        if (!this.constructed) {
+            return this;
+        }
+        return super.fillInStackTrace();
     }
 }
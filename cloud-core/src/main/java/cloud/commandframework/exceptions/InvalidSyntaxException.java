@@ -25,8 +25,11 @@ package cloud.commandframework.exceptions;
 
 import cloud.commandframework.arguments.CommandArgument;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Exception sent when a command sender inputs invalid command syntax
@@ -36,7 +39,8 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 public class InvalidSyntaxException extends CommandParseException {
 
     private static final long serialVersionUID = -4183356059293785202L;
-    private final String correctSyntax;
+    private transient @Nullable Supplier<@NonNull String> correctSyntaxSupplier;
+    private @Nullable String correctSyntax;
 
     /**
      * Create a new invalid syntax exception instance
@@ -55,18 +59,45 @@ public class InvalidSyntaxException extends CommandParseException {
         this.correctSyntax = correctSyntax;
     }
 
+    /**
+     * Create a new invalid syntax exception instance, where the syntax and the chain are
+     * only computed once they are requested
+     *
+     * @param correctSyntax Supplier of the expected syntax. Invoked at most once
+     * @param commandSender Sender that sent the command
+     * @param currentChain  Supplier of the chain leading up to issue. Invoked at most once
+     * @param stackless     Whether to skip capturing the stack trace
+     * @since 1.9.0
+     */
+    @API(status = API.Status.INTERNAL, consumers = "cloud.commandframework.*", since = "1.9.0")
+    public InvalidSyntaxException(
+            final @NonNull Supplier<@NonNull String> correctSyntax,
+            final @NonNull Object commandSender,
+            final @NonNull Supplier<@NonNull List<@NonNull CommandArgument<?, ?>>> currentChain,
+            final boolean stackless
+    ) {
+        super(commandSender, currentChain, stackless);
+        this.correctSyntaxSupplier = correctSyntax;
+    }
+
     /**
      * Get the correct syntax of the command
      *
      * @return Correct command syntax
      */
     public @NonNull String getCorrectSyntax() {
-        return this.correctSyntax;
+        String correctSyntax = this.correctSyntax;
+        if (correctSyntax == null) {
+            correctSyntax = Objects.requireNonNull(this.correctSyntaxSupplier, "correctSyntaxSupplier").get();
+            this.correctSyntax = correctSyntax;
+            this.correctSyntaxSupplier = null;
+        }
+        return correctSyntax;
     }
 
 
     @Override
     public final String getMessage() {
-        return String.format("Invalid command syntax. Correct syntax is: %s", this.correctSyntax);
+        return String.format("Invalid command syntax. Correct syntax is: %s", this.getCorrectSyntax());
     }
 }
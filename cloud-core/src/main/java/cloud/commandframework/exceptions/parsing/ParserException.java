@@ -39,6 +39,7 @@ public class ParserException extends IllegalArgumentException {
     private final CommandContext<?> context;
     private final Caption errorCaption;
     private final CaptionVariable[] captionVariables;
+    private transient boolean constructed;
 
     protected ParserException(
             final @NonNull Class<?> argumentParser,
@@ -50,6 +51,19 @@ public class ParserException extends IllegalArgumentException {
         this.context = context;
         this.errorCaption = errorCaption;
         this.captionVariables = captionVariables;
+        this.constructed = true;
+        if (!context.isLightweightParseFailures()) {
+            this.fillInStackTrace();
+        }
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        /* The stack trace is captured at the end of the constructor, once we know whether it's wanted */
+        if (!this.constructed) {
+            return this;
+        }
+        return super.fillInStackTrace();
     }
 
     @Override
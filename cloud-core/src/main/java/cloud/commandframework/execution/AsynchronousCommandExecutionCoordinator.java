@@ -28,6 +28,7 @@ import cloud.commandframework.CommandManager;
 import cloud.commandframework.CommandTree;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.CommandExecutionException;
+import cloud.commandframework.metrics.CommandMetrics;
 import cloud.commandframework.services.State;
 import cloud.commandframework.types.tuples.Pair;
 import java.util.Queue;
@@ -98,7 +99,18 @@ public final class AsynchronousCommandExecutionCoordinator<C> extends CommandExe
 
         final Consumer<Command<C>> commandConsumer = command -> {
             if (this.commandManager.postprocessContext(commandContext, command) == State.ACCEPTED) {
+                final CommandMetrics<C> metrics = this.commandManager.commandMetrics();
+                final long start = metrics == null ? 0L : System.nanoTime();
                 command.getCommandExecutionHandler().executeFuture(commandContext).whenComplete((result, throwable) -> {
+                    if (metrics != null) {
+                        metrics.phaseCompleted(
+                                commandContext,
+                                CommandMetrics.Phase.EXECUTE,
+                                command,
+                                System.nanoTime() - start,
+                                throwable == null
+                        );
+                    }
                     if (throwable != null) {
                         if (throwable instanceof CommandExecutionException) {
                             resultFuture.completeExceptionally(throwable);
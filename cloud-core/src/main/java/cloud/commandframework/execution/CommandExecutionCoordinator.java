@@ -27,6 +27,7 @@ import cloud.commandframework.Command;
 import cloud.commandframework.CommandTree;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.CommandExecutionException;
+import cloud.commandframework.metrics.CommandMetrics;
 import cloud.commandframework.services.State;
 import cloud.commandframework.types.tuples.Pair;
 import java.util.Objects;
@@ -119,8 +120,12 @@ public abstract class CommandExecutionCoordinator<C> {
                 } else {
                     final Command<C> command = Objects.requireNonNull(pair.getFirst());
                     if (this.getCommandTree().getCommandManager().postprocessContext(commandContext, command) == State.ACCEPTED) {
+                        final CommandMetrics<C> metrics = this.getCommandTree().getCommandManager().commandMetrics();
+                        final long start = metrics == null ? 0L : System.nanoTime();
+                        boolean success = false;
                         try {
                             command.getCommandExecutionHandler().executeFuture(commandContext).get();
+                            success = true;
                         } catch (final java.util.concurrent.ExecutionException exception) {
                             Throwable cause = exception.getCause();
                             if (cause instanceof CommandExecutionException) {
@@ -132,6 +137,16 @@ public abstract class CommandExecutionCoordinator<C> {
                             completableFuture.completeExceptionally(exception);
                         } catch (final Exception exception) {
                             completableFuture.completeExceptionally(new CommandExecutionException(exception, commandContext));
+                        } finally {
+                            if (metrics != null) {
+                                metrics.phaseCompleted(
+                                        commandContext,
+                                        CommandMetrics.Phase.EXECUTE,
+                                        command,
+                                        System.nanoTime() - start,
+                                        success
+                                );
+                            }
                         }
                     }
                     completableFuture.complete(new CommandResult<>(commandContext));
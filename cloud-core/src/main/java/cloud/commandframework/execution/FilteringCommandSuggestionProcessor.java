@@ -23,10 +23,12 @@
 //
 package cloud.commandframework.execution;
 
+import cloud.commandframework.context.CommandInput;
 import cloud.commandframework.execution.preprocessor.CommandPreprocessingContext;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Queue;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import org.apiguardian.api.API;
@@ -69,11 +71,14 @@ public final class FilteringCommandSuggestionProcessor<C> implements CommandSugg
             final @NonNull CommandPreprocessingContext<C> context,
             final @NonNull List<@NonNull String> strings
     ) {
+        final Queue<String> inputQueue = context.commandInput();
         final String input;
-        if (context.getInputQueue().isEmpty()) {
+        if (inputQueue.isEmpty()) {
             input = "";
+        } else if (inputQueue instanceof CommandInput) {
+            input = ((CommandInput) inputQueue).remainingInput();
         } else {
-            input = String.join(" ", context.getInputQueue());
+            input = String.join(" ", inputQueue);
         }
         final List<String> suggestions = new ArrayList<>(strings.size());
         for (final String suggestion : strings) {
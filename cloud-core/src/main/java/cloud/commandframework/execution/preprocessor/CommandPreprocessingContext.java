@@ -24,10 +24,13 @@
 package cloud.commandframework.execution.preprocessor;
 
 import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.context.CommandInput;
 import java.util.LinkedList;
 import java.util.Objects;
+import java.util.Queue;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Context for {@link CommandPreprocessor command preprocessors}
@@ -38,7 +41,8 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 public final class CommandPreprocessingContext<C> {
 
     private final CommandContext<C> commandContext;
-    private final LinkedList<String> inputQueue;
+    private @Nullable LinkedList<String> inputQueue;
+    private @Nullable CommandInput commandInput;
 
     /**
      * Construct a new command preprocessing context
@@ -54,6 +58,22 @@ public final class CommandPreprocessingContext<C> {
         this.inputQueue = inputQueue;
     }
 
+    /**
+     * Construct a new command preprocessing context
+     *
+     * @param commandContext Command context
+     * @param commandInput   Command input as supplied by sender
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public CommandPreprocessingContext(
+            final @NonNull CommandContext<C> commandContext,
+            final @NonNull CommandInput commandInput
+    ) {
+        this.commandContext = commandContext;
+        this.commandInput = commandInput;
+    }
+
     /**
      * Get the command context
      *
@@ -70,9 +90,31 @@ public final class CommandPreprocessingContext<C> {
      * @return Input queue
      */
     public @NonNull LinkedList<@NonNull String> getInputQueue() {
+        if (this.inputQueue == null) {
+            /* From now on, the list is what will be used during parsing */
+            this.inputQueue = new LinkedList<>(Objects.requireNonNull(this.commandInput, "commandInput"));
+            this.commandInput = null;
+        }
         return this.inputQueue;
     }
 
+    /**
+     * Get the original input. All changes will persist and will be used during parsing.
+     * <p>
+     * Unlike {@link #getInputQueue()}, this does not copy the input into a new list when the context
+     * was created from a {@link CommandInput}. This should be preferred when the input only needs to be read
+     *
+     * @return Input queue
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public @NonNull Queue<@NonNull String> commandInput() {
+        if (this.inputQueue != null) {
+            return this.inputQueue;
+        }
+        return Objects.requireNonNull(this.commandInput, "commandInput");
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -83,11 +125,11 @@ public final class CommandPreprocessingContext<C> {
         }
         final CommandPreprocessingContext<?> that = (CommandPreprocessingContext<?>) o;
         return Objects.equals(this.getCommandContext(), that.getCommandContext())
-                && Objects.equals(this.getInputQueue(), that.getInputQueue());
+                && Objects.equals(this.commandInput(), that.commandInput());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.getCommandContext(), this.getInputQueue());
+        return Objects.hash(this.getCommandContext(), this.commandInput());
     }
 }
@@ -23,8 +23,8 @@
 //
 package cloud.commandframework.internal;
 
+import cloud.commandframework.context.CommandInput;
 import java.util.LinkedList;
-import java.util.StringTokenizer;
 import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
@@ -36,10 +36,6 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 @API(status = API.Status.INTERNAL, consumers = "cloud.commandframework.*")
 public final class CommandInputTokenizer {
 
-    private static final String DELIMITER = " ";
-    private static final String EMPTY = "";
-
-    private final StringTokenizerFactory stringTokenizerFactory = new StringTokenizerFactory();
     private final String input;
 
     /**
@@ -57,25 +53,17 @@ public final class CommandInputTokenizer {
      * @return Linked list containing the tokenized input
      */
     public @NonNull LinkedList<@NonNull String> tokenize() {
-        final StringTokenizer stringTokenizer = this.stringTokenizerFactory.createStringTokenizer();
-        final LinkedList<String> tokens = new LinkedList<>();
-        while (stringTokenizer.hasMoreElements()) {
-            tokens.add(stringTokenizer.nextToken());
-        }
-        if (this.input.endsWith(DELIMITER)) {
-            tokens.add(EMPTY);
-        }
-        return tokens;
+        return new LinkedList<>(this.tokenizeInput());
     }
 
-
     /**
-     * Factory class that creates {@link StringTokenizer} instances
+     * Turn the input into tokens, without copying them into a list
+     *
+     * @return Tokenized input
+     * @since 1.9.0
      */
-    private final class StringTokenizerFactory {
-
-        private @NonNull StringTokenizer createStringTokenizer() {
-            return new StringTokenizer(CommandInputTokenizer.this.input, DELIMITER);
-        }
+    @API(status = API.Status.INTERNAL, since = "1.9.0")
+    public @NonNull CommandInput tokenizeInput() {
+        return CommandInput.of(this.input);
     }
 }
@@ -0,0 +1,239 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.internal;
+
+import cloud.commandframework.util.StringUtils;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Index of literals that finds the literals closest to a misspelled input.
+ * <p>
+ * The literals are stored case-insensitively and grouped by their length. A lookup only considers the
+ * literals whose length is within the maximum edit distance of the input, skips literals whose set of
+ * characters differs too much from the input, and stops computing the Levenshtein distance to a literal
+ * as soon as it is known to exceed the maximum. Literals may be added incrementally. The index is safe to
+ * use from multiple threads.
+ *
+ * @param <T> Type of the values that the literals belong to
+ * @since 1.9.0
+ */
+@API(status = API.Status.INTERNAL, consumers = "cloud.commandframework.*", since = "1.9.0")
+public final class SimilarLiteralIndex<T> {
+
+    private static final Comparator<Match<?>> MATCH_ORDER = Comparator.<Match<?>>comparingInt(match -> match.distance)
+            .thenComparing(match -> match.entry.literal);
+
+    private final Set<String> literals = new HashSet<>();
+    /**
+     * Entries indexed by the length of their literal
+     */
+    private final List<List<Entry<T>>> entriesByLength = new ArrayList<>();
+
+    /**
+     * Add a literal to the index. If the index already contains the literal (ignoring case), the
+     * literal keeps its original value
+     *
+     * @param literal Literal
+     * @param value   Value that the literal belongs to
+     */
+    public synchronized void add(final @NonNull String literal, final @NonNull T value) {
+        final String folded = StringUtils.foldCase(literal);
+        if (!this.literals.add(folded)) {
+            return;
+        }
+        while (this.entriesByLength.size() <= folded.length()) {
+            this.entriesByLength.add(new ArrayList<>());
+        }
+        this.entriesByLength.get(folded.length()).add(new Entry<>(folded, value));
+    }
+
+    /**
+     * Find the literals that are closest to the given input. Only literals that are a few edits away from
+     * the input are considered, and each value is only returned through its closest literal
+     *
+     * @param input  Input
+     * @param limit  Maximum amount of literals to return
+     * @param filter Filter that the values of the returned literals must match
+     * @return Closest literals, ordered by their distance to the input and then alphabetically
+     */
+    public synchronized @NonNull List<@NonNull String> find(
+            final @NonNull String input,
+            final int limit,
+            final @NonNull Predicate<@NonNull T> filter
+    ) {
+        if (input.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        final String folded = StringUtils.foldCase(input);
+        final int maxDistance = maxDistance(folded);
+        final int maxLength = Math.min(folded.length() + maxDistance, this.entriesByLength.size() - 1);
+        final List<Match<T>> matches = new ArrayList<>();
+
+        /* The rows of the distance matrix are reused for every literal */
+        final int[] previous = new int[maxLength + 1];
+        final int[] current = new int[maxLength + 1];
+        final long characters = characters(folded);
+        for (int length = Math.max(1, folded.length() - maxDistance); length <= maxLength; length++) {
+            for (final Entry<T> entry : this.entriesByLength.get(length)) {
+                /* Every character that only occurs in one of the strings takes at least one edit */
+                if (Long.bitCount(characters & ~entry.characters) > maxDistance
+                        || Long.bitCount(entry.characters & ~characters) > maxDistance) {
+                    continue;
+                }
+                final int distance = distance(folded, entry.literal, maxDistance, previous, current);
+                if (distance <= maxDistance) {
+                    matches.add(new Match<>(entry, distance));
+                }
+            }
+        }
+
+        matches.sort(MATCH_ORDER);
+        final List<String> literals = new ArrayList<>(Math.min(limit, matches.size()));
+        final List<T> values = new ArrayList<>(Math.min(limit, matches.size()));
+        for (final Match<T> match : matches) {
+            if (literals.size() >= limit) {
+                break;
+            }
+            if (values.contains(match.entry.value) || !filter.test(match.entry.value)) {
+                continue;
+            }
+            literals.add(match.entry.literal);
+            values.add(match.entry.value);
+        }
+        return literals;
+    }
+
+    /**
+     * Get the maximum distance at which a literal is considered to be similar to the input
+     *
+     * @param input Input
+     * @return Maximum distance
+     */
+    private static int maxDistance(final @NonNull String input) {
+        if (input.length() <= 3) {
+            return 1;
+        } else if (input.length() <= 6) {
+            return 2;
+        }
+        return 3;
+    }
+
+    /**
+     * Get a signature of the characters that occur in a string, where each character sets one of
+     * the 64 bits. Distinct characters may share a bit
+     *
+     * @param string String
+     * @return Character signature
+     */
+    private static long characters(final @NonNull String string) {
+        long characters = 0L;
+        for (int i = 0; i < string.length(); i++) {
+            characters |= 1L << (string.charAt(i) & 63);
+        }
+        return characters;
+    }
+
+    /**
+     * Compute the Levenshtein distance between two strings, giving up once it exceeds a bound. Only the
+     * cells of the distance matrix that are within the bound of its diagonal are computed, as all other
+     * cells exceed the bound
+     *
+     * @param first    First string
+     * @param second   Second string
+     * @param bound    Distance above which the exact distance is not needed
+     * @param previous Row buffer, at least as long as the second string plus one
+     * @param current  Row buffer, at least as long as the second string plus one
+     * @return Distance, or a value greater than {@code bound} if the distance exceeds the bound
+     */
+    private static int distance(
+            final @NonNull String first,
+            final @NonNull String second,
+            final int bound,
+            final int @NonNull [] previous,
+            final int @NonNull [] current
+    ) {
+        final int exceeded = bound + 1;
+        int[] above = previous;
+        int[] row = current;
+        for (int j = 0; j <= second.length(); j++) {
+            above[j] = Math.min(j, exceeded);
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            final int from = Math.max(1, i - bound);
+            final int to = Math.min(second.length(), i + bound);
+            row[from - 1] = from == 1 ? Math.min(i, exceeded) : exceeded;
+            int rowMinimum = row[from - 1];
+            for (int j = from; j <= to; j++) {
+                final int substitution = above[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                row[j] = Math.min(Math.min(substitution, Math.min(above[j], row[j - 1]) + 1), exceeded);
+                rowMinimum = Math.min(rowMinimum, row[j]);
+            }
+            if (to < second.length()) {
+                row[to + 1] = exceeded;
+            }
+            if (rowMinimum > bound) {
+                /* The distance never decreases from one row to the next */
+                return exceeded;
+            }
+            final int[] swap = above;
+            above = row;
+            row = swap;
+        }
+        return above[second.length()];
+    }
+
+
+    private static final class Entry<T> {
+
+        private final String literal;
+        private final long characters;
+        private final T value;
+
+        private Entry(final @NonNull String literal, final @NonNull T value) {
+            this.literal = literal;
+            this.characters = characters(literal);
+            this.value = value;
+        }
+    }
+
+
+    private static final class Match<T> {
+
+        private final Entry<T> entry;
+        private final int distance;
+
+        private Match(final @NonNull Entry<T> entry, final int distance) {
+            this.entry = entry;
+            this.distance = distance;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.metrics;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.context.CommandContext;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Listener that is notified about the time spent in the different phases of command processing.
+ * <p>
+ * Metrics are installed using {@link cloud.commandframework.CommandManager#commandMetrics(CommandMetrics)}. When no
+ * metrics are installed, the command processing phases are not timed. The per-context
+ * {@link CommandContext#getArgumentTimings() argument timings} are independent of the installed metrics, and are
+ * recorded when {@link cloud.commandframework.CommandManager.ManagerSettings#RECORD_ARGUMENT_TIMINGS} is enabled.
+ * Implementations may be invoked concurrently from multiple threads, and should return quickly as they are invoked
+ * on the command processing path.
+ * <p>
+ * All durations are measured using {@link System#nanoTime()} and are reported in nanoseconds.
+ *
+ * @param <C> Command sender type
+ * @since 1.9.0
+ * @see HistogramCommandMetrics
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+public interface CommandMetrics<C> {
+
+    /**
+     * Invoked when a phase of command processing has completed
+     *
+     * @param context       Command context
+     * @param phase         The phase that has completed
+     * @param command       The command that is being processed, or {@code null} if it is not known in this phase
+     * @param durationNanos Time spent in the phase
+     * @param success       Whether the phase completed successfully
+     */
+    default void phaseCompleted(
+            @NonNull CommandContext<C> context,
+            @NonNull Phase phase,
+            @Nullable Command<C> command,
+            long durationNanos,
+            boolean success
+    ) {
+    }
+
+    /**
+     * Invoked when the command tree has attempted to parse an argument
+     *
+     * @param context       Command context
+     * @param argument      The argument that was parsed
+     * @param durationNanos Time spent parsing the argument, including argument preprocessing
+     * @param success       Whether the argument was parsed successfully
+     */
+    default void argumentParsed(
+            @NonNull CommandContext<C> context,
+            @NonNull CommandArgument<C, ?> argument,
+            long durationNanos,
+            boolean success
+    ) {
+    }
+
+    /**
+     * Invoked when a command has been deleted from the command manager. Implementations that keep state per command
+     * or per argument should discard the state of the command here
+     *
+     * @param command The deleted command
+     */
+    default void commandDeleted(@NonNull Command<C> command) {
+    }
+
+
+    /**
+     * Phases of command processing
+     *
+     * @since 1.9.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+    enum Phase {
+        /**
+         * Splitting the raw input into tokens
+         */
+        TOKENIZE,
+        /**
+         * Running the {@link cloud.commandframework.execution.preprocessor.CommandPreprocessor command preprocessors}
+         */
+        PREPROCESS,
+        /**
+         * Parsing the input using the command tree. The command is known if the parsing succeeded
+         */
+        PARSE,
+        /**
+         * Running the {@link cloud.commandframework.execution.postprocessor.CommandPostprocessor command postprocessors}
+         */
+        POSTPROCESS,
+        /**
+         * Running the {@link cloud.commandframework.execution.CommandExecutionHandler command execution handler}
+         */
+        EXECUTE,
+        /**
+         * Computing suggestions, from tokenizing the input to processing the suggestions
+         */
+        SUGGEST,
+        /**
+         * Checking a permission while traversing the command tree
+         */
+        PERMISSION_CHECK
+    }
+}
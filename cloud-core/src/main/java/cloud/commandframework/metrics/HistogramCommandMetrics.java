@@ -0,0 +1,134 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.metrics;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.context.CommandContext;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * {@link CommandMetrics} implementation that records durations into {@link LatencyHistogram histograms}.
+ * <p>
+ * One histogram is kept per {@link CommandMetrics.Phase phase}. Additionally, the execution handler durations are
+ * recorded per command and the parse durations are recorded per argument. The histograms of a command and of its
+ * arguments are discarded when the command is deleted.
+ *
+ * @param <C> Command sender type
+ * @since 1.9.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+public final class HistogramCommandMetrics<C> implements CommandMetrics<C> {
+
+    private final Map<Phase, LatencyHistogram> phases = new EnumMap<>(Phase.class);
+    private final Map<Command<C>, LatencyHistogram> commands = new ConcurrentHashMap<>();
+    private final Map<CommandArgument<C, ?>, LatencyHistogram> arguments = new ConcurrentHashMap<>();
+
+    /**
+     * Create a new histogram metrics instance
+     */
+    public HistogramCommandMetrics() {
+        for (final Phase phase : Phase.values()) {
+            this.phases.put(phase, new LatencyHistogram());
+        }
+    }
+
+    @Override
+    public void phaseCompleted(
+            final @NonNull CommandContext<C> context,
+            final @NonNull Phase phase,
+            final @Nullable Command<C> command,
+            final long durationNanos,
+            final boolean success
+    ) {
+        this.phases.get(phase).record(durationNanos);
+        if (phase == Phase.EXECUTE && command != null) {
+            histogram(this.commands, command).record(durationNanos);
+        }
+    }
+
+    @Override
+    public void argumentParsed(
+            final @NonNull CommandContext<C> context,
+            final @NonNull CommandArgument<C, ?> argument,
+            final long durationNanos,
+            final boolean success
+    ) {
+        histogram(this.arguments, argument).record(durationNanos);
+    }
+
+    @Override
+    public void commandDeleted(final @NonNull Command<C> command) {
+        this.commands.remove(command);
+        for (final CommandArgument<C, ?> argument : command.getArguments()) {
+            this.arguments.remove(argument);
+        }
+    }
+
+    /**
+     * Get the histogram for a phase
+     *
+     * @param phase Phase
+     * @return Histogram
+     */
+    public @NonNull LatencyHistogram phase(final @NonNull Phase phase) {
+        return this.phases.get(phase);
+    }
+
+    /**
+     * Get the execution handler durations recorded per command
+     *
+     * @return Unmodifiable view of the histograms
+     */
+    public @NonNull Map<@NonNull Command<C>, @NonNull LatencyHistogram> commands() {
+        return Collections.unmodifiableMap(this.commands);
+    }
+
+    /**
+     * Get the parse durations recorded per argument
+     *
+     * @return Unmodifiable view of the histograms
+     */
+    public @NonNull Map<@NonNull CommandArgument<C, ?>, @NonNull LatencyHistogram> arguments() {
+        return Collections.unmodifiableMap(this.arguments);
+    }
+
+    private static <K> @NonNull LatencyHistogram histogram(
+            final @NonNull Map<K, LatencyHistogram> histograms,
+            final @NonNull K key
+    ) {
+        /* Avoid locking in computeIfAbsent when the histogram already exists */
+        final LatencyHistogram histogram = histograms.get(key);
+        if (histogram != null) {
+            return histogram;
+        }
+        return histograms.computeIfAbsent(key, k -> new LatencyHistogram());
+    }
+}
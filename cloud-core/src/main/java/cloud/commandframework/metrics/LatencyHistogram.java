@@ -0,0 +1,158 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.apiguardian.api.API;
+
+/**
+ * Lock-free histogram of durations.
+ * <p>
+ * Durations are recorded into buckets with power-of-two boundaries, which means that percentiles are accurate within
+ * a factor of two. The count, total and maximum are exact. Recording a value never blocks.
+ *
+ * @since 1.9.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+public final class LatencyHistogram {
+
+    private static final int BUCKET_COUNT = Long.SIZE;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Record a duration
+     *
+     * @param durationNanos Duration in nanoseconds. Negative durations are recorded as {@code 0}
+     */
+    public void record(final long durationNanos) {
+        final long duration = Math.max(0L, durationNanos);
+        this.buckets.incrementAndGet(bucketIndex(duration));
+        this.count.increment();
+        this.totalNanos.add(duration);
+        long max = this.maxNanos.get();
+        while (duration > max && !this.maxNanos.compareAndSet(max, duration)) {
+            max = this.maxNanos.get();
+        }
+    }
+
+    /**
+     * Get the amount of recorded durations
+     *
+     * @return Count
+     */
+    public long count() {
+        return this.count.sum();
+    }
+
+    /**
+     * Get the sum of all recorded durations
+     *
+     * @return Total duration in nanoseconds
+     */
+    public long totalNanos() {
+        return this.totalNanos.sum();
+    }
+
+    /**
+     * Get the longest recorded duration
+     *
+     * @return Maximum duration in nanoseconds, or {@code 0} if nothing has been recorded
+     */
+    public long maxNanos() {
+        return this.maxNanos.get();
+    }
+
+    /**
+     * Get the mean of the recorded durations
+     *
+     * @return Mean duration in nanoseconds, or {@code 0} if nothing has been recorded
+     */
+    public double meanNanos() {
+        final long count = this.count();
+        if (count == 0) {
+            return 0;
+        }
+        return this.totalNanos() / (double) count;
+    }
+
+    /**
+     * Get an upper bound for the given percentile of the recorded durations
+     *
+     * @param percentile Percentile, between {@code 0} and {@code 1}
+     * @return Upper bound of the percentile in nanoseconds, or {@code 0} if nothing has been recorded
+     */
+    public long percentileNanos(final double percentile) {
+        if (percentile < 0 || percentile > 1) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 1, was: " + percentile);
+        }
+        long total = 0;
+        final long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = this.buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(percentile * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), this.maxNanos());
+            }
+        }
+        return this.maxNanos();
+    }
+
+    private static int bucketIndex(final long duration) {
+        /* Bucket i contains the durations in [2^(i - 1), 2^i - 1], and bucket 0 contains 0 */
+        return Math.min(BUCKET_COUNT - 1, Long.SIZE - Long.numberOfLeadingZeros(duration));
+    }
+
+    private static long bucketUpperBound(final int index) {
+        if (index == BUCKET_COUNT - 1) {
+            return Long.MAX_VALUE;
+        }
+        return (1L << index) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "LatencyHistogram{count=%d, mean=%.1fns, p50=%dns, p99=%dns, max=%dns}",
+                this.count(),
+                this.meanNanos(),
+                this.percentileNanos(0.5),
+                this.percentileNanos(0.99),
+                this.maxNanos()
+        );
+    }
+}
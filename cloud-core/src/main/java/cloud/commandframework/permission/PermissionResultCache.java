@@ -0,0 +1,120 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.permission;
+
+import cloud.commandframework.CommandManager;
+import java.util.HashMap;
+import java.util.Map;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Cache of permission results for a single command sender.
+ * <p>
+ * Compound permissions ({@link OrPermission} and {@link AndPermission}) are split up, and the result of every
+ * other permission is only requested from the {@link CommandManager} once. The cache is invalidated whenever
+ * {@link CommandManager#invalidatePermissionResults()} is called. This class is not thread safe.
+ *
+ * @param <C> Command sender type
+ * @since 1.9.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+public final class PermissionResultCache<C> {
+
+    private final Map<CommandPermission, Boolean> results = new HashMap<>();
+    private final CommandManager<C> commandManager;
+    private final C sender;
+    private long epoch;
+
+    /**
+     * Create a new permission result cache
+     *
+     * @param commandManager Command manager that evaluates the permissions
+     * @param sender         Command sender
+     */
+    public PermissionResultCache(
+            final @NonNull CommandManager<C> commandManager,
+            final @NonNull C sender
+    ) {
+        this.commandManager = commandManager;
+        this.sender = sender;
+        this.epoch = commandManager.permissionResultsEpoch();
+    }
+
+    /**
+     * Get the sender whose permissions are cached
+     *
+     * @return Command sender
+     */
+    public @NonNull C sender() {
+        return this.sender;
+    }
+
+    /**
+     * Check if the sender has the given permission, using a cached result if one is available
+     *
+     * @param permission Permission
+     * @return {@code true} if the sender has the permission, else {@code false}
+     */
+    public boolean hasPermission(final @NonNull CommandPermission permission) {
+        final long currentEpoch = this.commandManager.permissionResultsEpoch();
+        if (currentEpoch != this.epoch) {
+            this.results.clear();
+            this.epoch = currentEpoch;
+        }
+        return this.test(permission);
+    }
+
+    /**
+     * Discard all cached results
+     */
+    public void invalidate() {
+        this.results.clear();
+    }
+
+    private boolean test(final @NonNull CommandPermission permission) {
+        if (permission instanceof OrPermission) {
+            for (final CommandPermission innerPermission : permission.getPermissions()) {
+                if (this.test(innerPermission)) {
+                    return true;
+                }
+            }
+            return false;
+        } else if (permission instanceof AndPermission) {
+            for (final CommandPermission innerPermission : permission.getPermissions()) {
+                if (!this.test(innerPermission)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        final Boolean cached = this.results.get(permission);
+        if (cached != null) {
+            return cached;
+        }
+        final boolean result = this.commandManager.hasPermission(this.sender, permission);
+        this.results.put(permission, result);
+        return result;
+    }
+}
@@ -51,4 +51,21 @@ public final class StringUtils {
         }
         return occurrences;
     }
+
+    /**
+     * Fold the case of a string in the same way as {@link String#equalsIgnoreCase(String)} and
+     * {@link String#CASE_INSENSITIVE_ORDER}, such that two strings are equal ignoring case if and only if
+     * their folded forms are equal
+     *
+     * @param string The string to fold
+     * @return Folded string
+     * @since 1.9.0
+     */
+    public static @NonNull String foldCase(final @NonNull String string) {
+        final char[] chars = string.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
 }
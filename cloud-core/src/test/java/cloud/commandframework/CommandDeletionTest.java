@@ -23,6 +23,7 @@
 //
 package cloud.commandframework;
 
+import cloud.commandframework.arguments.CommandArgument;
 import cloud.commandframework.arguments.standard.StringArgument;
 import cloud.commandframework.exceptions.NoSuchCommandException;
 import cloud.commandframework.execution.CommandExecutionCoordinator;
@@ -30,6 +31,8 @@ import cloud.commandframework.execution.CommandExecutionHandler;
 import cloud.commandframework.internal.CommandRegistrationHandler;
 import cloud.commandframework.meta.CommandMeta;
 import cloud.commandframework.meta.SimpleCommandMeta;
+import cloud.commandframework.metrics.CommandMetrics;
+import java.util.Collection;
 import java.util.concurrent.CompletionException;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.junit.jupiter.api.BeforeEach;
@@ -38,6 +41,7 @@ import org.junit.jupiter.api.Test;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 class CommandDeletionTest {
@@ -171,4 +175,55 @@ class CommandDeletionTest {
         assertThat(this.commandManager.suggest(new TestCommandSender(), "")).contains("test");
         assertThat(this.commandManager.commandTree().getRootNodes()).hasSize(1);
     }
+
+    @Test
+    void deleteLeavesSnapshotsUnchanged() {
+        // Arrange
+        this.commandManager.command(this.commandManager.commandBuilder("test").literal("literal"));
+        this.commandManager.command(this.commandManager.commandBuilder("other"));
+        final Collection<CommandTree.Node<CommandArgument<TestCommandSender, ?>>> rootNodes =
+                this.commandManager.commandTree().getRootNodes();
+        final CommandTree.Node<CommandArgument<TestCommandSender, ?>> testNode =
+                this.commandManager.commandTree().getNamedNode("test");
+
+        // Act
+        this.commandManager.deleteRootCommand("test");
+
+        // Assert
+        assertThat(rootNodes).hasSize(2);
+        assertThat(testNode.getChildren()).hasSize(1);
+        assertThat(testNode.getLiteralChild("literal")).isNotNull();
+        assertThat(this.commandManager.commandTree().getRootNodes()).hasSize(1);
+    }
+
+    @Test
+    void deleteRemovesRootAliases() {
+        // Arrange
+        this.commandManager.command(this.commandManager.commandBuilder("test", "alias").literal("literal"));
+        this.commandManager.command(this.commandManager.commandBuilder("other"));
+
+        // Act
+        this.commandManager.deleteRootCommand("test");
+
+        // Assert
+        assertThat(this.commandManager.commandTree().getNamedNode("test")).isNull();
+        assertThat(this.commandManager.commandTree().getNamedNode("alias")).isNull();
+        assertThat(this.commandManager.commandTree().getNamedNode("other")).isNotNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deleteNotifiesCommandMetrics() {
+        // Arrange
+        final CommandMetrics<TestCommandSender> metrics = mock(CommandMetrics.class);
+        this.commandManager.commandMetrics(metrics);
+        final Command<TestCommandSender> command = this.commandManager.commandBuilder("test").build();
+        this.commandManager.command(command);
+
+        // Act
+        this.commandManager.deleteRootCommand("test");
+
+        // Assert
+        verify(metrics).commandDeleted(command);
+    }
 }
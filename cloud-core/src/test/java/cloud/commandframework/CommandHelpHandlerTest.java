@@ -30,6 +30,7 @@ import cloud.commandframework.arguments.standard.StringArgument;
 import cloud.commandframework.meta.CommandMeta;
 import cloud.commandframework.meta.SimpleCommandMeta;
 import cloud.commandframework.types.tuples.Pair;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
@@ -104,6 +105,40 @@ class CommandHelpHandlerTest {
         this.printTopic("vec", query4);
     }
 
+    @Test
+    void testHelpIndexUpdatedOnRegistration() {
+        final CommandManager<TestCommandSender> commandManager = createManager();
+        commandManager.command(commandManager.commandBuilder("first"));
+        final CommandHelpHandler<TestCommandSender> helpHandler = commandManager.createCommandHelpHandler();
+        Assertions.assertEquals(Collections.singletonList("first"), getSortedSyntaxStrings(helpHandler.queryHelp("")));
+
+        commandManager.command(commandManager.commandBuilder("second", "alias"));
+        Assertions.assertEquals(Arrays.asList("first", "second"), getSortedSyntaxStrings(helpHandler.queryHelp("")));
+
+        final CommandHelpHandler.HelpTopic<TestCommandSender> query = helpHandler.queryHelp("ali");
+        Assertions.assertTrue(query instanceof CommandHelpHandler.IndexHelpTopic);
+        Assertions.assertEquals(Collections.singletonList("second"), getSortedSyntaxStrings(query));
+    }
+
+    @Test
+    void testPredicateEvaluatedOnEveryQuery() {
+        final CommandManager<TestCommandSender> commandManager = createManager();
+        commandManager.command(commandManager.commandBuilder("first"));
+        commandManager.command(commandManager.commandBuilder("second"));
+        final List<String> hidden = new ArrayList<>();
+        final CommandHelpHandler<TestCommandSender> helpHandler = commandManager.createCommandHelpHandler(
+                command -> !hidden.contains(command.toString())
+        );
+        Assertions.assertEquals(Arrays.asList("first", "second"), getSortedSyntaxStrings(helpHandler.queryHelp("")));
+
+        /* The index is not rebuilt, as the tree is unchanged, but the predicate must still be applied */
+        hidden.add("second");
+        Assertions.assertEquals(Collections.singletonList("first"), getSortedSyntaxStrings(helpHandler.queryHelp("")));
+        Assertions.assertEquals(1, helpHandler.getAllCommands().size());
+        Assertions.assertTrue(helpHandler.queryHelp("second") instanceof CommandHelpHandler.IndexHelpTopic);
+        Assertions.assertEquals(Collections.emptyList(), getSortedSyntaxStrings(helpHandler.queryHelp("second")));
+    }
+
     @Test
     void testPredicateFilter() {
         /*
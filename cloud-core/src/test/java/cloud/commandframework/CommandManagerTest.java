@@ -25,13 +25,16 @@ package cloud.commandframework;
 
 import cloud.commandframework.arguments.CommandArgument;
 import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.arguments.standard.StringArgument;
 import cloud.commandframework.context.CommandContext;
+import cloud.commandframework.exceptions.AmbiguousNodeException;
 import cloud.commandframework.execution.CommandExecutionCoordinator;
 import cloud.commandframework.execution.CommandExecutionHandler;
 import cloud.commandframework.internal.CommandRegistrationHandler;
 import cloud.commandframework.meta.CommandMeta;
 import cloud.commandframework.meta.SimpleCommandMeta;
 import io.leangen.geantyref.TypeToken;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -40,6 +43,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -135,6 +139,52 @@ class CommandManagerTest {
         assertThat(contextC2.getRawInputJoined()).isEqualTo("test c 123");
     }
 
+    @Test
+    void testBatchRegistration() {
+        // Arrange
+        final CommandExecutionHandler<TestCommandSender> handler = mock(CommandExecutionHandler.class);
+        when(handler.executeFuture(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        final List<Command<TestCommandSender>> commands = Arrays.asList(
+                this.commandManager.commandBuilder("test").literal("a").handler(handler).build(),
+                this.commandManager.commandBuilder("test").literal("b").handler(handler).build(),
+                this.commandManager.commandBuilder("test").literal("b").argument(IntegerArgument.of("int"))
+                        .handler(handler).build()
+        );
+
+        // Act
+        this.commandManager.commands(commands);
+        this.commandManager.executeCommand(new TestCommandSender(), "test a").join();
+        this.commandManager.executeCommand(new TestCommandSender(), "test b").join();
+        this.commandManager.executeCommand(new TestCommandSender(), "test b 5").join();
+
+        // Assert
+        assertThat(this.commandManager.commands()).containsExactlyElementsIn(commands);
+        assertThat(this.commandManager.registrationState()).isEqualTo(CommandManager.RegistrationState.REGISTERING);
+        verify(handler, times(3)).executeFuture(any());
+    }
+
+    @Test
+    void testBatchRegistrationRollsBackAmbiguousBatch() {
+        // Arrange
+        final List<Command<TestCommandSender>> commands = Arrays.asList(
+                this.commandManager.commandBuilder("valid").literal("a").build(),
+                this.commandManager.commandBuilder("test").argument(IntegerArgument.of("int")).build(),
+                this.commandManager.commandBuilder("test").argument(StringArgument.of("string")).build()
+        );
+
+        // Act
+        assertThrows(AmbiguousNodeException.class, () -> this.commandManager.commands(commands));
+
+        // Assert
+        assertThat(this.commandManager.commands()).isEmpty();
+        assertThat(this.commandManager.commandTree().getRootNodes()).isEmpty();
+        assertThat(this.commandManager.commandTree().getNamedNode("valid")).isNull();
+
+        this.commandManager.command(this.commandManager.commandBuilder("test").argument(IntegerArgument.of("int")));
+        assertThat(this.commandManager.commands()).hasSize(1);
+    }
+
     @Test
     void testCommandBuilder() {
         // Create and register a command
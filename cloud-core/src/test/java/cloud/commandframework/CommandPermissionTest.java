@@ -32,9 +32,15 @@ import cloud.commandframework.permission.AndPermission;
 import cloud.commandframework.permission.CommandPermission;
 import cloud.commandframework.permission.OrPermission;
 import cloud.commandframework.permission.Permission;
+import cloud.commandframework.permission.PermissionResultCache;
 import cloud.commandframework.permission.PredicatePermission;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.junit.jupiter.api.BeforeAll;
@@ -145,9 +151,58 @@ class CommandPermissionTest {
         );
     }
 
+    @Test
+    void testCachedPermissionResults() {
+        // Arrange
+        final PermissionOutputtingCommandManager manager = new PermissionOutputtingCommandManager();
+        manager.setSetting(CommandManager.ManagerSettings.CACHE_PERMISSION_RESULTS, true);
+        manager.command(manager.commandBuilder("cached").literal("foo").permission("cached.foo"));
+        manager.command(manager.commandBuilder("cached").literal("bar").permission("cached.bar"));
+        final TestCommandSender sender = new TestCommandSender("cached.bar");
+
+        // Act
+        final List<String> suggestions = manager.suggest(sender, "cached ");
+        final Map<String, Integer> suggestionChecks = manager.checks();
+        manager.executeCommand(sender, "cached bar").join();
+        final Map<String, Integer> executionChecks = manager.checks();
+
+        // Assert
+        assertThat(suggestions).containsExactly("bar");
+        assertThat(suggestionChecks).containsExactly("cached.foo", 1, "cached.bar", 1);
+        assertThat(executionChecks).containsEntry("cached.bar", 1);
+        assertThat(new HashSet<>(executionChecks.values())).containsExactly(1);
+    }
+
+    @Test
+    void testInvalidatedPermissionResultsAreCheckedAgain() {
+        // Arrange
+        final PermissionOutputtingCommandManager manager = new PermissionOutputtingCommandManager();
+        final PermissionResultCache<TestCommandSender> cache = new PermissionResultCache<>(
+                manager,
+                new TestCommandSender("cached")
+        );
+        final CommandPermission permission = Permission.of("cached");
+
+        // Act
+        final boolean first = cache.hasPermission(permission);
+        final boolean second = cache.hasPermission(permission);
+        final Map<String, Integer> cachedChecks = manager.checks();
+        manager.invalidatePermissionResults();
+        final boolean third = cache.hasPermission(permission);
+        final Map<String, Integer> invalidatedChecks = manager.checks();
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isTrue();
+        assertThat(cachedChecks).containsExactly("cached", 1);
+        assertThat(invalidatedChecks).containsExactly("cached", 1);
+    }
 
     private static final class PermissionOutputtingCommandManager extends CommandManager<TestCommandSender> {
 
+        private final Map<String, Integer> checks = new ConcurrentHashMap<>();
+
         private PermissionOutputtingCommandManager() {
             super(CommandExecutionCoordinator.simpleCoordinator(), cmd -> true);
         }
@@ -157,6 +212,7 @@ class CommandPermissionTest {
                 final @NonNull TestCommandSender sender,
                 final @NonNull String permission
         ) {
+            this.checks.merge(permission, 1, Integer::sum);
             if (permission.equalsIgnoreCase("first")) {
                 return true;
             }
@@ -170,5 +226,16 @@ class CommandPermissionTest {
         public @NonNull CommandMeta createDefaultCommandMeta() {
             return SimpleCommandMeta.empty();
         }
+
+        /**
+         * Get the amount of times each permission has been checked since the last call, and reset the counts
+         *
+         * @return Checks per permission
+         */
+        private @NonNull Map<String, Integer> checks() {
+            final Map<String, Integer> checks = new HashMap<>(this.checks);
+            this.checks.clear();
+            return checks;
+        }
     }
 }
@@ -23,6 +23,7 @@
 //
 package cloud.commandframework;
 
+import cloud.commandframework.arguments.CommandArgument;
 import cloud.commandframework.arguments.StaticArgument;
 import cloud.commandframework.arguments.compound.ArgumentTriplet;
 import cloud.commandframework.arguments.parser.ArgumentParseResult;
@@ -38,6 +39,7 @@ import cloud.commandframework.types.tuples.Triplet;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -209,6 +211,18 @@ public class CommandSuggestionsTest {
         Assertions.assertEquals(Arrays.asList("9", "90", "91", "92", "93", "94", "95"), suggestions3);
     }
 
+    @Test
+    void testSuggestFromNode() {
+        final CommandTree.Node<CommandArgument<TestCommandSender, ?>> test = manager.commandTree().getNamedNode("test");
+        final CommandTree.Node<CommandArgument<TestCommandSender, ?>> comb = test.getLiteralChild("comb");
+
+        for (final String input : Arrays.asList("test comb ", "testalias comb one 9", "test c", "test ", "com ")) {
+            final List<String> suggestions = manager.suggest(new TestCommandSender(), input);
+            assertThat(manager.suggest(new TestCommandSender(), input, comb)).isEqualTo(suggestions);
+            assertThat(manager.suggest(new TestCommandSender(), input, test)).isEqualTo(suggestions);
+        }
+    }
+
     @Test
     void testAltered() {
         final String input = "test alt ";
@@ -623,6 +637,34 @@ public class CommandSuggestionsTest {
         return manager.suggest(new TestCommandSender(), command);
     }
 
+    @Test
+    void testSuggestionLimit() {
+        // Arrange
+        final CommandManager<TestCommandSender> manager = createManager();
+        manager.suggestionLimit(2);
+        final AtomicInteger providerCalls = new AtomicInteger();
+        manager.command(manager.commandBuilder("limited").literal("aa"));
+        manager.command(manager.commandBuilder("limited").literal("ab"));
+        manager.command(manager.commandBuilder("limited").literal("ac"));
+        manager.command(manager.commandBuilder("limited")
+                .argument(StringArgument.<TestCommandSender>builder("str")
+                        .withSuggestionsProvider((c, s) -> {
+                            providerCalls.incrementAndGet();
+                            return Arrays.asList("alpha", "beta", "banana", "bear");
+                        })));
+
+        // Act
+        final List<String> suggestions1 = suggest(manager, "limited a");
+        final int providerCalls1 = providerCalls.get();
+        final List<String> suggestions2 = suggest(manager, "limited b");
+
+        // Assert
+        assertThat(suggestions1).containsExactly("aa", "ab").inOrder();
+        assertThat(providerCalls1).isEqualTo(0);
+        assertThat(suggestions2).containsExactly("beta", "banana").inOrder();
+        assertThat(providerCalls.get()).isEqualTo(1);
+    }
+
     @Test
     public void testHiddenLiteral() {
         final List<String> suggestions = suggest(manager, "hidden_literal ");
@@ -24,14 +24,20 @@
 package cloud.commandframework;
 
 import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.arguments.StaticArgument;
 import cloud.commandframework.arguments.flags.CommandFlag;
+import cloud.commandframework.arguments.parser.ArgumentParseResult;
 import cloud.commandframework.arguments.standard.EnumArgument;
 import cloud.commandframework.arguments.standard.FloatArgument;
 import cloud.commandframework.arguments.standard.IntegerArgument;
 import cloud.commandframework.arguments.standard.StringArgument;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.AmbiguousNodeException;
+import cloud.commandframework.exceptions.ArgumentParseException;
+import cloud.commandframework.exceptions.CommandParseException;
+import cloud.commandframework.exceptions.InvalidSyntaxException;
 import cloud.commandframework.exceptions.NoPermissionException;
+import cloud.commandframework.exceptions.NoSuchCommandException;
 import cloud.commandframework.execution.CommandExecutionHandler;
 import cloud.commandframework.keys.SimpleCloudKey;
 import cloud.commandframework.meta.SimpleCommandMeta;
@@ -148,6 +154,175 @@ class CommandTreeTest {
         assertThat(result).isEqualTo(command);
     }
 
+    @Test
+    void testLiteralIndex() {
+        // Arrange
+        this.commandManager.command(
+                this.commandManager.commandBuilder("test", Collections.singleton("other"), SimpleCommandMeta.empty())
+                        .literal("one", "uno")
+                        .build()
+        );
+        this.commandManager.command(
+                this.commandManager.commandBuilder("test")
+                        .literal("two", "dos")
+                        .build()
+        );
+        final CommandTree.Node<CommandArgument<TestCommandSender, ?>> root =
+                this.commandManager.commandTree().getNamedNode("OTHER");
+
+        // Act
+        final CommandTree.Node<CommandArgument<TestCommandSender, ?>> exact = root.getLiteralChild("dos");
+        final CommandTree.Node<CommandArgument<TestCommandSender, ?>> wrongCase = root.getLiteralChild("DOS");
+        final CommandTree.Node<CommandArgument<TestCommandSender, ?>> folded = root.getLiteralChildIgnoreCase("UNO");
+        final Command<TestCommandSender> result = this.commandManager.commandTree().parse(
+                new CommandContext<>(new TestCommandSender(), this.commandManager),
+                new LinkedList<>(Arrays.asList("Test", "Dos"))
+        ).getFirst();
+
+        // Assert
+        assertThat(root).isNotNull();
+        assertThat(root.getValue().getName()).isEqualTo("test");
+        assertThat(exact.getValue().getName()).isEqualTo("two");
+        assertThat(wrongCase).isNull();
+        assertThat(folded.getValue().getName()).isEqualTo("one");
+        assertThat(result).isNotNull();
+        assertThat(result.toString()).isEqualTo("test two");
+    }
+
+    @Test
+    void testLiteralIndexFoldsLikeEqualsIgnoreCase() {
+        // Arrange
+        this.commandManager.command(this.commandManager.commandBuilder("test").literal("stop").build());
+        final CommandTree.Node<CommandArgument<TestCommandSender, ?>> root =
+                this.commandManager.commandTree().getNamedNode("test");
+
+        // Act
+        final CommandTree.Node<CommandArgument<TestCommandSender, ?>> folded = root.getLiteralChildIgnoreCase("\u017Ftop");
+        final Command<TestCommandSender> result = this.commandManager.commandTree().parse(
+                new CommandContext<>(new TestCommandSender(), this.commandManager),
+                new LinkedList<>(Arrays.asList("test", "\u017Ftop"))
+        ).getFirst();
+
+        // Assert
+        assertThat(folded).isNotNull();
+        assertThat(folded.getValue().getName()).isEqualTo("stop");
+        assertThat(result).isNotNull();
+    }
+
+    @Test
+    void testLiteralIndexAfterAliasRegistration() {
+        // Arrange
+        this.commandManager.command(this.commandManager.commandBuilder("test").literal("one").build());
+        final CommandTree.Node<CommandArgument<TestCommandSender, ?>> root =
+                this.commandManager.commandTree().getNamedNode("test");
+        final CommandTree.Node<CommandArgument<TestCommandSender, ?>> one = root.getLiteralChild("one");
+
+        // Act
+        ((StaticArgument<TestCommandSender>) one.getValue()).registerAlias("uno");
+
+        // Assert
+        assertThat(root.getLiteralChild("uno")).isEqualTo(one);
+        assertThat(root.getLiteralChildIgnoreCase("UNO")).isEqualTo(one);
+    }
+
+    @Test
+    void testNamedNodeMatchesRootAliases() {
+        // Arrange
+        this.commandManager.command(this.commandManager.commandBuilder("test", "alias").build());
+        final CommandTree<TestCommandSender> tree = this.commandManager.commandTree();
+
+        // Act
+        final CommandTree.Node<CommandArgument<TestCommandSender, ?>> root = tree.getNamedNode("test");
+
+        // Assert
+        assertThat(root).isNotNull();
+        assertThat(tree.getNamedNode("alias")).isEqualTo(root);
+        assertThat(tree.getNamedNode("ALIAS")).isEqualTo(root);
+        assertThat(tree.getNamedNode("unknown")).isNull();
+        assertThat(tree.getNamedNode("")).isNull();
+        assertThat(tree.getNamedNode(null)).isNull();
+    }
+
+    @Test
+    void testNamedNodeFollowsRegistration() {
+        // Arrange
+        final CommandTree<TestCommandSender> tree = this.commandManager.commandTree();
+        final boolean foundBeforeRegistration = tree.getNamedNode("test") != null;
+
+        // Act
+        this.commandManager.command(this.commandManager.commandBuilder("test").literal("one").build());
+        this.commandManager.command(this.commandManager.commandBuilder("test", "late").literal("two").build());
+
+        // Assert
+        assertThat(foundBeforeRegistration).isFalse();
+        assertThat(tree.getNamedNode("test")).isNotNull();
+        assertThat(tree.getNamedNode("late")).isEqualTo(tree.getNamedNode("test"));
+    }
+
+    @Test
+    void testSimilarLiterals() {
+        // Arrange
+        this.commandManager.command(this.commandManager.commandBuilder("teleport", "tp"));
+        this.commandManager.command(this.commandManager.commandBuilder("hidden").permission("no"));
+        this.commandManager.command(this.commandManager.commandBuilder("test").literal("one"));
+        this.commandManager.command(this.commandManager.commandBuilder("test").literal("two"));
+
+        // Act
+        final Exception unknownCommand = this.commandManager.commandTree().parse(
+                new CommandContext<>(new TestCommandSender(), this.commandManager),
+                new LinkedList<>(Collections.singletonList("teleprot"))
+        ).getSecond();
+        final Exception unknownForbiddenCommand = this.commandManager.commandTree().parse(
+                new CommandContext<>(new TestCommandSender(), this.commandManager),
+                new LinkedList<>(Collections.singletonList("hiden"))
+        ).getSecond();
+        final Exception unknownLiteral = this.commandManager.commandTree().parse(
+                new CommandContext<>(new TestCommandSender(), this.commandManager),
+                new LinkedList<>(Arrays.asList("test", "twoo"))
+        ).getSecond();
+
+        // Assert
+        assertThat(unknownCommand).isInstanceOf(NoSuchCommandException.class);
+        assertThat(((CommandParseException) unknownCommand).getSimilarLiterals()).containsExactly("teleport");
+        assertThat(unknownForbiddenCommand).isInstanceOf(NoSuchCommandException.class);
+        assertThat(((CommandParseException) unknownForbiddenCommand).getSimilarLiterals()).isEmpty();
+        assertThat(unknownLiteral).isInstanceOf(InvalidSyntaxException.class);
+        assertThat(((CommandParseException) unknownLiteral).getSimilarLiterals()).containsExactly("two");
+    }
+
+    @Test
+    void testMemoizedParsedValues() {
+        // Arrange
+        final CommandArgument<TestCommandSender, Integer> argument = IntegerArgument.<TestCommandSender>of("int")
+                .memoizeParsedValues(2);
+        this.commandManager.command(this.commandManager.commandBuilder("memo").argument(argument));
+
+        // Act
+        final int first = this.commandManager.executeCommand(new TestCommandSender(), "memo 5").join()
+                .getCommandContext().get("int");
+        final int second = this.commandManager.executeCommand(new TestCommandSender(), "memo 5").join()
+                .getCommandContext().get("int");
+        final CompletionException failure = assertThrows(
+                CompletionException.class,
+                () -> this.commandManager.executeCommand(new TestCommandSender(), "memo five").join()
+        );
+
+        // Assert
+        assertThat(first).isEqualTo(5);
+        assertThat(second).isEqualTo(5);
+        assertThat(failure).hasCauseThat().isInstanceOf(ArgumentParseException.class);
+        assertThat(argument.parseMemo().hits()).isEqualTo(1);
+        assertThat(argument.parseMemo().misses()).isEqualTo(2);
+        assertThat(argument.parseMemo().size()).isEqualTo(1);
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> CommandArgument.<TestCommandSender, String>ofType(String.class, "string")
+                        .withParser((context, input) -> ArgumentParseResult.success(input.remove()))
+                        .build()
+                        .memoizeParsedValues(2)
+        );
+    }
+
     @Test
     void getSuggestions() {
         // Arrange
@@ -405,6 +580,26 @@ class CommandTreeTest {
         assertThat(context.flags().<FlagEnum>getValue("enum")).hasValue(FlagEnum.POTATO);
     }
 
+    @Test
+    void testFlags_NamesAndAliasesIgnoreCase() {
+        // Arrange
+        final CommandExecutionHandler<TestCommandSender> executionHandler = this.setupFlags();
+
+        // Act
+        this.commandManager.executeCommand(new TestCommandSender(), "flags --NUM 63 -TF").join();
+
+        // Assert
+        final ArgumentCaptor<CommandContext<TestCommandSender>> contextArgumentCaptor = ArgumentCaptor.forClass(
+                CommandContext.class
+        );
+        verify(executionHandler).executeFuture(contextArgumentCaptor.capture());
+
+        final CommandContext<TestCommandSender> context = contextArgumentCaptor.getValue();
+        assertThat(context.flags().contains("test")).isTrue();
+        assertThat(context.flags().contains("test2")).isTrue();
+        assertThat(context.flags().<Integer>getValue("num")).hasValue(63);
+    }
+
     @Test
     void testAmbiguousNodes() {
         // Call setup(); after each time we leave the Tree in an invalid state
@@ -99,6 +99,25 @@ public class ParameterInjectorRegistryTest {
         ).isEmpty();
     }
 
+    @Test
+    void testInjectorRegisteredAfterLookup() {
+        // Arrange
+        final CommandContext<TestCommandSender> context = this.createContext();
+        parameterInjectorRegistry.getInjectable(String.class, context, AnnotationAccessor.empty());
+
+        // Act
+        this.parameterInjectorRegistry.registerInjector(String.class, (ctx, annotationAccessor) -> "injected");
+
+        // Assert
+        assertThat(
+                parameterInjectorRegistry.getInjectable(
+                        String.class,
+                        context,
+                        AnnotationAccessor.empty()
+                )
+        ).hasValue("injected");
+    }
+
     private static final class TestModule extends AbstractModule {
 
         private static final int INJECTED_INTEGER = 10;
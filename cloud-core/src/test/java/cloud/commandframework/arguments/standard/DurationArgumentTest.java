@@ -91,4 +91,12 @@ public class DurationArgumentTest {
                 "duration 1x"
         ).join());
     }
+
+    @Test
+    void overflowing_amount_failing() {
+        Assertions.assertThrows(CompletionException.class, () -> manager.executeCommand(
+                new TestCommandSender(),
+                "duration 99999999999s"
+        ).join());
+    }
 }
@@ -105,6 +105,49 @@ class EnumParserTest {
         assertThat(suggestions).containsExactly("aaa", "bbb", "ccc");
     }
 
+    @Test
+    void Parse_MixedCase_SuccessfulParse() {
+        // Arrange
+        final EnumArgument.EnumParser<TestCommandSender, TestEnum> parser = new EnumArgument.EnumParser<>(
+                TestEnum.class
+        );
+
+        // Act
+        final ArgumentParseResult<TestEnum> result = parser.parse(
+                this.context,
+                ArgumentTestHelper.linkedListOf("bBb")
+        );
+
+        // Assert
+        assertThat(result.getParsedValue()).hasValue(TestEnum.BBB);
+    }
+
+    @Test
+    void Suggestions_IgnoresInput_DeclarationOrder() {
+        // Arrange
+        final EnumArgument.EnumParser<TestCommandSender, PrefixEnum> parser = new EnumArgument.EnumParser<>(
+                PrefixEnum.class
+        );
+
+        // Act
+        final List<String> suggestions = parser.suggestions(
+                this.context,
+                "STo"
+        );
+
+        // Assert
+        assertThat(suggestions).containsExactly("speed", "stopwatch", "start", "stop", "stopped").inOrder();
+        assertThat(parser.suggestions(this.context, "")).isSameInstanceAs(suggestions);
+    }
+
+    enum PrefixEnum {
+        SPEED,
+        STOPWATCH,
+        START,
+        STOP,
+        STOPPED
+    }
+
     enum TestEnum {
         AAA,
         BBB,
@@ -24,6 +24,7 @@
 package cloud.commandframework.arguments.standard;
 
 import cloud.commandframework.TestCommandSender;
+import cloud.commandframework.arguments.SuggestionSink;
 import cloud.commandframework.arguments.parser.ArgumentParseResult;
 import cloud.commandframework.context.CommandContext;
 import java.util.ArrayList;
@@ -182,4 +183,40 @@ class IntegerParserTest {
         // Assert
         assertThat(suggestions).containsExactlyElementsIn(expectedSuggestions);
     }
+
+    @Test
+    void Suggestions_NegativeRange_ExpectedSuggestions() {
+        // Arrange
+        final IntegerArgument.IntegerParser<TestCommandSender> parser = new IntegerArgument.IntegerParser<>(
+                -20 /* min */,
+                -3 /* max */
+        );
+
+        // Act
+        final List<String> suggestions = parser.suggestions(
+                this.context,
+                "-1"
+        );
+
+        // Assert
+        assertThat(suggestions).containsExactly("-10", "-11", "-12", "-13", "-14", "-15", "-16", "-17", "-18", "-19");
+    }
+
+    @Test
+    void Suggestions_BoundedSink_StopsWhenFull() {
+        // Arrange
+        final SuggestionSink sink = SuggestionSink.bounded(3);
+
+        // Act
+        NumericSuggestions.suggest(
+                IntegerArgument.IntegerParser.DEFAULT_MINIMUM,
+                IntegerArgument.IntegerParser.DEFAULT_MAXIMUM,
+                "4",
+                sink
+        );
+
+        // Assert
+        assertThat(sink.suggestions()).containsExactly("4", "40", "41").inOrder();
+        assertThat(sink.isFull()).isTrue();
+    }
 }
@@ -112,6 +112,22 @@ class StringArgumentTest {
         ).join());
     }
 
+    @Test
+    void quoted_unmatched_quote_does_not_match_later_quotes() {
+        Assertions.assertThrows(CompletionException.class, () -> manager.executeCommand(
+                new TestCommandSender(),
+                "quoted \"unmatched 'quoted'"
+        ).join());
+    }
+
+    @Test
+    void quoted_escaped_backslash_before_closing_quote() {
+        manager.executeCommand(new TestCommandSender(), "quoted \"quoted \\\\\" unquoted").join();
+
+        assertThat(storage[0]).isEqualTo("quoted \\\\");
+        assertThat(storage[1]).isEqualTo("unquoted");
+    }
+
     @Test
     void greedy_consumes_all() {
         manager.executeCommand(new TestCommandSender(), "greedy greedy string content").join();
@@ -0,0 +1,160 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.context;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.TestCommandSender;
+import cloud.commandframework.arguments.CommandArgument;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.arguments.standard.StringArgument;
+import cloud.commandframework.keys.SimpleCloudKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static cloud.commandframework.util.TestUtils.createManager;
+import static com.google.common.truth.Truth.assertThat;
+
+class CommandContextTest {
+
+    private CommandManager<TestCommandSender> commandManager;
+    private CommandContext<TestCommandSender> context;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        this.context = new CommandContext<>(new TestCommandSender(), this.commandManager);
+    }
+
+    @Test
+    void testArgumentsReceiveSlotsByDepth() {
+        // Arrange
+        final CommandArgument<TestCommandSender, Integer> first = IntegerArgument.of("first");
+        final CommandArgument<TestCommandSender, String> second = StringArgument.of("second");
+        final Command<TestCommandSender> command = this.commandManager.commandBuilder("test")
+                .literal("literal")
+                .argument(first)
+                .argument(second)
+                .build();
+
+        // Act
+        this.commandManager.command(command);
+
+        // Assert
+        assertThat(command.getArguments().get(0).contextSlot()).isEqualTo(0);
+        assertThat(first.contextSlot()).isEqualTo(2);
+        assertThat(second.contextSlot()).isEqualTo(3);
+        assertThat(second.contextSlotParent()).isSameInstanceAs(first);
+        assertThat(second.contextSlotsByName()).containsExactly("test", 0, "literal", 1, "first", 2, "second", 3);
+    }
+
+    @Test
+    void testSlotValuesAreVisibleByName() {
+        // Arrange
+        final CommandArgument<TestCommandSender, Integer> argument = IntegerArgument.of("number");
+        this.commandManager.command(this.commandManager.commandBuilder("test").argument(argument));
+
+        // Act
+        this.context.store(argument, 5);
+
+        // Assert
+        assertThat(this.context.<Integer>get("number")).isEqualTo(5);
+        assertThat(this.context.get(argument)).isEqualTo(5);
+        assertThat(this.context.contains(SimpleCloudKey.of("number"))).isTrue();
+        assertThat(this.context.asMap()).containsEntry("number", 5);
+
+        this.context.store("number", 6);
+        assertThat(this.context.get(argument)).isEqualTo(6);
+
+        this.context.remove("number");
+        assertThat(this.context.contains("number")).isFalse();
+        assertThat(this.context.getOptional(argument)).isEmpty();
+    }
+
+    @Test
+    void testDisplacedSlotValueRemainsReachable() {
+        // Arrange
+        final CommandArgument<TestCommandSender, Integer> first = IntegerArgument.of("first");
+        final CommandArgument<TestCommandSender, Integer> second = IntegerArgument.of("second");
+        this.commandManager.command(this.commandManager.commandBuilder("one").argument(first));
+        this.commandManager.command(this.commandManager.commandBuilder("two").argument(second));
+
+        // Act
+        this.context.store(first, 1);
+        this.context.store(second, 2);
+
+        // Assert
+        assertThat(this.context.get(first)).isEqualTo(1);
+        assertThat(this.context.get(second)).isEqualTo(2);
+        assertThat(this.context.<Integer>get("first")).isEqualTo(1);
+        assertThat(this.context.<Integer>get("second")).isEqualTo(2);
+        assertThat(this.context.asMap()).containsEntry("first", 1);
+    }
+
+    @Test
+    void testArgumentAtSeveralDepthsHasNoSlot() {
+        // Arrange
+        final CommandArgument<TestCommandSender, Integer> argument = IntegerArgument.of("number");
+
+        // Act
+        argument.assignContextSlot(1);
+        argument.assignContextSlot(2);
+        this.context.store(argument, 3);
+
+        // Assert
+        assertThat(argument.contextSlot()).isLessThan(0);
+        assertThat(this.context.get(argument)).isEqualTo(3);
+    }
+
+    @Test
+    void testFlagsAtSeveralDepthsAreStoredByName() {
+        // Arrange
+        this.commandManager.setSetting(CommandManager.ManagerSettings.LIBERAL_FLAG_PARSING, true);
+        final Command<TestCommandSender> command = this.commandManager.commandBuilder("flagged")
+                .argument(IntegerArgument.optional("number"))
+                .argument(IntegerArgument.optional("other"))
+                .flag(this.commandManager.flagBuilder("loud"))
+                .build();
+        this.commandManager.command(command);
+
+        // Act
+        final CommandContext<TestCommandSender> leading = this.commandManager.executeCommand(
+                new TestCommandSender(),
+                "flagged --loud 5"
+        ).join().getCommandContext();
+        final CommandContext<TestCommandSender> trailing = this.commandManager.executeCommand(
+                new TestCommandSender(),
+                "flagged 5 6 --loud"
+        ).join().getCommandContext();
+
+        // Assert
+        assertThat(command.flagArgument().contextSlot()).isEqualTo(-2);
+        assertThat(leading.flags().isPresent("loud")).isTrue();
+        assertThat(leading.<Integer>get("number")).isEqualTo(5);
+        assertThat(leading.contains("other")).isFalse();
+        assertThat(trailing.flags().isPresent("loud")).isTrue();
+        assertThat(trailing.<Integer>get("number")).isEqualTo(5);
+        assertThat(trailing.<Integer>get("other")).isEqualTo(6);
+    }
+}
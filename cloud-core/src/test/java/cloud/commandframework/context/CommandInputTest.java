@@ -0,0 +1,96 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.context;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CommandInputTest {
+
+    @Test
+    void testTokenize() {
+        // Act
+        final CommandInput commandInput = CommandInput.of("command  literal 123");
+
+        // Assert
+        assertThat(commandInput).containsExactly("command", "literal", "123").inOrder();
+        assertThat(commandInput.remainingInput()).isEqualTo("command literal 123");
+    }
+
+    @Test
+    void testTrailingSpace() {
+        // Act
+        final CommandInput commandInput = CommandInput.of("command literal ");
+
+        // Assert
+        assertThat(commandInput).containsExactly("command", "literal", "").inOrder();
+    }
+
+    @Test
+    void testCopyAndRestore() {
+        // Arrange
+        final CommandInput commandInput = CommandInput.of("a b c d");
+        commandInput.remove();
+
+        // Act
+        final CommandInput snapshot = commandInput.copy();
+        commandInput.remove();
+        commandInput.addFirst("x");
+        commandInput.removeLast();
+
+        // Assert
+        assertThat(commandInput).containsExactly("x", "c").inOrder();
+        assertThat(snapshot).containsExactly("b", "c", "d").inOrder();
+
+        commandInput.restore(snapshot);
+        assertThat(commandInput).containsExactly("b", "c", "d").inOrder();
+        assertThat(commandInput.remainingInput()).isEqualTo("b c d");
+    }
+
+    @Test
+    void testRestoreForeignSnapshot() {
+        // Arrange
+        final CommandInput commandInput = CommandInput.of("a b");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> commandInput.restore(CommandInput.of("a b")));
+    }
+
+    @Test
+    void testRemainingInputWithInsertedTokens() {
+        // Arrange
+        final CommandInput commandInput = CommandInput.of(Arrays.asList("a", "b", "c"));
+        commandInput.remove();
+
+        // Act
+        commandInput.addFirst("partial");
+
+        // Assert
+        assertThat(commandInput.remainingInput()).isEqualTo("partial b c");
+        assertThat(commandInput.getLast()).isEqualTo("c");
+    }
+}
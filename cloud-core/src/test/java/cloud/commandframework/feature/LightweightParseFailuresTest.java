@@ -0,0 +1,99 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.feature;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.TestCommandSender;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.exceptions.ArgumentParseException;
+import cloud.commandframework.exceptions.InvalidSyntaxException;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static cloud.commandframework.util.TestUtils.createManager;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LightweightParseFailuresTest {
+
+    private CommandManager<TestCommandSender> commandManager;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        this.commandManager.command(
+                this.commandManager.commandBuilder("test")
+                        .literal("literal")
+                        .argument(IntegerArgument.of("number")));
+    }
+
+    @Test
+    void testDefaultFailuresCaptureStackTrace() {
+        final Throwable failure = this.failure("test literal 1 2");
+
+        assertThat(failure).isInstanceOf(InvalidSyntaxException.class);
+        assertThat(failure.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void testLightweightInvalidSyntax() {
+        // Arrange
+        this.commandManager.setSetting(CommandManager.ManagerSettings.LIGHTWEIGHT_PARSE_FAILURES, true);
+
+        // Act
+        final Throwable failure = this.failure("test literal 1 2");
+
+        // Assert
+        assertThat(failure).isInstanceOf(InvalidSyntaxException.class);
+        assertThat(failure.getStackTrace()).isEmpty();
+        final InvalidSyntaxException invalidSyntaxException = (InvalidSyntaxException) failure;
+        assertThat(invalidSyntaxException.getCorrectSyntax()).isEqualTo("test literal");
+        assertThat(invalidSyntaxException.getCurrentChain()).hasSize(2);
+    }
+
+    @Test
+    void testLightweightArgumentParseFailure() {
+        // Arrange
+        this.commandManager.setSetting(CommandManager.ManagerSettings.LIGHTWEIGHT_PARSE_FAILURES, true);
+
+        // Act
+        final Throwable failure = this.failure("test literal abc");
+
+        // Assert
+        assertThat(failure).isInstanceOf(ArgumentParseException.class);
+        assertThat(failure.getStackTrace()).isEmpty();
+        assertThat(failure.getCause().getStackTrace()).isEmpty();
+        assertThat(failure.getCause()).hasMessageThat().contains("abc");
+        assertThat(((ArgumentParseException) failure).getCurrentChain()).hasSize(3);
+    }
+
+    private Throwable failure(final String input) {
+        final CompletionException completionException = assertThrows(
+                CompletionException.class,
+                () -> this.commandManager.executeCommand(new TestCommandSender(), input).join()
+        );
+        return completionException.getCause();
+    }
+}
@@ -0,0 +1,146 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.metrics;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.TestCommandSender;
+import cloud.commandframework.arguments.standard.IntegerArgument;
+import cloud.commandframework.context.CommandContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static cloud.commandframework.util.TestUtils.createManager;
+import static com.google.common.truth.Truth.assertThat;
+
+class HistogramCommandMetricsTest {
+
+    private CommandManager<TestCommandSender> commandManager;
+    private Command<TestCommandSender> command;
+
+    @BeforeEach
+    void setup() {
+        this.commandManager = createManager();
+        this.command = this.commandManager.commandBuilder("test")
+                .argument(IntegerArgument.of("number"))
+                .handler(context -> {
+                })
+                .build();
+        this.commandManager.command(this.command);
+    }
+
+    @Test
+    void testNoMetricsByDefault() {
+        // Act
+        this.commandManager.executeCommand(new TestCommandSender(), "test 5").join();
+
+        // Assert
+        assertThat(this.commandManager.commandMetrics()).isNull();
+    }
+
+    @Test
+    void testArgumentTimingsRecordedByDefault() {
+        // Act
+        final CommandContext<TestCommandSender> context = this.commandManager.executeCommand(
+                new TestCommandSender(),
+                "test 5"
+        ).join().getCommandContext();
+
+        // Assert
+        assertThat(context.getArgumentTimings()).hasSize(2);
+        assertThat(context.getArgumentTimings().values().stream().allMatch(CommandContext.ArgumentTiming::wasSuccess)).isTrue();
+    }
+
+    @Test
+    void testArgumentTimingsDisabled() {
+        // Arrange
+        this.commandManager.setSetting(CommandManager.ManagerSettings.RECORD_ARGUMENT_TIMINGS, false);
+
+        // Act
+        final CommandContext<TestCommandSender> context = this.commandManager.executeCommand(
+                new TestCommandSender(),
+                "test 5"
+        ).join().getCommandContext();
+
+        // Assert
+        assertThat(context.getArgumentTimings()).isEmpty();
+    }
+
+    @Test
+    void testPhasesAreRecorded() {
+        // Arrange
+        final HistogramCommandMetrics<TestCommandSender> metrics = new HistogramCommandMetrics<>();
+        this.commandManager.commandMetrics(metrics);
+
+        // Act
+        this.commandManager.executeCommand(new TestCommandSender(), "test 5").join();
+        this.commandManager.suggest(new TestCommandSender(), "test ");
+
+        // Assert
+        assertThat(metrics.phase(CommandMetrics.Phase.TOKENIZE).count()).isEqualTo(1);
+        assertThat(metrics.phase(CommandMetrics.Phase.PREPROCESS).count()).isEqualTo(2);
+        assertThat(metrics.phase(CommandMetrics.Phase.PARSE).count()).isEqualTo(1);
+        assertThat(metrics.phase(CommandMetrics.Phase.POSTPROCESS).count()).isEqualTo(1);
+        assertThat(metrics.phase(CommandMetrics.Phase.EXECUTE).count()).isEqualTo(1);
+        assertThat(metrics.phase(CommandMetrics.Phase.SUGGEST).count()).isEqualTo(1);
+        assertThat(metrics.commands().get(this.command).count()).isEqualTo(1);
+        assertThat(metrics.arguments()).hasSize(2);
+    }
+
+    @Test
+    void testDeletedCommandsAreDiscarded() {
+        // Arrange
+        final HistogramCommandMetrics<TestCommandSender> metrics = new HistogramCommandMetrics<>();
+        this.commandManager.commandMetrics(metrics);
+        this.commandManager.executeCommand(new TestCommandSender(), "test 5").join();
+
+        // Act
+        metrics.commandDeleted(this.command);
+
+        // Assert
+        assertThat(metrics.commands()).isEmpty();
+        assertThat(metrics.arguments()).isEmpty();
+        assertThat(metrics.phase(CommandMetrics.Phase.EXECUTE).count()).isEqualTo(1);
+    }
+
+    @Test
+    void testLatencyHistogram() {
+        // Arrange
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        // Act
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 10L);
+        }
+
+        // Assert
+        assertThat(histogram.count()).isEqualTo(100);
+        assertThat(histogram.totalNanos()).isEqualTo(50500);
+        assertThat(histogram.maxNanos()).isEqualTo(1000);
+        assertThat(histogram.meanNanos()).isEqualTo(505.0);
+        assertThat(histogram.percentileNanos(0.5)).isAtLeast(500);
+        assertThat(histogram.percentileNanos(0.5)).isLessThan(1000);
+        assertThat(histogram.percentileNanos(1)).isEqualTo(1000);
+    }
+}
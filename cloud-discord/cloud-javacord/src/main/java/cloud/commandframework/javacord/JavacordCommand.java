@@ -65,15 +65,7 @@ public class JavacordCommand<C> implements MessageCreateListener {
             return;
         }
 
-        JavacordCommandSender commandSender;
-        if (event.getMessage().isServerMessage()) {
-            commandSender = new JavacordServerSender(event);
-        } else if (event.getMessage().isPrivateMessage()) {
-            commandSender = new JavacordPrivateSender(event);
-        } else {
-            commandSender = new JavacordCommandSender(event);
-        }
-
+        final JavacordCommandSender commandSender = createCommandSender(event);
         C sender = this.manager.getCommandSenderMapper().apply(commandSender);
 
         String messageContent = event.getMessageContent();
@@ -91,7 +83,37 @@ public class JavacordCommand<C> implements MessageCreateListener {
             return;
         }
 
-        this.manager.executeCommand(sender, finalContent)
+        this.execute(sender, commandSender, finalContent);
+    }
+
+    /**
+     * Create the Javacord sender wrapper for the author of the message
+     *
+     * @param event Message event
+     * @return Command sender
+     */
+    static @NonNull JavacordCommandSender createCommandSender(final @NonNull MessageCreateEvent event) {
+        if (event.getMessage().isServerMessage()) {
+            return new JavacordServerSender(event);
+        } else if (event.getMessage().isPrivateMessage()) {
+            return new JavacordPrivateSender(event);
+        }
+        return new JavacordCommandSender(event);
+    }
+
+    /**
+     * Execute the command and report failures to the sender
+     *
+     * @param sender        Mapped command sender
+     * @param commandSender Javacord command sender
+     * @param input         Message content without the command prefix
+     */
+    void execute(
+            final @NonNull C sender,
+            final @NonNull JavacordCommandSender commandSender,
+            final @NonNull String input
+    ) {
+        this.manager.executeCommand(sender, input)
                 .whenComplete((commandResult, throwable) -> {
                     if (throwable == null) {
                         return;
@@ -33,12 +33,28 @@ import cloud.commandframework.meta.SimpleCommandMeta;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.javacord.api.DiscordApi;
 import org.javacord.api.entity.permission.PermissionType;
 import org.javacord.api.entity.user.User;
-
+import org.javacord.api.event.message.MessageCreateEvent;
+
+/**
+ * Command manager for Javacord.
+ * <p>
+ * The command prefix mapper resolves the prefix from the mapped command sender, so by default a command sender is
+ * created and mapped for every message that is received, including the messages that are not commands. It is
+ * recommended to also set a {@link #messagePrefixMapper(Function) message prefix mapper}, which resolves the same
+ * prefix from the message itself. Messages that do not start with the prefix followed by a registered root command
+ * are then ignored before a command sender is created:
+ * <pre>{@code
+ * manager.messagePrefixMapper(event -> "!");
+ * }</pre>
+ *
+ * @param <C> command sender type
+ */
 public class JavacordCommandManager<C> extends CommandManager<C> {
 
     private final DiscordApi discordApi;
@@ -48,8 +64,11 @@ public class JavacordCommandManager<C> extends CommandManager<C> {
     private final Function<@NonNull C, @NonNull String> commandPrefixMapper;
     private final BiFunction<@NonNull C, @NonNull String, @NonNull Boolean> commandPermissionMapper;
 
+    private volatile @Nullable Function<@NonNull MessageCreateEvent, @NonNull String> messagePrefixMapper;
+
     /**
-     * Construct a new Javacord command manager
+     * Construct a new Javacord command manager. It is recommended to also set a
+     * {@link #messagePrefixMapper(Function) message prefix mapper}
      *
      * @param discordApi                   Instance of {@link DiscordApi} used to register listeners
      * @param commandExecutionCoordinator  Coordinator provider
@@ -127,6 +146,36 @@ public class JavacordCommandManager<C> extends CommandManager<C> {
         return this.commandPrefixMapper.apply(sender);
     }
 
+    /**
+     * Get the function that resolves the command prefix directly from a message
+     *
+     * @return Message prefix mapper, or {@code null} if the prefix is resolved from the command sender
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public final @Nullable Function<@NonNull MessageCreateEvent, @NonNull String> messagePrefixMapper() {
+        return this.messagePrefixMapper;
+    }
+
+    /**
+     * Set the function that resolves the command prefix directly from a message. When it is set, messages that do
+     * not start with the prefix followed by a registered root command are ignored before a command sender is
+     * created and mapped. The function should resolve the same prefix as the command prefix mapper.
+     * <p>
+     * By default, the command sender is created and mapped for every message in order to resolve the prefix, because
+     * the command prefix mapper takes the mapped command sender. Setting a message prefix mapper is therefore the
+     * recommended setup for bots that receive many messages that are not commands
+     *
+     * @param messagePrefixMapper Message prefix mapper, or {@code null} to resolve the prefix from the command sender
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public final void messagePrefixMapper(
+            final @Nullable Function<@NonNull MessageCreateEvent, @NonNull String> messagePrefixMapper
+    ) {
+        this.messagePrefixMapper = messagePrefixMapper;
+    }
+
     /**
      * Gets the DiscordApi instance
      *
@@ -0,0 +1,96 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.javacord;
+
+import cloud.commandframework.javacord.sender.JavacordCommandSender;
+import java.util.function.Function;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.javacord.api.entity.message.MessageAuthor;
+import org.javacord.api.event.message.MessageCreateEvent;
+import org.javacord.api.listener.message.MessageCreateListener;
+
+/**
+ * Listener that is shared between all registered root commands. Messages are checked against the command prefix
+ * once, after which the root command is resolved by its label and executed
+ *
+ * @param <C> command sender type
+ */
+final class JavacordMessageListener<C> implements MessageCreateListener {
+
+    private final JavacordCommandManager<C> manager;
+    private final JavacordRegistrationHandler<C> registrationHandler;
+
+    JavacordMessageListener(
+            final @NonNull JavacordCommandManager<C> manager,
+            final @NonNull JavacordRegistrationHandler<C> registrationHandler
+    ) {
+        this.manager = manager;
+        this.registrationHandler = registrationHandler;
+    }
+
+    @Override
+    public void onMessageCreate(final @NonNull MessageCreateEvent event) {
+        final MessageAuthor messageAuthor = event.getMessageAuthor();
+        if (messageAuthor.isWebhook() || !messageAuthor.isRegularUser()) {
+            return;
+        }
+
+        final String messageContent = event.getMessageContent();
+        if (messageContent.isEmpty()) {
+            return;
+        }
+
+        /* Without a message prefix mapper, the prefix can only be resolved once the sender has been mapped */
+        final Function<MessageCreateEvent, String> messagePrefixMapper = this.manager.messagePrefixMapper();
+        JavacordCommandSender commandSender = null;
+        C sender = null;
+        final String commandPrefix;
+        if (messagePrefixMapper == null) {
+            commandSender = JavacordCommand.createCommandSender(event);
+            sender = this.manager.getCommandSenderMapper().apply(commandSender);
+            commandPrefix = this.manager.getCommandPrefix(sender);
+        } else {
+            commandPrefix = messagePrefixMapper.apply(event);
+        }
+
+        if (!messageContent.startsWith(commandPrefix)) {
+            return;
+        }
+        final String content = messageContent.substring(commandPrefix.length());
+
+        final int labelEnd = content.indexOf(' ');
+        final JavacordCommand<C> command = this.registrationHandler.getCommand(
+                labelEnd == -1 ? content : content.substring(0, labelEnd)
+        );
+        if (command == null) {
+            return;
+        }
+
+        if (commandSender == null) {
+            commandSender = JavacordCommand.createCommandSender(event);
+            sender = this.manager.getCommandSenderMapper().apply(commandSender);
+        }
+        command.execute(sender, commandSender, content);
+    }
+}
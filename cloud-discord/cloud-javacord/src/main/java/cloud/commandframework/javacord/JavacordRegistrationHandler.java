@@ -27,16 +27,21 @@ import cloud.commandframework.Command;
 import cloud.commandframework.arguments.CommandArgument;
 import cloud.commandframework.arguments.StaticArgument;
 import cloud.commandframework.internal.CommandRegistrationHandler;
-import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.javacord.api.listener.message.MessageCreateListener;
 
 final class JavacordRegistrationHandler<C> implements CommandRegistrationHandler {
 
-    private final Map<CommandArgument<?, ?>, JavacordCommand<C>> registeredCommands = new HashMap<>();
+    private final Map<CommandArgument<?, ?>, JavacordCommand<C>> registeredCommands = new ConcurrentHashMap<>();
+    /* Lower-cased aliases of all registered root commands, used by the message listener to resolve the root command */
+    private final Map<String, JavacordCommand<C>> commandsByAlias = new ConcurrentHashMap<>();
 
     private JavacordCommandManager<C> javacordCommandManager;
+    private JavacordMessageListener<C> messageListener;
 
     JavacordRegistrationHandler() {
     }
@@ -49,7 +54,10 @@ final class JavacordRegistrationHandler<C> implements CommandRegistrationHandler
     public boolean registerCommand(final @NonNull Command<?> command) {
         /* We only care about the root command argument */
         final CommandArgument<?, ?> commandArgument = command.getArguments().get(0);
-        if (this.registeredCommands.containsKey(commandArgument)) {
+        final JavacordCommand<C> existingCommand = this.registeredCommands.get(commandArgument);
+        if (existingCommand != null) {
+            /* Aliases may have been added to the root command since it was registered */
+            this.indexAliases(commandArgument, existingCommand);
             return false;
         }
         @SuppressWarnings("unchecked") final JavacordCommand<C> javacordCommand = new JavacordCommand<>(
@@ -57,7 +65,13 @@ final class JavacordRegistrationHandler<C> implements CommandRegistrationHandler
                 this.javacordCommandManager
         );
         this.registeredCommands.put(commandArgument, javacordCommand);
-        this.javacordCommandManager.getDiscordApi().addMessageCreateListener(javacordCommand);
+        this.indexAliases(commandArgument, javacordCommand);
+        if (this.messageListener == null) {
+            /* A single listener dispatches to all root commands, so that the cost per message does not grow with the
+             * amount of registered commands */
+            this.messageListener = new JavacordMessageListener<>(this.javacordCommandManager, this);
+            this.javacordCommandManager.getDiscordApi().addMessageCreateListener(this.messageListener);
+        }
         return true;
     }
 
@@ -65,11 +79,34 @@ final class JavacordRegistrationHandler<C> implements CommandRegistrationHandler
     public void unregisterRootCommand(
             final @NonNull StaticArgument<?> rootCommand
     ) {
-        final JavacordCommand<C> command = this.registeredCommands.get(rootCommand);
+        final JavacordCommand<C> command = this.registeredCommands.remove(rootCommand);
         if (command == null) {
             return;
         }
+        this.commandsByAlias.values().removeIf(registeredCommand -> registeredCommand == command);
+
+        if (this.registeredCommands.isEmpty() && this.messageListener != null) {
+            this.javacordCommandManager.getDiscordApi().removeListener(MessageCreateListener.class, this.messageListener);
+            this.messageListener = null;
+        }
+    }
 
-        this.javacordCommandManager.getDiscordApi().removeListener(MessageCreateListener.class, command);
+    /**
+     * Get the registered root command with the given label
+     *
+     * @param label Root command name or alias, ignoring case
+     * @return Command, or {@code null} if no root command with the label is registered
+     */
+    @Nullable JavacordCommand<C> getCommand(final @NonNull String label) {
+        return this.commandsByAlias.get(label.toLowerCase(Locale.ROOT));
+    }
+
+    private void indexAliases(
+            final @NonNull CommandArgument<?, ?> commandArgument,
+            final @NonNull JavacordCommand<C> javacordCommand
+    ) {
+        for (final String alias : ((StaticArgument<?>) commandArgument).getAliases()) {
+            this.commandsByAlias.putIfAbsent(alias.toLowerCase(Locale.ROOT), javacordCommand);
+        }
     }
 }
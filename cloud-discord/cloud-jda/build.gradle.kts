@@ -5,4 +5,5 @@ plugins {
 dependencies {
     api(projects.cloudCore)
     compileOnly(libs.jda)
+    testImplementation(libs.jda)
 }
@@ -61,13 +61,18 @@ public class JDACommandListener<C> extends ListenerAdapter {
 
     @Override
     public final void onMessageReceived(final @NonNull MessageReceivedEvent event) {
-        final Message message = event.getMessage();
-        final C sender = this.commandManager.getCommandSenderMapper().apply(event);
-
         if (this.commandManager.getBotId() == event.getAuthor().getIdLong()) {
             return;
         }
 
+        /* Reject messages that cannot be commands before allocating the sender */
+        if (!this.commandManager.messagePreFilter().test(event)) {
+            return;
+        }
+
+        final Message message = event.getMessage();
+        final C sender = this.commandManager.getCommandSenderMapper().apply(event);
+
         final String prefix = this.commandManager.getPrefixMapper().apply(sender);
         String content = message.getContentRaw();
 
@@ -44,6 +44,7 @@ import net.dv8tion.jda.api.entities.MessageChannel;
 import net.dv8tion.jda.api.entities.Role;
 import net.dv8tion.jda.api.entities.User;
 import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -64,6 +65,9 @@ public class JDACommandManager<C> extends CommandManager<C> {
     private final Function<@NonNull MessageReceivedEvent, @NonNull C> commandSenderMapper;
     private final Function<@NonNull C, @NonNull MessageReceivedEvent> backwardsCommandSenderMapper;
 
+    private volatile JDAMessagePreFilter messagePreFilter = JDAMessagePreFilter.acceptAll();
+    private volatile @Nullable JDANameIndex nameIndex;
+
     /**
      * Construct a new JDA Command Manager
      *
@@ -159,6 +163,62 @@ public class JDACommandManager<C> extends CommandManager<C> {
         return this.backwardsCommandSenderMapper;
     }
 
+    /**
+     * Get the filter that is applied to received messages before a command sender is created
+     *
+     * @return Message pre-filter
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public final @NonNull JDAMessagePreFilter messagePreFilter() {
+        return this.messagePreFilter;
+    }
+
+    /**
+     * Set the filter that is applied to received messages before a command sender is created. Messages that
+     * are rejected by the filter are ignored without invoking the command sender mapper or the prefix mapper.
+     * By default, all messages are accepted
+     *
+     * @param messagePreFilter Message pre-filter
+     * @see JDAPrefixPreFilter
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public final void messagePreFilter(final @NonNull JDAMessagePreFilter messagePreFilter) {
+        this.messagePreFilter = messagePreFilter;
+    }
+
+    /**
+     * Get the name index that the JDA parsers use to resolve names, if it has been enabled
+     *
+     * @return Name index, or {@code null} if {@link #enableNameIndex()} has not been called
+     * @since 1.9.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+    public final @Nullable JDANameIndex nameIndex() {
+        return this.nameIndex;
+    }
+
+    /**
+     * Enable the {@link JDANameIndex}, which lets the JDA parsers resolve and suggest user, member, role and text
+     * channel names without scanning the JDA cache. The index is built from the current JDA cache and registered
+     * as an event listener. If the index has already been enabled, the existing index is returned
+     *
+     * @return Name index
+     * @since 1.9.0
+     */
+    @API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+    public final synchronized @NonNull JDANameIndex enableNameIndex() {
+        JDANameIndex nameIndex = this.nameIndex;
+        if (nameIndex == null) {
+            nameIndex = new JDANameIndex();
+            this.jda.addEventListener(nameIndex);
+            nameIndex.rebuild(this.jda);
+            this.nameIndex = nameIndex;
+        }
+        return nameIndex;
+    }
+
     /**
      * Get the bots discord id
      *
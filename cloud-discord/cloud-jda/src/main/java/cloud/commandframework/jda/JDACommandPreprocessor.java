@@ -61,11 +61,18 @@ final class JDACommandPreprocessor<C> implements CommandPreprocessor<C> {
      * <p>
      * If the message was sent in a DM instead of in a guild, the {@link net.dv8tion.jda.api.entities.PrivateChannel} will be
      * stored in the context with the key "PrivateChannel".
+     * <p>
+     * If the {@link JDANameIndex} has been enabled, it will be stored in the context with the key "JDANameIndex".
      */
     @Override
     public void accept(final @NonNull CommandPreprocessingContext<C> context) {
         context.getCommandContext().store("JDA", this.mgr.getJDA());
 
+        final JDANameIndex nameIndex = this.mgr.nameIndex();
+        if (nameIndex != null) {
+            context.getCommandContext().store("JDANameIndex", nameIndex);
+        }
+
         MessageReceivedEvent event;
         try {
             event = this.mgr.getBackwardsCommandSenderMapper().apply(context.getCommandContext().getSender());
@@ -0,0 +1,56 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.jda;
+
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Filter that is applied to every received message before a command sender is created for it. Messages that
+ * are rejected by the filter are ignored, and will not reach {@link JDACommandManager#executeCommand(Object, String)}
+ *
+ * @since 1.9.0
+ */
+@FunctionalInterface
+@API(status = API.Status.STABLE, since = "1.9.0")
+public interface JDAMessagePreFilter {
+
+    /**
+     * Get a filter that accepts all messages, leaving the prefix check to the listener
+     *
+     * @return Filter accepting all messages
+     */
+    static @NonNull JDAMessagePreFilter acceptAll() {
+        return event -> true;
+    }
+
+    /**
+     * Test whether the message could be a command
+     *
+     * @param event Message event
+     * @return {@code true} if the message should be handled as a command, {@code false} if it should be ignored
+     */
+    boolean test(@NonNull MessageReceivedEvent event);
+}
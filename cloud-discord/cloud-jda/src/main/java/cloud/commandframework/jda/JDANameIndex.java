@@ -0,0 +1,618 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.jda;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.Role;
+import net.dv8tion.jda.api.entities.TextChannel;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.events.channel.text.TextChannelCreateEvent;
+import net.dv8tion.jda.api.events.channel.text.TextChannelDeleteEvent;
+import net.dv8tion.jda.api.events.channel.text.update.TextChannelUpdateNameEvent;
+import net.dv8tion.jda.api.events.guild.GuildJoinEvent;
+import net.dv8tion.jda.api.events.guild.GuildLeaveEvent;
+import net.dv8tion.jda.api.events.guild.GuildReadyEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberJoinEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRemoveEvent;
+import net.dv8tion.jda.api.events.guild.member.update.GuildMemberUpdateNicknameEvent;
+import net.dv8tion.jda.api.events.message.guild.GuildMessageReceivedEvent;
+import net.dv8tion.jda.api.events.role.RoleCreateEvent;
+import net.dv8tion.jda.api.events.role.RoleDeleteEvent;
+import net.dv8tion.jda.api.events.role.update.RoleUpdateNameEvent;
+import net.dv8tion.jda.api.events.user.update.UserUpdateNameEvent;
+import net.dv8tion.jda.api.hooks.ListenerAdapter;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Case-insensitive index from the names of users, members, roles and text channels to their ids, which lets
+ * the JDA parsers resolve names without scanning the JDA cache.
+ * <p>
+ * The index is populated by {@link #rebuild(JDA)} and kept up to date by listening to the JDA cache events, so it
+ * has to be registered as an event listener. Entities are always resolved through the JDA cache, and ids whose
+ * entity has been removed or renamed are dropped from the index when they are looked up or suggested. Users are
+ * removed from the index when they leave the last guild that they share with the bot. Members that are added to
+ * the cache without an event, for example when they are loaded lazily, are only indexed once they send a message
+ * or when the index is rebuilt. Guilds that have not been indexed yet are scanned instead.
+ * <p>
+ * The names are kept in sorted maps, so looking up a name takes {@code O(log n)} time in the amount of indexed
+ * names, and suggesting names takes {@code O(log n)} time plus the time spent on the suggested names.
+ * <p>
+ * The index is enabled through {@link JDACommandManager#enableNameIndex()}, and is then stored in the command
+ * context with the key "JDANameIndex".
+ *
+ * @since 1.9.0
+ */
+@API(status = API.Status.EXPERIMENTAL, since = "1.9.0")
+public final class JDANameIndex extends ListenerAdapter {
+
+    /**
+     * Maximum amount of suggestions returned by the suggestion methods of the index
+     */
+    public static final int SUGGESTION_LIMIT = 100;
+
+    private final Map<Long, GuildTables> guilds = new ConcurrentHashMap<>();
+    private volatile NameTable users = new NameTable();
+
+    /**
+     * Discard the indexed names and index all users and guilds that are currently cached by JDA
+     *
+     * @param jda JDA instance
+     */
+    public void rebuild(final @NonNull JDA jda) {
+        final NameTable userTable = new NameTable();
+        for (final User user : jda.getUserCache()) {
+            userTable.add(user.getName(), user.getIdLong());
+        }
+        this.users = userTable;
+
+        final Set<Long> guildIds = new HashSet<>();
+        for (final Guild guild : jda.getGuildCache()) {
+            guildIds.add(guild.getIdLong());
+            this.indexGuild(guild);
+        }
+        this.guilds.keySet().retainAll(guildIds);
+    }
+
+    /**
+     * Get the users with the given name, ignoring case. This is equivalent to {@link JDA#getUsersByName(String, boolean)}
+     *
+     * @param jda  JDA instance
+     * @param name User name
+     * @return Users with the given name
+     */
+    public @NonNull List<@NonNull User> getUsersByName(final @NonNull JDA jda, final @NonNull String name) {
+        return this.users.lookup(name, jda::getUserById, User::getName);
+    }
+
+    /**
+     * Get the members of a guild with the given effective name, ignoring case. This is equivalent to
+     * {@link Guild#getMembersByEffectiveName(String, boolean)}
+     *
+     * @param guild Guild
+     * @param name  Effective name
+     * @return Members with the given effective name
+     */
+    public @NonNull List<@NonNull Member> getMembersByEffectiveName(final @NonNull Guild guild, final @NonNull String name) {
+        final GuildTables tables = this.guilds.get(guild.getIdLong());
+        if (tables == null) {
+            return guild.getMembersByEffectiveName(name, true);
+        }
+        return tables.members.lookup(name, guild::getMemberById, Member::getEffectiveName);
+    }
+
+    /**
+     * Get the roles of a guild with the given name, ignoring case. This is equivalent to
+     * {@link Guild#getRolesByName(String, boolean)}
+     *
+     * @param guild Guild
+     * @param name  Role name
+     * @return Roles with the given name
+     */
+    public @NonNull List<@NonNull Role> getRolesByName(final @NonNull Guild guild, final @NonNull String name) {
+        final GuildTables tables = this.guilds.get(guild.getIdLong());
+        if (tables == null) {
+            return guild.getRolesByName(name, true);
+        }
+        return tables.roles.lookup(name, guild::getRoleById, Role::getName);
+    }
+
+    /**
+     * Get the text channels of a guild with the given name, ignoring case. This is equivalent to
+     * {@link Guild#getTextChannelsByName(String, boolean)}
+     *
+     * @param guild Guild
+     * @param name  Channel name
+     * @return Text channels with the given name
+     */
+    public @NonNull List<@NonNull TextChannel> getTextChannelsByName(final @NonNull Guild guild, final @NonNull String name) {
+        final GuildTables tables = this.guilds.get(guild.getIdLong());
+        if (tables == null) {
+            return guild.getTextChannelsByName(name, true);
+        }
+        return tables.textChannels.lookup(name, guild::getTextChannelById, TextChannel::getName);
+    }
+
+    /**
+     * Suggest the names of users that start with the given input, ignoring case
+     *
+     * @param jda   JDA instance
+     * @param input Input
+     * @return At most {@link #SUGGESTION_LIMIT} suggested names
+     */
+    public @NonNull List<@NonNull String> suggestUserNames(
+            final @NonNull JDA jda,
+            final @NonNull String input
+    ) {
+        return suggest(consumer -> this.users.suggest(input, jda::getUserById, User::getName, consumer));
+    }
+
+    /**
+     * Suggest the effective names of guild members that start with the given input, ignoring case
+     *
+     * @param guild Guild
+     * @param input Input
+     * @return At most {@link #SUGGESTION_LIMIT} suggested names
+     */
+    public @NonNull List<@NonNull String> suggestMemberNames(
+            final @NonNull Guild guild,
+            final @NonNull String input
+    ) {
+        final GuildTables tables = this.guilds.get(guild.getIdLong());
+        if (tables == null) {
+            return suggest(consumer -> scan(guild.getMemberCache(), Member::getEffectiveName, input, consumer));
+        }
+        return suggest(consumer -> tables.members.suggest(
+                input,
+                guild::getMemberById,
+                Member::getEffectiveName,
+                consumer
+        ));
+    }
+
+    /**
+     * Suggest the names of guild roles that start with the given input, ignoring case
+     *
+     * @param guild Guild
+     * @param input Input
+     * @return At most {@link #SUGGESTION_LIMIT} suggested names
+     */
+    public @NonNull List<@NonNull String> suggestRoleNames(
+            final @NonNull Guild guild,
+            final @NonNull String input
+    ) {
+        final GuildTables tables = this.guilds.get(guild.getIdLong());
+        if (tables == null) {
+            return suggest(consumer -> scan(guild.getRoleCache(), Role::getName, input, consumer));
+        }
+        return suggest(consumer -> tables.roles.suggest(input, guild::getRoleById, Role::getName, consumer));
+    }
+
+    /**
+     * Suggest the names of guild text channels that start with the given input, ignoring case
+     *
+     * @param guild Guild
+     * @param input Input
+     * @return At most {@link #SUGGESTION_LIMIT} suggested names
+     */
+    public @NonNull List<@NonNull String> suggestTextChannelNames(
+            final @NonNull Guild guild,
+            final @NonNull String input
+    ) {
+        final GuildTables tables = this.guilds.get(guild.getIdLong());
+        if (tables == null) {
+            return suggest(consumer -> scan(guild.getTextChannelCache(), TextChannel::getName, input, consumer));
+        }
+        return suggest(consumer -> tables.textChannels.suggest(
+                input,
+                guild::getTextChannelById,
+                TextChannel::getName,
+                consumer
+        ));
+    }
+
+    @Override
+    public void onGuildReady(final @NonNull GuildReadyEvent event) {
+        this.indexGuild(event.getGuild());
+    }
+
+    @Override
+    public void onGuildJoin(final @NonNull GuildJoinEvent event) {
+        this.indexGuild(event.getGuild());
+    }
+
+    @Override
+    public void onGuildLeave(final @NonNull GuildLeaveEvent event) {
+        this.guilds.remove(event.getGuild().getIdLong());
+    }
+
+    @Override
+    public void onGuildMemberJoin(final @NonNull GuildMemberJoinEvent event) {
+        this.indexMember(event.getMember());
+    }
+
+    @Override
+    public void onGuildMemberRemove(final @NonNull GuildMemberRemoveEvent event) {
+        final User user = event.getUser();
+        final long guildId = event.getGuild().getIdLong();
+        final GuildTables tables = this.guilds.get(guildId);
+        if (tables != null) {
+            final Member member = event.getMember();
+            tables.members.remove(member == null ? user.getName() : member.getEffectiveName(), user.getIdLong());
+        }
+
+        /* JDA stops caching users that no longer share a guild with the bot */
+        for (final Guild guild : user.getMutualGuilds()) {
+            if (guild.getIdLong() != guildId) {
+                return;
+            }
+        }
+        this.users.remove(user.getName(), user.getIdLong());
+    }
+
+    @Override
+    public void onGuildMemberUpdateNickname(final @NonNull GuildMemberUpdateNicknameEvent event) {
+        final GuildTables tables = this.guilds.get(event.getGuild().getIdLong());
+        if (tables == null) {
+            return;
+        }
+        final Member member = event.getMember();
+        final String oldNickname = event.getOldNickname();
+        tables.members.remove(oldNickname == null ? member.getUser().getName() : oldNickname, member.getIdLong());
+        tables.members.add(member.getEffectiveName(), member.getIdLong());
+    }
+
+    @Override
+    public void onUserUpdateName(final @NonNull UserUpdateNameEvent event) {
+        final User user = event.getUser();
+        this.users.remove(event.getOldName(), user.getIdLong());
+        this.users.add(user.getName(), user.getIdLong());
+
+        /* Members without a nickname are known by their user name */
+        for (final Guild guild : user.getMutualGuilds()) {
+            final GuildTables tables = this.guilds.get(guild.getIdLong());
+            final Member member = guild.getMember(user);
+            if (tables == null || member == null || member.getNickname() != null) {
+                continue;
+            }
+            tables.members.remove(event.getOldName(), user.getIdLong());
+            tables.members.add(member.getEffectiveName(), user.getIdLong());
+        }
+    }
+
+    @Override
+    public void onGuildMessageReceived(final @NonNull GuildMessageReceivedEvent event) {
+        final Member member = event.getMember();
+        if (member != null && !event.isWebhookMessage()) {
+            this.indexMember(member);
+        }
+    }
+
+    @Override
+    public void onRoleCreate(final @NonNull RoleCreateEvent event) {
+        final GuildTables tables = this.guilds.get(event.getGuild().getIdLong());
+        if (tables != null) {
+            tables.roles.add(event.getRole().getName(), event.getRole().getIdLong());
+        }
+    }
+
+    @Override
+    public void onRoleDelete(final @NonNull RoleDeleteEvent event) {
+        final GuildTables tables = this.guilds.get(event.getGuild().getIdLong());
+        if (tables != null) {
+            tables.roles.remove(event.getRole().getName(), event.getRole().getIdLong());
+        }
+    }
+
+    @Override
+    public void onRoleUpdateName(final @NonNull RoleUpdateNameEvent event) {
+        final GuildTables tables = this.guilds.get(event.getGuild().getIdLong());
+        if (tables != null) {
+            tables.roles.remove(event.getOldName(), event.getRole().getIdLong());
+            tables.roles.add(event.getRole().getName(), event.getRole().getIdLong());
+        }
+    }
+
+    @Override
+    public void onTextChannelCreate(final @NonNull TextChannelCreateEvent event) {
+        final GuildTables tables = this.guilds.get(event.getGuild().getIdLong());
+        if (tables != null) {
+            tables.textChannels.add(event.getChannel().getName(), event.getChannel().getIdLong());
+        }
+    }
+
+    @Override
+    public void onTextChannelDelete(final @NonNull TextChannelDeleteEvent event) {
+        final GuildTables tables = this.guilds.get(event.getGuild().getIdLong());
+        if (tables != null) {
+            tables.textChannels.remove(event.getChannel().getName(), event.getChannel().getIdLong());
+        }
+    }
+
+    @Override
+    public void onTextChannelUpdateName(final @NonNull TextChannelUpdateNameEvent event) {
+        final GuildTables tables = this.guilds.get(event.getGuild().getIdLong());
+        if (tables != null) {
+            tables.textChannels.remove(event.getOldName(), event.getChannel().getIdLong());
+            tables.textChannels.add(event.getChannel().getName(), event.getChannel().getIdLong());
+        }
+    }
+
+    /**
+     * Index the members, roles and text channels of a guild, replacing the previous tables of the guild
+     *
+     * @param guild Guild
+     */
+    private void indexGuild(final @NonNull Guild guild) {
+        final GuildTables tables = new GuildTables();
+        for (final Member member : guild.getMemberCache()) {
+            tables.members.add(member.getEffectiveName(), member.getIdLong());
+            this.users.add(member.getUser().getName(), member.getIdLong());
+        }
+        for (final Role role : guild.getRoleCache()) {
+            tables.roles.add(role.getName(), role.getIdLong());
+        }
+        for (final TextChannel channel : guild.getTextChannelCache()) {
+            tables.textChannels.add(channel.getName(), channel.getIdLong());
+        }
+        this.guilds.put(guild.getIdLong(), tables);
+    }
+
+    /**
+     * Index a member and its user
+     *
+     * @param member Member
+     */
+    private void indexMember(final @NonNull Member member) {
+        this.users.add(member.getUser().getName(), member.getIdLong());
+        final GuildTables tables = this.guilds.get(member.getGuild().getIdLong());
+        if (tables != null) {
+            tables.members.add(member.getEffectiveName(), member.getIdLong());
+        }
+    }
+
+    /**
+     * Collect at most {@link #SUGGESTION_LIMIT} suggestions into a list
+     *
+     * @param suggester Function that pushes suggestions into a consumer, which returns {@code false} once it is full
+     * @return Suggestions
+     */
+    private static @NonNull List<@NonNull String> suggest(final @NonNull Consumer<@NonNull Predicate<@NonNull String>> suggester) {
+        final List<String> suggestions = new ArrayList<>();
+        suggester.accept(suggestion -> suggestions.add(suggestion) && suggestions.size() < SUGGESTION_LIMIT);
+        return suggestions;
+    }
+
+    /**
+     * Push the names of the given entities that start with the input into the consumer
+     *
+     * @param entities Entities
+     * @param nameOf   Function that maps an entity to its name
+     * @param input    Input
+     * @param consumer Consumer, which returns {@code false} once it is full
+     * @param <E>      Entity type
+     */
+    private static <E> void scan(
+            final @NonNull Iterable<E> entities,
+            final @NonNull Function<E, String> nameOf,
+            final @NonNull String input,
+            final @NonNull Predicate<@NonNull String> consumer
+    ) {
+        for (final E entity : entities) {
+            final String name = nameOf.apply(entity);
+            if (name.regionMatches(true, 0, input, 0, input.length()) && !consumer.test(name)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Fold the case of a name, such that two names are equal ignoring case if and only if their folded forms are equal
+     *
+     * @param name Name
+     * @return Folded name
+     */
+    private static @NonNull String fold(final @NonNull String name) {
+        final char[] chars = name.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+
+    private static final class GuildTables {
+
+        private final NameTable members = new NameTable();
+        private final NameTable roles = new NameTable();
+        private final NameTable textChannels = new NameTable();
+    }
+
+    /**
+     * Sorted map from folded names to the ids of the entities with that name. Reads are lock free and take
+     * {@code O(log n)} time in the amount of names, and the id arrays are replaced rather than modified
+     */
+    static final class NameTable {
+
+        private static final long[] NO_IDS = new long[0];
+
+        private final ConcurrentSkipListMap<String, long[]> ids = new ConcurrentSkipListMap<>();
+
+        /**
+         * Add an id to the given name
+         *
+         * @param name Name
+         * @param id   Id
+         */
+        void add(final @NonNull String name, final long id) {
+            final String key = fold(name);
+            if (contains(this.ids.getOrDefault(key, NO_IDS), id)) {
+                return;
+            }
+            synchronized (this) {
+                this.ids.compute(key, (k, current) -> {
+                    if (current == null) {
+                        return new long[]{id};
+                    }
+                    if (contains(current, id)) {
+                        return current;
+                    }
+                    final long[] updated = Arrays.copyOf(current, current.length + 1);
+                    updated[current.length] = id;
+                    return updated;
+                });
+            }
+        }
+
+        /**
+         * Remove an id from the given name
+         *
+         * @param name Name
+         * @param id   Id
+         */
+        void remove(final @NonNull String name, final long id) {
+            this.removeKey(fold(name), id);
+        }
+
+        /**
+         * Remove an id from the given folded name
+         *
+         * @param key Folded name
+         * @param id  Id
+         */
+        private synchronized void removeKey(final @NonNull String key, final long id) {
+            this.ids.computeIfPresent(key, (k, current) -> {
+                final long[] remaining = new long[current.length];
+                int size = 0;
+                for (final long existing : current) {
+                    if (existing != id) {
+                        remaining[size++] = existing;
+                    }
+                }
+                return size == 0 ? null : Arrays.copyOf(remaining, size);
+            });
+        }
+
+        /**
+         * Resolve the entities with the given name. Ids whose entity no longer exists or has a different name are
+         * removed from the table
+         *
+         * @param name     Name
+         * @param resolver Function that resolves an entity from the cache
+         * @param nameOf   Function that maps an entity to its name
+         * @param <E>      Entity type
+         * @return Entities with the given name
+         */
+        <E> @NonNull List<@NonNull E> lookup(
+                final @NonNull String name,
+                final @NonNull LongFunction<@Nullable E> resolver,
+                final @NonNull Function<E, String> nameOf
+        ) {
+            final String key = fold(name);
+            final long[] matches = this.ids.get(key);
+            if (matches == null) {
+                return Collections.emptyList();
+            }
+            final List<E> entities = new ArrayList<>(matches.length);
+            for (final long id : matches) {
+                final E entity = resolver.apply(id);
+                if (entity != null && nameOf.apply(entity).equalsIgnoreCase(name)) {
+                    entities.add(entity);
+                } else {
+                    this.removeKey(key, id);
+                }
+            }
+            return entities;
+        }
+
+        /**
+         * Push the names that start with the input into the consumer, in case-insensitive alphabetical order. Ids whose
+         * entity no longer exists or has a different name are removed from the table
+         *
+         * @param input    Input
+         * @param resolver Function that resolves an entity from the cache
+         * @param nameOf   Function that maps an entity to its name
+         * @param consumer Consumer, which returns {@code false} once it is full
+         * @param <E>      Entity type
+         */
+        <E> void suggest(
+                final @NonNull String input,
+                final @NonNull LongFunction<@Nullable E> resolver,
+                final @NonNull Function<E, String> nameOf,
+                final @NonNull Predicate<@NonNull String> consumer
+        ) {
+            final String prefix = fold(input);
+            for (final Map.Entry<String, long[]> entry : this.ids.tailMap(prefix).entrySet()) {
+                if (!entry.getKey().startsWith(prefix)) {
+                    return;
+                }
+                /* Each name is suggested once, even if several entities share it */
+                @Nullable String suggestion = null;
+                for (final long id : entry.getValue()) {
+                    final E entity = resolver.apply(id);
+                    final @Nullable String name = entity == null ? null : nameOf.apply(entity);
+                    if (name == null || !name.equalsIgnoreCase(entry.getKey())) {
+                        this.removeKey(entry.getKey(), id);
+                    } else if (suggestion == null) {
+                        suggestion = name;
+                    }
+                }
+                if (suggestion != null && !consumer.test(suggestion)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Check whether an id array contains the given id
+         *
+         * @param ids Ids
+         * @param id  Id
+         * @return {@code true} if the id is contained
+         */
+        private static boolean contains(final long @NonNull [] ids, final long id) {
+            for (final long existing : ids) {
+                if (existing == id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
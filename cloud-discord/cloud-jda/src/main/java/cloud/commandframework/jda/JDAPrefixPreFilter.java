@@ -0,0 +1,122 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.jda;
+
+import cloud.commandframework.CommandManager;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * {@link JDAMessagePreFilter} that only accepts messages which start with the command prefix, followed by the name
+ * or alias of a registered root command. Spaces between the prefix and the name are ignored, like they are when the
+ * command is parsed.
+ * <p>
+ * The prefix is resolved from the guild rather than from the command sender, so that no sender has to be created for
+ * messages that are not commands. Guild prefixes are cached, and {@link #invalidate(long)} has to be called when the
+ * prefix of a guild changes. The filter should resolve the same prefix as the prefix mapper of the command manager.
+ * <p>
+ * As unknown root commands are rejected by this filter, the command manager will not handle
+ * {@link cloud.commandframework.exceptions.NoSuchCommandException} for them.
+ *
+ * @since 1.9.0
+ */
+@API(status = API.Status.STABLE, since = "1.9.0")
+public final class JDAPrefixPreFilter implements JDAMessagePreFilter {
+
+    private final Map<Long, String> guildPrefixes = new ConcurrentHashMap<>();
+    private final CommandManager<?> commandManager;
+    private final Function<@NonNull Guild, @NonNull String> guildPrefixMapper;
+    private final String privatePrefix;
+
+    private JDAPrefixPreFilter(
+            final @NonNull CommandManager<?> commandManager,
+            final @NonNull Function<@NonNull Guild, @NonNull String> guildPrefixMapper,
+            final @NonNull String privatePrefix
+    ) {
+        this.commandManager = commandManager;
+        this.guildPrefixMapper = guildPrefixMapper;
+        this.privatePrefix = privatePrefix;
+    }
+
+    /**
+     * Create a new prefix filter
+     *
+     * @param commandManager    Command manager whose root commands are accepted
+     * @param guildPrefixMapper Function that maps a guild to the command prefix that is used in the guild
+     * @param privatePrefix     Command prefix that is used outside of guilds
+     * @return Created filter
+     */
+    public static @NonNull JDAPrefixPreFilter of(
+            final @NonNull CommandManager<?> commandManager,
+            final @NonNull Function<@NonNull Guild, @NonNull String> guildPrefixMapper,
+            final @NonNull String privatePrefix
+    ) {
+        return new JDAPrefixPreFilter(commandManager, guildPrefixMapper, privatePrefix);
+    }
+
+    @Override
+    public boolean test(final @NonNull MessageReceivedEvent event) {
+        final String content = event.getMessage().getContentRaw();
+        final String prefix = this.prefix(event);
+        if (!content.startsWith(prefix)) {
+            return false;
+        }
+        int labelStart = prefix.length();
+        while (labelStart < content.length() && content.charAt(labelStart) == ' ') {
+            labelStart++;
+        }
+        final int labelEnd = content.indexOf(' ', labelStart);
+        final String label = content.substring(labelStart, labelEnd == -1 ? content.length() : labelEnd);
+        return this.commandManager.commandTree().getNamedNode(label) != null;
+    }
+
+    /**
+     * Remove the cached prefix of a guild. This should be called whenever the prefix of the guild changes
+     *
+     * @param guildId Guild ID
+     */
+    public void invalidate(final long guildId) {
+        this.guildPrefixes.remove(guildId);
+    }
+
+    /**
+     * Remove all cached guild prefixes
+     */
+    public void invalidateAll() {
+        this.guildPrefixes.clear();
+    }
+
+    private @NonNull String prefix(final @NonNull MessageReceivedEvent event) {
+        if (!event.isFromGuild()) {
+            return this.privatePrefix;
+        }
+        final Guild guild = event.getGuild();
+        return this.guildPrefixes.computeIfAbsent(guild.getIdLong(), id -> this.guildPrefixMapper.apply(guild));
+    }
+}
@@ -29,6 +29,8 @@ import cloud.commandframework.arguments.parser.ArgumentParseResult;
 import cloud.commandframework.arguments.parser.ArgumentParser;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.parsing.NoInputProvidedException;
+import cloud.commandframework.jda.JDANameIndex;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Queue;
@@ -250,7 +252,10 @@ public final class ChannelArgument<C> extends CommandArgument<C, MessageChannel>
             }
 
             if (this.modes.contains(ParserMode.NAME)) {
-                final List<TextChannel> channels = event.getGuild().getTextChannelsByName(input, true);
+                final JDANameIndex nameIndex = commandContext.getOrDefault("JDANameIndex", null);
+                final List<TextChannel> channels = nameIndex == null
+                        ? event.getGuild().getTextChannelsByName(input, true)
+                        : nameIndex.getTextChannelsByName(event.getGuild(), input);
 
                 if (channels.size() == 0) {
                     exception = new ChannelNotFoundException(input);
@@ -266,6 +271,23 @@ public final class ChannelArgument<C> extends CommandArgument<C, MessageChannel>
             return ArgumentParseResult.failure(exception);
         }
 
+        @Override
+        public @NonNull List<@NonNull String> suggestions(
+                final @NonNull CommandContext<C> commandContext,
+                final @NonNull String input
+        ) {
+            final JDANameIndex nameIndex = commandContext.getOrDefault("JDANameIndex", null);
+            if (nameIndex == null || !this.modes.contains(ParserMode.NAME) || !commandContext.contains("MessageReceivedEvent")) {
+                return Collections.emptyList();
+            }
+
+            final MessageReceivedEvent event = commandContext.get("MessageReceivedEvent");
+            if (!event.isFromGuild()) {
+                return Collections.emptyList();
+            }
+            return nameIndex.suggestTextChannelNames(event.getGuild(), input);
+        }
+
         @Override
         public boolean isContextFree() {
             return true;
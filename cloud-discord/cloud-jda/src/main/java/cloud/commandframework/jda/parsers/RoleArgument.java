@@ -29,6 +29,8 @@ import cloud.commandframework.arguments.parser.ArgumentParseResult;
 import cloud.commandframework.arguments.parser.ArgumentParser;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.parsing.NoInputProvidedException;
+import cloud.commandframework.jda.JDANameIndex;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Queue;
@@ -241,7 +243,10 @@ public final class RoleArgument<C> extends CommandArgument<C, Role> {
             }
 
             if (this.modes.contains(ParserMode.NAME)) {
-                final List<Role> roles = event.getGuild().getRolesByName(input, true);
+                final JDANameIndex nameIndex = commandContext.getOrDefault("JDANameIndex", null);
+                final List<Role> roles = nameIndex == null
+                        ? event.getGuild().getRolesByName(input, true)
+                        : nameIndex.getRolesByName(event.getGuild(), input);
 
                 if (roles.size() == 0) {
                     exception = new RoleNotFoundException(input);
@@ -257,6 +262,23 @@ public final class RoleArgument<C> extends CommandArgument<C, Role> {
             return ArgumentParseResult.failure(exception);
         }
 
+        @Override
+        public @NonNull List<@NonNull String> suggestions(
+                final @NonNull CommandContext<C> commandContext,
+                final @NonNull String input
+        ) {
+            final JDANameIndex nameIndex = commandContext.getOrDefault("JDANameIndex", null);
+            if (nameIndex == null || !this.modes.contains(ParserMode.NAME) || !commandContext.contains("MessageReceivedEvent")) {
+                return Collections.emptyList();
+            }
+
+            final MessageReceivedEvent event = commandContext.get("MessageReceivedEvent");
+            if (!event.isFromGuild()) {
+                return Collections.emptyList();
+            }
+            return nameIndex.suggestRoleNames(event.getGuild(), input);
+        }
+
         @Override
         public boolean isContextFree() {
             return true;
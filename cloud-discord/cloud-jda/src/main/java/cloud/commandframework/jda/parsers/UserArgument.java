@@ -29,6 +29,7 @@ import cloud.commandframework.arguments.parser.ArgumentParseResult;
 import cloud.commandframework.arguments.parser.ArgumentParser;
 import cloud.commandframework.context.CommandContext;
 import cloud.commandframework.exceptions.parsing.NoInputProvidedException;
+import cloud.commandframework.jda.JDANameIndex;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -303,11 +304,16 @@ public final class UserArgument<C> extends CommandArgument<C, User> {
             if (this.modes.contains(ParserMode.NAME)) {
                 final List<User> users;
 
+                final JDANameIndex nameIndex = commandContext.getOrDefault("JDANameIndex", null);
                 if (this.isolationLevel == Isolation.GLOBAL) {
-                    users = event.getJDA().getUsersByName(input, true);
+                    users = nameIndex == null
+                            ? event.getJDA().getUsersByName(input, true)
+                            : nameIndex.getUsersByName(event.getJDA(), input);
                 } else if (event.isFromGuild()) {
-                    users = event.getGuild().getMembersByEffectiveName(input, true)
-                            .stream().map(Member::getUser)
+                    final List<Member> members = nameIndex == null
+                            ? event.getGuild().getMembersByEffectiveName(input, true)
+                            : nameIndex.getMembersByEffectiveName(event.getGuild(), input);
+                    users = members.stream().map(Member::getUser)
                             .collect(Collectors.toList());
                 } else if (event.getAuthor().getName().equalsIgnoreCase(input)) {
                     users = Collections.singletonList(event.getAuthor());
@@ -329,6 +335,25 @@ public final class UserArgument<C> extends CommandArgument<C, User> {
             return ArgumentParseResult.failure(exception);
         }
 
+        @Override
+        public @NonNull List<@NonNull String> suggestions(
+                final @NonNull CommandContext<C> commandContext,
+                final @NonNull String input
+        ) {
+            final JDANameIndex nameIndex = commandContext.getOrDefault("JDANameIndex", null);
+            if (nameIndex == null || !this.modes.contains(ParserMode.NAME) || !commandContext.contains("MessageReceivedEvent")) {
+                return Collections.emptyList();
+            }
+
+            final MessageReceivedEvent event = commandContext.get("MessageReceivedEvent");
+            if (this.isolationLevel == Isolation.GLOBAL) {
+                return nameIndex.suggestUserNames(event.getJDA(), input);
+            } else if (event.isFromGuild()) {
+                return nameIndex.suggestMemberNames(event.getGuild(), input);
+            }
+            return Collections.emptyList();
+        }
+
         @Override
         public boolean isContextFree() {
             return true;
@@ -0,0 +1,260 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.jda;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import net.dv8tion.jda.api.JDA;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Member;
+import net.dv8tion.jda.api.entities.User;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberJoinEvent;
+import net.dv8tion.jda.api.events.guild.member.GuildMemberRemoveEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class JDANameIndexTest {
+
+    private Map<Long, String> entities;
+    private JDANameIndex.NameTable table;
+
+    @BeforeEach
+    void setup() {
+        this.entities = new HashMap<>();
+        this.table = new JDANameIndex.NameTable();
+    }
+
+    @Test
+    void testLookupIgnoresCase() {
+        // Arrange
+        this.entity(1L, "Alice");
+        this.entity(2L, "Bob");
+
+        // Act
+        final List<String> matches = this.lookup("ALICE");
+
+        // Assert
+        assertThat(matches).containsExactly("Alice");
+    }
+
+    @Test
+    void testLookupReturnsAllEntitiesWithTheName() {
+        // Arrange
+        this.entity(1L, "alice");
+        this.entity(2L, "Alice");
+        this.table.add("alice", 1L);
+
+        // Act
+        final List<String> matches = this.lookup("alice");
+
+        // Assert
+        assertThat(matches).containsExactly("alice", "Alice").inOrder();
+    }
+
+    @Test
+    void testRemove() {
+        // Arrange
+        this.entity(1L, "alice");
+        this.entity(2L, "Alice");
+
+        // Act
+        this.table.remove("ALICE", 1L);
+
+        // Assert
+        assertThat(this.lookup("alice")).containsExactly("Alice");
+    }
+
+    @Test
+    void testLookupPrunesStaleIds() {
+        // Arrange
+        this.entity(1L, "alice");
+        this.entities.remove(1L);
+
+        // Act
+        final List<String> matches = this.lookup("alice");
+        this.entities.put(1L, "alice");
+
+        // Assert
+        assertThat(matches).isEmpty();
+        assertThat(this.lookup("alice")).isEmpty();
+    }
+
+    @Test
+    void testSuggestPrefixInAlphabeticalOrder() {
+        // Arrange
+        this.entity(1L, "alice");
+        this.entity(2L, "Alfred");
+        this.entity(3L, "bob");
+        this.entity(4L, "albert");
+
+        // Act
+        final List<String> suggestions = this.suggest("AL", Integer.MAX_VALUE);
+
+        // Assert
+        assertThat(suggestions).containsExactly("albert", "Alfred", "alice").inOrder();
+    }
+
+    @Test
+    void testSuggestStopsOnceFull() {
+        // Arrange
+        this.entity(1L, "alice");
+        this.entity(2L, "alfred");
+        this.entity(3L, "albert");
+
+        // Act
+        final List<String> suggestions = this.suggest("a", 2);
+
+        // Assert
+        assertThat(suggestions).containsExactly("albert", "alfred").inOrder();
+    }
+
+    @Test
+    void testSuggestNamesOnce() {
+        // Arrange
+        this.entity(1L, "alice");
+        this.entity(2L, "Alice");
+
+        // Act
+        final List<String> suggestions = this.suggest("", Integer.MAX_VALUE);
+
+        // Assert
+        assertThat(suggestions).containsExactly("alice");
+    }
+
+    @Test
+    void testSuggestPrunesStaleIds() {
+        // Arrange
+        this.entity(1L, "alice");
+        this.entity(2L, "alfred");
+        this.entities.remove(1L);
+        this.entities.put(2L, "bob");
+
+        // Act
+        final List<String> suggestions = this.suggest("al", Integer.MAX_VALUE);
+        this.entities.put(1L, "alice");
+        this.entities.put(2L, "alfred");
+
+        // Assert
+        assertThat(suggestions).isEmpty();
+        assertThat(this.suggest("al", Integer.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    void testUserIsRemovedWhenNoMutualGuildRemains() {
+        // Arrange
+        final JDANameIndex index = new JDANameIndex();
+        final Guild guild = this.guild(1L);
+        final User user = this.user(2L, "Alice");
+        final JDA jda = mock(JDA.class);
+        when(jda.getUserById(2L)).thenReturn(user);
+        index.onGuildMemberJoin(this.joinEvent(guild, user));
+        final List<User> before = index.getUsersByName(jda, "alice");
+        when(user.getMutualGuilds()).thenReturn(Collections.emptyList());
+
+        // Act
+        index.onGuildMemberRemove(this.removeEvent(guild, user));
+
+        // Assert
+        assertThat(before).containsExactly(user);
+        assertThat(index.getUsersByName(jda, "alice")).isEmpty();
+    }
+
+    @Test
+    void testUserIsKeptWhileMutualGuildRemains() {
+        // Arrange
+        final JDANameIndex index = new JDANameIndex();
+        final Guild guild = this.guild(1L);
+        final Guild otherGuild = this.guild(3L);
+        final User user = this.user(2L, "Alice");
+        final JDA jda = mock(JDA.class);
+        when(jda.getUserById(2L)).thenReturn(user);
+        index.onGuildMemberJoin(this.joinEvent(guild, user));
+        when(user.getMutualGuilds()).thenReturn(Collections.singletonList(otherGuild));
+
+        // Act
+        index.onGuildMemberRemove(this.removeEvent(guild, user));
+
+        // Assert
+        assertThat(index.getUsersByName(jda, "alice")).containsExactly(user);
+    }
+
+    private void entity(final long id, final String name) {
+        this.entities.put(id, name);
+        this.table.add(name, id);
+    }
+
+    private List<String> lookup(final String name) {
+        return this.table.lookup(name, this.entities::get, Function.identity());
+    }
+
+    private List<String> suggest(final String input, final int limit) {
+        final List<String> suggestions = new ArrayList<>();
+        this.table.suggest(
+                input,
+                this.entities::get,
+                Function.identity(),
+                suggestion -> suggestions.add(suggestion) && suggestions.size() < limit
+        );
+        return suggestions;
+    }
+
+    private Guild guild(final long id) {
+        final Guild guild = mock(Guild.class);
+        when(guild.getIdLong()).thenReturn(id);
+        return guild;
+    }
+
+    private User user(final long id, final String name) {
+        final User user = mock(User.class);
+        when(user.getIdLong()).thenReturn(id);
+        when(user.getName()).thenReturn(name);
+        return user;
+    }
+
+    private GuildMemberJoinEvent joinEvent(final Guild guild, final User user) {
+        final long id = user.getIdLong();
+        final Member member = mock(Member.class);
+        when(member.getUser()).thenReturn(user);
+        when(member.getIdLong()).thenReturn(id);
+        when(member.getGuild()).thenReturn(guild);
+        final GuildMemberJoinEvent event = mock(GuildMemberJoinEvent.class);
+        when(event.getMember()).thenReturn(member);
+        return event;
+    }
+
+    private GuildMemberRemoveEvent removeEvent(final Guild guild, final User user) {
+        final GuildMemberRemoveEvent event = mock(GuildMemberRemoveEvent.class);
+        when(event.getGuild()).thenReturn(guild);
+        when(event.getUser()).thenReturn(user);
+        return event;
+    }
+}
@@ -0,0 +1,180 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.jda;
+
+import cloud.commandframework.CommandManager;
+import cloud.commandframework.execution.CommandExecutionCoordinator;
+import cloud.commandframework.internal.CommandRegistrationHandler;
+import cloud.commandframework.meta.CommandMeta;
+import cloud.commandframework.meta.SimpleCommandMeta;
+import java.util.function.Function;
+import net.dv8tion.jda.api.entities.Guild;
+import net.dv8tion.jda.api.entities.Message;
+import net.dv8tion.jda.api.events.message.MessageReceivedEvent;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JDAPrefixPreFilterTest {
+
+    @Mock
+    private MessageReceivedEvent event;
+    @Mock
+    private Message message;
+    @Mock
+    private Guild guild;
+    @Mock
+    private Function<Guild, String> guildPrefixMapper;
+
+    private JDAPrefixPreFilter filter;
+
+    @BeforeEach
+    void setup() {
+        final CommandManager<Object> commandManager = new CommandManager<Object>(
+                CommandExecutionCoordinator.simpleCoordinator(),
+                CommandRegistrationHandler.nullCommandRegistrationHandler()
+        ) {
+            @Override
+            public boolean hasPermission(final @NonNull Object sender, final @NonNull String permission) {
+                return true;
+            }
+
+            @Override
+            public @NonNull CommandMeta createDefaultCommandMeta() {
+                return SimpleCommandMeta.empty();
+            }
+        };
+        commandManager.command(commandManager.commandBuilder("test", "alias").literal("sub"));
+        this.filter = JDAPrefixPreFilter.of(commandManager, this.guildPrefixMapper, "!");
+        when(this.event.getMessage()).thenReturn(this.message);
+    }
+
+    @Test
+    void testAcceptsRootCommand() {
+        // Arrange
+        this.privateMessage("!test sub");
+
+        // Act
+        final boolean accepted = this.filter.test(this.event);
+
+        // Assert
+        assertThat(accepted).isTrue();
+    }
+
+    @Test
+    void testAcceptsAliasIgnoringCase() {
+        // Arrange
+        this.privateMessage("!ALIAS");
+
+        // Act
+        final boolean accepted = this.filter.test(this.event);
+
+        // Assert
+        assertThat(accepted).isTrue();
+    }
+
+    @Test
+    void testAcceptsSpacesAfterPrefix() {
+        // Arrange
+        this.privateMessage("!  test sub");
+
+        // Act
+        final boolean accepted = this.filter.test(this.event);
+
+        // Assert
+        assertThat(accepted).isTrue();
+    }
+
+    @Test
+    void testRejectsUnknownRootCommand() {
+        // Arrange
+        this.privateMessage("!unknown sub");
+
+        // Act
+        final boolean accepted = this.filter.test(this.event);
+
+        // Assert
+        assertThat(accepted).isFalse();
+    }
+
+    @Test
+    void testRejectsMissingPrefix() {
+        // Arrange
+        this.privateMessage("test sub");
+
+        // Act
+        final boolean accepted = this.filter.test(this.event);
+
+        // Assert
+        assertThat(accepted).isFalse();
+    }
+
+    @Test
+    void testRejectsPrefixWithoutLabel() {
+        // Arrange
+        this.privateMessage("!  ");
+
+        // Act
+        final boolean accepted = this.filter.test(this.event);
+
+        // Assert
+        assertThat(accepted).isFalse();
+    }
+
+    @Test
+    void testGuildPrefixIsCachedUntilInvalidated() {
+        // Arrange
+        when(this.event.isFromGuild()).thenReturn(true);
+        when(this.event.getGuild()).thenReturn(this.guild);
+        when(this.guild.getIdLong()).thenReturn(1L);
+        when(this.guildPrefixMapper.apply(this.guild)).thenReturn("?");
+        when(this.message.getContentRaw()).thenReturn("?test");
+
+        // Act
+        final boolean first = this.filter.test(this.event);
+        final boolean second = this.filter.test(this.event);
+        this.filter.invalidate(1L);
+        final boolean third = this.filter.test(this.event);
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isTrue();
+        verify(this.guildPrefixMapper, times(2)).apply(this.guild);
+    }
+
+    private void privateMessage(final @NonNull String content) {
+        when(this.event.isFromGuild()).thenReturn(false);
+        when(this.message.getContentRaw()).thenReturn(content);
+    }
+}
@@ -53,8 +53,12 @@ final class CloudListenerAdapter<C> extends ListenerAdapter {
         if (!message.startsWith(this.manager.getCommandPrefix())) {
             return;
         }
+        final String input = message.substring(this.manager.getCommandPrefix().length());
+        if (!this.manager.messagePreFilter().test(event, input)) {
+            return;
+        }
         final C sender = this.manager.getUserMapper().apply(event.getUser());
-        this.manager.executeCommand(sender, message.substring(this.manager.getCommandPrefix().length()))
+        this.manager.executeCommand(sender, input)
                 .whenComplete((commandResult, throwable) -> {
                     if (throwable == null) {
                         return;
@@ -36,6 +36,7 @@ import cloud.commandframework.pircbotx.arguments.UserArgument;
 import io.leangen.geantyref.TypeToken;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import org.apiguardian.api.API;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.pircbotx.PircBotX;
 import org.pircbotx.User;
@@ -67,6 +68,8 @@ public class PircBotXCommandManager<C> extends CommandManager<C> {
     private final Function<User, C> userMapper;
     private final PircBotX pircBotX;
 
+    private volatile PircBotXMessagePreFilter messagePreFilter = PircBotXMessagePreFilter.acceptAll();
+
     /**
      * Create a new command manager instance
      *
@@ -143,6 +146,30 @@ public class PircBotXCommandManager<C> extends CommandManager<C> {
         return this.commandPrefix;
     }
 
+    /**
+     * Get the filter that is applied to prefixed messages before a command sender is created
+     *
+     * @return Message pre-filter
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public final @NonNull PircBotXMessagePreFilter messagePreFilter() {
+        return this.messagePreFilter;
+    }
+
+    /**
+     * Set the filter that is applied to prefixed messages before a command sender is created. Messages that
+     * are rejected by the filter are ignored without invoking the user mapper. By default, all messages are accepted
+     *
+     * @param messagePreFilter Message pre-filter
+     * @see PircBotXMessagePreFilter#rootCommands(PircBotXCommandManager)
+     * @since 1.9.0
+     */
+    @API(status = API.Status.STABLE, since = "1.9.0")
+    public final void messagePreFilter(final @NonNull PircBotXMessagePreFilter messagePreFilter) {
+        this.messagePreFilter = messagePreFilter;
+    }
+
     final @NonNull Function<User, C> getUserMapper() {
         return this.userMapper;
     }
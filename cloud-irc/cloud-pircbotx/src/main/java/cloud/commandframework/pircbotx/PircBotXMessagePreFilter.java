@@ -0,0 +1,74 @@
+//
+// MIT License
+//
+// Copyright (c) 2022 Alexander Söderberg & Contributors
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+package cloud.commandframework.pircbotx;
+
+import org.apiguardian.api.API;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.pircbotx.hooks.types.GenericMessageEvent;
+
+/**
+ * Filter that is applied to every message that starts with the command prefix, before a command sender is created
+ * for it. Messages that are rejected by the filter are ignored, and will not reach
+ * {@link PircBotXCommandManager#executeCommand(Object, String)}
+ *
+ * @since 1.9.0
+ */
+@FunctionalInterface
+@API(status = API.Status.STABLE, since = "1.9.0")
+public interface PircBotXMessagePreFilter {
+
+    /**
+     * Get a filter that accepts all messages
+     *
+     * @return Filter accepting all messages
+     */
+    static @NonNull PircBotXMessagePreFilter acceptAll() {
+        return (event, input) -> true;
+    }
+
+    /**
+     * Get a filter that only accepts messages that start with the name or alias of a registered root command.
+     * As unknown root commands are rejected by this filter, the command manager will not handle
+     * {@link cloud.commandframework.exceptions.NoSuchCommandException} for them
+     *
+     * @param commandManager Command manager whose root commands are accepted
+     * @return Filter accepting known root commands
+     */
+    static @NonNull PircBotXMessagePreFilter rootCommands(final @NonNull PircBotXCommandManager<?> commandManager) {
+        return (event, input) -> {
+            final int labelEnd = input.indexOf(' ');
+            final String label = labelEnd == -1 ? input : input.substring(0, labelEnd);
+            return commandManager.commandTree().getNamedNode(label) != null;
+        };
+    }
+
+    /**
+     * Test whether the message could be a command
+     *
+     * @param event Message event
+     * @param input Message content, without the command prefix
+     * @return {@code true} if the message should be handled as a command, {@code false} if it should be ignored
+     */
+    boolean test(@NonNull GenericMessageEvent event, @NonNull String input);
+}
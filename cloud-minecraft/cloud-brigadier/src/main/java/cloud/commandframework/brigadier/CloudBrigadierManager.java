@@ -66,19 +66,18 @@ import com.mojang.brigadier.tree.CommandNode;
 import com.mojang.brigadier.tree.LiteralCommandNode;
 import io.leangen.geantyref.GenericTypeReflector;
 import io.leangen.geantyref.TypeToken;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -96,6 +95,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 public final class CloudBrigadierManager<C, S> {
 
     private static final SuggestionProvider<?> DELEGATE_TO_CLOUD = (c, b) -> b.buildFuture();
+    private static final @Nullable MethodHandle GET_NODES = findGetNodes();
 
     private final Map<Class<?>, BrigadierMapping<C, ?, S>> mappers;
     private final Map<@NonNull Class<?>, @NonNull Supplier<@Nullable ArgumentType<?>>> defaultArgumentTypeSuppliers;
@@ -622,31 +622,25 @@ public final class CloudBrigadierManager<C, S> {
                     cloudSender,
                     this.commandManager
             );
-            command = command.substring(getNodes(senderContext.getLastChild()).get(0).getSecond().getStart());
+            command = command.substring(getFirstNodeStart(senderContext.getLastChild()));
         }
 
         /* Remove namespace */
-        final String leading = command.split(" ")[0];
-        if (leading.contains(":")) {
-            command = command.substring(leading.split(":")[0].length() + 1);
+        final int namespaceEnd = command.indexOf(':');
+        if (namespaceEnd != -1) {
+            final int leadingEnd = command.indexOf(' ');
+            if (leadingEnd == -1 || namespaceEnd < leadingEnd) {
+                command = command.substring(namespaceEnd + 1);
+            }
         }
 
-        final List<String> suggestionsUnfiltered = this.commandManager.suggest(
-                commandContext.getSender(),
-                command
-        );
-
-        /* Filter suggestions that are literal arguments to avoid duplicates, except for root arguments */
-        final List<String> suggestions = new ArrayList<>(suggestionsUnfiltered);
-        if (parentNode != null) {
-            final Set<String> siblingLiterals = parentNode.getChildren().stream()
-                    .map(CommandTree.Node::getValue)
-                    .flatMap(arg -> (arg instanceof StaticArgument)
-                            ? ((StaticArgument<C>) arg).getAliases().stream() : Stream.empty())
-                    .collect(Collectors.toSet());
-
-            suggestions.removeIf(siblingLiterals::contains);
-        }
+        /*
+         * Brigadier has already matched the literals leading up to the parent node, so the suggestions are
+         * resumed from there rather than from the root of the command tree
+         */
+        final List<String> suggestions = parentNode == null
+                ? this.commandManager.suggest(commandContext.getSender(), command)
+                : this.commandManager.suggest(commandContext.getSender(), command, parentNode);
 
         SuggestionsBuilder suggestionsBuilder = builder;
 
@@ -656,6 +650,10 @@ public final class CloudBrigadierManager<C, S> {
         }
 
         for (final String suggestion : suggestions) {
+            /* Filter suggestions that are literal arguments to avoid duplicates, except for root arguments */
+            if (parentNode != null && parentNode.getLiteralChild(suggestion) != null) {
+                continue;
+            }
             String tooltip = argument.getName();
             if (!(argument instanceof StaticArgument)) {
                 if (argument.isRequired()) {
@@ -671,30 +669,46 @@ public final class CloudBrigadierManager<C, S> {
     }
 
     /**
-     * Return type changed at some point, but information is essentially the same. This code works for both versions of the
-     * method.
+     * Get the start of the range of the first node parsed by Brigadier
      *
      * @param commandContext command context
      * @param <S>            source type
-     * @return parsed nodes
+     * @return start of the first parsed node
      */
-    private static <S> List<Pair<CommandNode<S>, StringRange>> getNodes(
+    private static <S> int getFirstNodeStart(
             final com.mojang.brigadier.context.CommandContext<S> commandContext
     ) {
+        if (GET_NODES == null) {
+            throw new IllegalStateException("Could not find CommandContext#getNodes");
+        }
+        final Object nodes;
         try {
-            final Method getNodesMethod = commandContext.getClass().getDeclaredMethod("getNodes");
-            final Object nodes = getNodesMethod.invoke(commandContext);
-            if (nodes instanceof List) {
-                return ParsedCommandNodeHandler.toPairList((List) nodes);
-            } else if (nodes instanceof Map) {
-                return ((Map<CommandNode<S>, StringRange>) nodes).entrySet().stream()
-                        .map(entry -> Pair.of(entry.getKey(), entry.getValue()))
-                        .collect(Collectors.toList());
-            } else {
-                throw new IllegalStateException();
-            }
+            nodes = GET_NODES.invokeExact(commandContext);
+        } catch (final Throwable throwable) {
+            throw new RuntimeException(throwable);
+        }
+        if (nodes instanceof List) {
+            return ParsedCommandNodeHandler.getFirstNodeStart((List<?>) nodes);
+        } else if (nodes instanceof Map) {
+            return ((Map<CommandNode<S>, StringRange>) nodes).values().iterator().next().getStart();
+        } else {
+            throw new IllegalStateException();
+        }
+    }
+
+    /**
+     * Return type of {@code CommandContext#getNodes} changed at some point, but information is essentially the same. The
+     * handle returned here works for both versions of the method.
+     *
+     * @return handle taking a command context and returning the parsed nodes, or {@code null} if the method does not exist
+     */
+    private static @Nullable MethodHandle findGetNodes() {
+        try {
+            final Method getNodesMethod = com.mojang.brigadier.context.CommandContext.class.getDeclaredMethod("getNodes");
+            return MethodHandles.publicLookup().unreflect(getNodesMethod)
+                    .asType(MethodType.methodType(Object.class, com.mojang.brigadier.context.CommandContext.class));
         } catch (final ReflectiveOperationException ex) {
-            throw new RuntimeException(ex);
+            return null;
         }
     }
 
@@ -703,10 +717,8 @@ public final class CloudBrigadierManager<C, S> {
         private ParsedCommandNodeHandler() {
         }
 
-        private static <S> List<Pair<CommandNode<S>, StringRange>> toPairList(final List<?> nodes) {
-            return ((List<ParsedCommandNode<S>>) nodes).stream()
-                    .map(n -> Pair.of(n.getNode(), n.getRange()))
-                    .collect(Collectors.toList());
+        private static <S> int getFirstNodeStart(final List<?> nodes) {
+            return ((List<ParsedCommandNode<S>>) nodes).get(0).getRange().getStart();
         }
 
     }
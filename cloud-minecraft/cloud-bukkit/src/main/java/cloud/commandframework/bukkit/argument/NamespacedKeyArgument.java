@@ -285,6 +285,11 @@ public final class NamespacedKeyArgument<C> extends CommandArgument<C, Namespace
             }
             return ret;
         }
+
+        @Override
+        public boolean isContextFree() {
+            return true;
+        }
     }
 
 
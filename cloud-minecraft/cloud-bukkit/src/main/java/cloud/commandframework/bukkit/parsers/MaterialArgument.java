@@ -176,6 +176,11 @@ public class MaterialArgument<C> extends CommandArgument<C, Material> {
             }
             return completions;
         }
+
+        @Override
+        public boolean isContextFree() {
+            return true;
+        }
     }
 
 
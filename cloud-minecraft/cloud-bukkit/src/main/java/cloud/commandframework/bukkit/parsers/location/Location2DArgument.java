@@ -168,8 +168,8 @@ public final class Location2DArgument<C> extends CommandArgument<C, Location2D>
         ) {
             if (inputQueue.size() < 2) {
                 final StringBuilder input = new StringBuilder();
-                for (int i = 0; i < inputQueue.size(); i++) {
-                    input.append(((LinkedList<String>) inputQueue).get(i));
+                for (final String token : inputQueue) {
+                    input.append(token);
                 }
                 return ArgumentParseResult.failure(
                         new LocationParseException(
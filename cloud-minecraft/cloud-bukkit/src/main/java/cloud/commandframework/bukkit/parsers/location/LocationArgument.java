@@ -172,18 +172,12 @@ public final class LocationArgument<C> extends CommandArgument<C, Location> {
                 final @NonNull Queue<@NonNull String> inputQueue
         ) {
             if (inputQueue.size() < 3) {
-                final StringBuilder input = new StringBuilder();
-                for (int i = 0; i < inputQueue.size(); i++) {
-                    input.append(((LinkedList<String>) inputQueue).get(i));
-                    if ((i + 1) < inputQueue.size()) {
-                        input.append(" ");
-                    }
-                }
+                final String input = String.join(" ", inputQueue);
                 return ArgumentParseResult.failure(
                         new LocationParseException(
                                 commandContext,
                                 LocationParseException.FailureReason.WRONG_FORMAT,
-                                input.toString()
+                                input
                         )
                 );
             }
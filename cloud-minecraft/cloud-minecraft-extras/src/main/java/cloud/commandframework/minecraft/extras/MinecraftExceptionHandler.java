@@ -26,18 +26,22 @@ package cloud.commandframework.minecraft.extras;
 import cloud.commandframework.CommandManager;
 import cloud.commandframework.exceptions.ArgumentParseException;
 import cloud.commandframework.exceptions.CommandExecutionException;
+import cloud.commandframework.exceptions.CommandParseException;
 import cloud.commandframework.exceptions.InvalidCommandSenderException;
 import cloud.commandframework.exceptions.InvalidSyntaxException;
 import cloud.commandframework.exceptions.NoPermissionException;
+import cloud.commandframework.exceptions.NoSuchCommandException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.identity.Identity;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
 import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -66,7 +70,8 @@ public final class MinecraftExceptionHandler<C> {
                                     NamedTextColor.GRAY
                             ),
                             NamedTextColor.WHITE
-                    ));
+                    ))
+                    .append(similarLiterals(e));
     /**
      * Default component builder for {@link InvalidCommandSenderException}
      */
@@ -125,6 +130,15 @@ public final class MinecraftExceptionHandler<C> {
                         .build();
             };
 
+    /**
+     * Default component builder for {@link NoSuchCommandException}
+     *
+     * @since 1.9.0
+     */
+    public static final Function<Exception, Component> DEFAULT_NO_SUCH_COMMAND_FUNCTION =
+            e -> Component.text("Unknown command.", NamedTextColor.RED)
+                    .append(similarLiterals(e));
+
     private final Map<ExceptionType, BiFunction<C, Exception, Component>> componentBuilders = new HashMap<>();
     private Function<Component, Component> decorator = Function.identity();
 
@@ -174,6 +188,17 @@ public final class MinecraftExceptionHandler<C> {
         return this.withHandler(ExceptionType.COMMAND_EXECUTION, DEFAULT_COMMAND_EXECUTION_FUNCTION);
     }
 
+    /**
+     * Use the default no such command handler. This handler is not included in {@link #withDefaultHandlers()},
+     * so that platforms keep their own unknown command message unless this is requested explicitly
+     *
+     * @return {@code this}
+     * @since 1.9.0
+     */
+    public @NonNull MinecraftExceptionHandler<C> withNoSuchCommandHandler() {
+        return this.withHandler(ExceptionType.NO_SUCH_COMMAND, DEFAULT_NO_SUCH_COMMAND_FUNCTION);
+    }
+
     /**
      * Use all of the default exception handlers
      *
@@ -292,6 +317,15 @@ public final class MinecraftExceptionHandler<C> {
                     )
             );
         }
+        if (this.componentBuilders.containsKey(ExceptionType.NO_SUCH_COMMAND)) {
+            manager.registerExceptionHandler(
+                    NoSuchCommandException.class,
+                    (c, e) -> audienceMapper.apply(c).sendMessage(
+                            Identity.nil(),
+                            this.decorator.apply(this.componentBuilders.get(ExceptionType.NO_SUCH_COMMAND).apply(c, e))
+                    )
+            );
+        }
     }
 
     private static Component getMessage(final Throwable throwable) {
@@ -299,6 +333,30 @@ public final class MinecraftExceptionHandler<C> {
         return msg == null ? NULL : msg;
     }
 
+    /**
+     * Create a component that lists the literals similar to the input that caused the exception, or an
+     * empty component if there are none
+     *
+     * @param exception Exception caused by the input
+     * @return Similar literals component
+     */
+    private static Component similarLiterals(final Exception exception) {
+        final List<String> literals = ((CommandParseException) exception).getSimilarLiterals();
+        if (literals.isEmpty()) {
+            return Component.empty();
+        }
+        final TextComponent.Builder builder = Component.text()
+                .append(Component.newline())
+                .append(Component.text("Did you mean: ", NamedTextColor.RED));
+        for (int i = 0; i < literals.size(); i++) {
+            if (i > 0) {
+                builder.append(Component.text(", ", NamedTextColor.RED));
+            }
+            builder.append(Component.text(literals.get(i), NamedTextColor.GRAY));
+        }
+        return builder.append(Component.text("?", NamedTextColor.RED)).build();
+    }
+
     /**
      * Exception types
      */
@@ -324,6 +382,12 @@ public final class MinecraftExceptionHandler<C> {
          *
          * @since 1.2.0
          */
-        COMMAND_EXECUTION
+        COMMAND_EXECUTION,
+        /**
+         * The input does not start with any known command ({@link NoSuchCommandException})
+         *
+         * @since 1.9.0
+         */
+        NO_SUCH_COMMAND
     }
 }
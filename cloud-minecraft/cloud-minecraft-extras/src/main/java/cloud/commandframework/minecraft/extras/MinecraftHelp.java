@@ -93,7 +93,7 @@ public final class MinecraftHelp<C> {
     private final String commandPrefix;
     private final Map<String, String> messageMap = new HashMap<>();
 
-    private Predicate<Command<C>> commandFilter = c -> true;
+    private CommandHelpHandler<C> commandHelpHandler;
     private BiFunction<C, String, String> stringMessageProvider = (sender, key) -> this.messageMap.get(key);
     private MessageProvider<C> messageProvider =
             (sender, key, args) -> text(this.stringMessageProvider.apply(sender, key));
@@ -138,6 +138,7 @@ public final class MinecraftHelp<C> {
         this.commandPrefix = commandPrefix;
         this.audienceProvider = audienceProvider;
         this.commandManager = commandManager;
+        this.commandHelpHandler = commandManager.createCommandHelpHandler();
 
         /* Default Messages */
         this.messageMap.put(MESSAGE_HELP_TITLE, "Help");
@@ -194,7 +195,7 @@ public final class MinecraftHelp<C> {
      * @since 1.4.0
      */
     public void commandFilter(final @NonNull Predicate<Command<C>> commandPredicate) {
-        this.commandFilter = commandPredicate;
+        this.commandHelpHandler = this.commandManager.createCommandHelpHandler(commandPredicate);
     }
 
     /**
@@ -326,7 +327,7 @@ public final class MinecraftHelp<C> {
                 recipient,
                 query,
                 page,
-                this.commandManager.createCommandHelpHandler(this.commandFilter).queryHelp(recipient, query)
+                this.commandHelpHandler.queryHelp(recipient, query)
         );
     }
 
@@ -26,13 +26,14 @@ package cloud.commandframework.services;
 import cloud.commandframework.services.annotations.Order;
 import cloud.commandframework.services.types.Service;
 import io.leangen.geantyref.TypeToken;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.function.Predicate;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Repository that contains implementations for a given service type
@@ -46,6 +47,8 @@ public final class ServiceRepository<Context, Response> {
     private final TypeToken<? extends Service<Context, Response>> serviceType;
     private final List<ServiceWrapper<? extends Service<Context, Response>>> implementations;
 
+    /* Implementations in the order in which they are invoked, rebuilt lazily after a registration */
+    private volatile ServiceWrapper<? extends Service<Context, Response>> @Nullable [] snapshot;
     private int registrationOrder = 0;
 
     /**
@@ -71,22 +74,36 @@ public final class ServiceRepository<Context, Response> {
     ) {
         synchronized (this.lock) {
             this.implementations.add(new ServiceWrapper<>(service, filters));
+            this.snapshot = null;
         }
     }
 
     /**
-     * Get a queue containing all implementations
+     * Get all implementations, sorted in the order in which they should be invoked. The snapshot is shared
+     * between all callers until the next implementation is registered, and must not be modified
      *
-     * @return Queue containing all implementations
+     * @return Sorted implementations
      */
-    @NonNull
-    LinkedList<ServiceWrapper<? extends Service<Context, Response>>> getQueue() {
+    @SuppressWarnings("unchecked")
+    ServiceWrapper<? extends Service<Context, Response>> @NonNull [] getSnapshot() {
+        ServiceWrapper<? extends Service<Context, Response>>[] snapshot = this.snapshot;
+        if (snapshot != null) {
+            return snapshot;
+        }
         synchronized (this.lock) {
-            return new LinkedList<>(this.implementations);
+            snapshot = this.snapshot;
+            if (snapshot == null) {
+                final List<ServiceWrapper<? extends Service<Context, Response>>> implementations =
+                        new ArrayList<>(this.implementations);
+                implementations.sort(null); // Sort using the built in comparator method
+                Collections.reverse(implementations);
+                snapshot = implementations.toArray(new ServiceRepository.ServiceWrapper[0]);
+                this.snapshot = snapshot;
+            }
+            return snapshot;
         }
     }
 
-
     /**
      * Used to store {@link Service} implementations together with their state
      *
@@ -108,7 +125,7 @@ public final class ServiceRepository<Context, Response> {
         ) {
             this.defaultImplementation = ServiceRepository.this.implementations.isEmpty();
             this.implementation = implementation;
-            this.filters = filters;
+            this.filters = Collections.unmodifiableCollection(filters);
             ExecutionOrder executionOrder = implementation.order();
             if (executionOrder == null) {
                 final Order order = implementation.getClass().getAnnotation(Order.class);
@@ -128,7 +145,7 @@ public final class ServiceRepository<Context, Response> {
 
         @NonNull
         Collection<Predicate<Context>> getFilters() {
-            return Collections.unmodifiableCollection(this.filters);
+            return this.filters;
         }
 
         boolean isDefaultImplementation() {
@@ -146,11 +163,14 @@ public final class ServiceRepository<Context, Response> {
 
         @Override
         public int compareTo(final @NonNull ServiceWrapper<T> other) {
-            return Comparator.<ServiceWrapper<T>>comparingInt(
-                            wrapper -> wrapper.isDefaultImplementation()
-                                    ? Integer.MIN_VALUE
-                                    : Integer.MAX_VALUE).thenComparingInt(wrapper -> wrapper.executionOrder.ordinal())
-                    .thenComparingInt(wrapper -> wrapper.registrationOrder).compare(this, other);
+            if (this.defaultImplementation != other.defaultImplementation) {
+                return this.defaultImplementation ? -1 : 1;
+            }
+            final int executionOrder = Integer.compare(this.executionOrder.ordinal(), other.executionOrder.ordinal());
+            if (executionOrder != 0) {
+                return executionOrder;
+            }
+            return Integer.compare(this.registrationOrder, other.registrationOrder);
         }
     }
 }
@@ -27,7 +27,6 @@ import cloud.commandframework.services.types.ConsumerService;
 import cloud.commandframework.services.types.Service;
 import cloud.commandframework.services.types.SideEffectService;
 import io.leangen.geantyref.TypeToken;
-import java.util.LinkedList;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -77,14 +76,12 @@ public final class ServiceSpigot<Context, Result> {
     @SuppressWarnings("unchecked")
     public @NonNull Result getResult()
             throws IllegalStateException, PipelineException {
-        final LinkedList<? extends ServiceRepository<@NonNull Context, @NonNull Result>
-                .ServiceWrapper<? extends Service<@NonNull Context, @NonNull Result>>>
-                queue = this.repository.getQueue();
-        queue.sort(null); // Sort using the built in comparator method
-        ServiceRepository<Context, Result>.ServiceWrapper<? extends Service<Context, Result>>
-                wrapper;
+        final ServiceRepository<@NonNull Context, @NonNull Result>
+                .ServiceWrapper<? extends Service<@NonNull Context, @NonNull Result>>[]
+                implementations = this.repository.getSnapshot();
         boolean consumerService = false;
-        while ((wrapper = queue.pollLast()) != null) {
+        for (final ServiceRepository<Context, Result>.ServiceWrapper<? extends Service<Context, Result>> wrapper
+                : implementations) {
             consumerService = wrapper.getImplementation() instanceof ConsumerService;
             if (!ServiceFilterHandler.INSTANCE.passes(wrapper, this.context)) {
                 continue;
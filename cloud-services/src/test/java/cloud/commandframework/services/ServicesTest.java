@@ -168,6 +168,30 @@ public class ServicesTest {
         );
     }
 
+    @Test
+    public void testRegistrationAfterPump() {
+        final ServicePipeline servicePipeline = ServicePipeline.builder().build()
+                .registerServiceType(
+                        TypeToken.get(MockService.class),
+                        new DefaultMockService()
+                );
+        Assertions.assertEquals(
+                32,
+                servicePipeline.pump(new MockService.MockContext("")).through(MockService.class)
+                        .getResult().getInteger()
+        );
+        servicePipeline.registerServiceImplementation(MockService.class, new MockOrderedLast(),
+                Collections.emptyList()
+        );
+        // The cached implementations must be invalidated by the registration
+        Assertions.assertEquals(
+                2,
+                servicePipeline.pump(new MockService.MockContext("")).through(MockService.class)
+                        .getResult().getInteger()
+        );
+        Assertions.assertEquals(2, servicePipeline.getImplementations(TypeToken.get(MockService.class)).size());
+    }
+
     @Test
     public void testRecognisedTypes() {
         final ServicePipeline servicePipeline = ServicePipeline.builder().build()
@@ -84,6 +84,9 @@ include(":cloud-services")
 include(":cloud-tasks")
 include(":cloud-annotations")
 
+// Benchmarks
+include(":cloud-benchmarks")
+
 // Kotlin Extensions
 setupKotlinModule("cloud-kotlin-extensions")
 setupKotlinModule("cloud-kotlin-coroutines")